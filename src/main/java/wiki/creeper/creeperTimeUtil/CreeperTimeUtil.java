@@ -7,11 +7,18 @@ import org.bukkit.plugin.java.JavaPlugin;
 import wiki.creeper.creeperTimeUtil.api.PlayerTimeAPI;
 import wiki.creeper.creeperTimeUtil.api.ServerClockAPI;
 import wiki.creeper.creeperTimeUtil.api.WorldTimeZoneAPI;
+import wiki.creeper.creeperTimeUtil.core.BoundaryWalker;
+import wiki.creeper.creeperTimeUtil.core.TableCalendar;
+import wiki.creeper.creeperTimeUtil.core.TickTimeSource;
 import wiki.creeper.creeperTimeUtil.core.TimeKernel;
+import wiki.creeper.creeperTimeUtil.core.TimeSource;
 import wiki.creeper.creeperTimeUtil.debug.TimeDebugger;
 import wiki.creeper.creeperTimeUtil.listeners.PlayerTimeListener;
 import wiki.creeper.creeperTimeUtil.manager.ActionBarManager;
 
+import java.time.DayOfWeek;
+import java.util.List;
+
 public final class CreeperTimeUtil extends JavaPlugin {
     
     private TimeKernel timeKernel;
@@ -22,17 +29,17 @@ public final class CreeperTimeUtil extends JavaPlugin {
         // Config 로드
         saveDefaultConfig();
         
-        // TimeKernel 초기화 - 설정 로드 전에 초기화
-        timeKernel = new TimeKernel(this);
+        // TimeKernel 초기화 - 설정 로드 전에 초기화 (시간 소스는 저장소 생성에 필요하므로 먼저 읽습니다)
+        timeKernel = new TimeKernel(this, createTimeSource());
         
         // 설정 로드 (TimeKernel이 필요한 TimeDebugger 사용)
         loadConfiguration();
         
-        // Config에서 시작 시간 설정 적용
-        applyStartTimeConfig();
-        
         timeKernel.start();
         
+        // Config에서 시작 시간 설정 적용 (저장된 시간을 불러온 뒤 덮어씀)
+        applyStartTimeConfig();
+        
         // 플레이어 시간 리스너 등록
         Bukkit.getPluginManager().registerEvents(new PlayerTimeListener(), this);
         
@@ -80,18 +87,104 @@ public final class CreeperTimeUtil extends JavaPlugin {
         // 시간 설정
         double defaultSpeed = getConfig().getDouble("time.default-speed", 1.0);
         if (defaultSpeed > 0) {
-            // 서버 시작 후 적용
+            // 서버 시작 후 적용 (서버 시작 때 비정상 종료 전의 속도를 이어받았으면 그 한 번만 그대로 둡니다)
             Bukkit.getScheduler().runTaskLater(this, () -> {
-                ServerClockAPI.setTimeSpeed(defaultSpeed);
+                if (!timeKernel.consumeClockStateRecovered()) {
+                    ServerClockAPI.setTimeSpeed(defaultSpeed);
+                }
             }, 20L);
         }
         
+        // 시간 건너뛰기 이벤트 처리 방식
+        String catchUpModeName = getConfig().getString("time.catch-up.mode", "FIRE_ALL");
+        long catchUpThreshold = getConfig().getLong("time.catch-up.threshold", 1440L);
+        try {
+            timeKernel.setCatchUpMode(BoundaryWalker.Coalesce.valueOf(catchUpModeName.toUpperCase()), catchUpThreshold);
+        } catch (IllegalArgumentException e) {
+            getLogger().warning("알 수 없는 catch-up 모드: " + catchUpModeName);
+        }
+        
+        // 시계 구동 방식
+        String driverName = getConfig().getString("time.driver.type", "BUKKIT");
+        double driverPeriodMillis = getConfig().getDouble("time.driver.period-ms", 5.0);
+        try {
+            timeKernel.setClockDriver(TimeKernel.ClockDriver.valueOf(driverName.toUpperCase()),
+                Math.max(1L, (long) (driverPeriodMillis * 1_000_000L)));
+        } catch (IllegalArgumentException e) {
+            getLogger().warning("알 수 없는 시계 드라이버: " + driverName);
+        }
+        
+        // 실시간 쿨타임 최대 개수
+        int maxCooldowns = getConfig().getInt("cooldown.max-entries", 0);
+        if (maxCooldowns >= 0) {
+            timeKernel.setMaxCooldowns(maxCooldowns);
+        } else {
+            getLogger().warning("cooldown.max-entries는 0 이상이어야 합니다: " + maxCooldowns);
+        }
+        
+        // 저장소
+        String storageName = getConfig().getString("data.storage.type", "FILE");
+        try {
+            timeKernel.setStorageType(TimeKernel.StorageType.valueOf(storageName.toUpperCase()),
+                getConfig().getString("data.storage.sqlite-file", "timedata.db"));
+        } catch (IllegalArgumentException e) {
+            getLogger().warning("알 수 없는 저장소: " + storageName);
+        }
+        
+        // 플레이어 플레이 시간 저장
+        timeKernel.setPlayTimeStorageEnabled(getConfig().getBoolean("data.save-player-time", true));
+        
+        // 변경 기록 저널
+        timeKernel.setJournalOptions(getConfig().getBoolean("data.journal.enabled", true),
+            Math.max(1L, getConfig().getLong("data.journal.commit-interval-ms", 100L)),
+            Math.max(1L, getConfig().getLong("data.journal.compact-size-mb", 16L)) * 1024L * 1024L);
+        
+        // 서버 달력
+        loadCalendar();
+        
         // 월드별 시간대 설정
         if (getConfig().getBoolean("worlds.timezone-enabled", true)) {
             loadWorldTimeZones();
         }
     }
     
+    private TimeSource createTimeSource() {
+        String name = getConfig().getString("cooldown.time-source", "MONOTONIC");
+        switch (name.toUpperCase()) {
+            case "TICK":
+                return new TickTimeSource();
+            case "MONOTONIC":
+                return TimeSource.MONOTONIC;
+            default:
+                getLogger().warning("알 수 없는 시간 소스: " + name);
+                return TimeSource.MONOTONIC;
+        }
+    }
+    
+    private void loadCalendar() {
+        ConfigurationSection calendarSection = getConfig().getConfigurationSection("calendar");
+        if (calendarSection == null) return;
+        
+        List<Integer> lengths = calendarSection.getIntegerList("month-lengths");
+        int[] monthLengths = new int[lengths.size()];
+        for (int i = 0; i < monthLengths.length; i++) {
+            monthLengths[i] = lengths.get(i);
+        }
+        
+        try {
+            DayOfWeek firstDayOfWeek = DayOfWeek.valueOf(calendarSection.getString("first-day-of-week", "MONDAY").toUpperCase());
+            DayOfWeek weekStart = DayOfWeek.valueOf(calendarSection.getString("week-start", "MONDAY").toUpperCase());
+            TableCalendar calendar = new TableCalendar(monthLengths, firstDayOfWeek, weekStart,
+                calendarSection.getInt("leap.every", 0),
+                calendarSection.getInt("leap.month", 1),
+                calendarSection.getInt("leap.days", 0));
+            timeKernel.setCalendar(calendar);
+            getLogger().info(String.format("서버 달력이 적용되었습니다. (%d개월, 주 시작: %s)", monthLengths.length, weekStart));
+        } catch (IllegalArgumentException e) {
+            getLogger().warning("잘못된 달력 설정으로 기본 달력을 사용합니다: " + e.getMessage());
+        }
+    }
+    
     private void loadWorldTimeZones() {
         ConfigurationSection worldsSection = getConfig().getConfigurationSection("worlds");
         if (worldsSection == null) return;
@@ -151,6 +244,7 @@ public final class CreeperTimeUtil extends JavaPlugin {
         Bukkit.getScheduler().runTaskTimerAsynchronously(this, () -> {
             if (timeKernel != null) {
                 timeKernel.saveData();
+                PlayerTimeAPI.flushPlayerData();
                 TimeDebugger.log("자동 저장이 완료되었습니다.");
             }
         }, interval * 60L * 20L, interval * 60L * 20L);
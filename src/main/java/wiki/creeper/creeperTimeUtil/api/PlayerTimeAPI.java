@@ -1,11 +1,21 @@
 package wiki.creeper.creeperTimeUtil.api;
 
 import org.bukkit.entity.Player;
+import wiki.creeper.creeperTimeUtil.core.CooldownType;
 import wiki.creeper.creeperTimeUtil.core.TimeKernel;
+import wiki.creeper.creeperTimeUtil.core.TimeSource;
 
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * 플레이어별 시간 관련 데이터를 관리하는 API
@@ -13,20 +23,55 @@ import java.util.concurrent.ConcurrentHashMap;
 public class PlayerTimeAPI {
     
     private static final Map<UUID, Long> playerJoinTime = new ConcurrentHashMap<>();
-    private static final Map<UUID, Long> playerTotalPlayTime = new ConcurrentHashMap<>();
+    // 접속 중인 플레이어만 보관합니다. 총 플레이 시간 = playerTotalPlayTime + (지금 - playerFlushedTime)
+    private static final Map<UUID, Long> playerTotalPlayTime = new ConcurrentHashMap<>(); // 마지막으로 저장소에 보낸 시점까지의 총 플레이 시간(ms)
+    private static final Map<UUID, Long> playerFlushedTime = new ConcurrentHashMap<>(); // 저장소에 보낸 마지막 시점
     private static final Map<UUID, Long> playerJoinGameMinutes = new ConcurrentHashMap<>();
+    // 저장된 총 플레이 시간을 아직 불러오는 중인 세션 번호 - 불러오기가 끝났을 때 같은 세션일 때만 더합니다
+    private static final Map<UUID, Long> playerPendingLoad = new ConcurrentHashMap<>();
+    private static final AtomicLong sessionCounter = new AtomicLong();
+    
+    // 접속/세션 시간은 벽시계가 아니라 커널의 시간 소스로 잽니다 (playerJoinTime 값은 이 기준의 ms)
+    // 접속할 때 커널에서 받아 두므로, 커널이 먼저 내려가도 세션의 시작과 끝을 같은 기준으로 잽니다
+    private static volatile TimeSource sessionTimeSource = TimeSource.MONOTONIC;
+    
+    private static long nowMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(sessionTimeSource.nanoTime());
+    }
     
     /**
      * 플레이어가 서버에 접속했을 때 호출
+     * 저장된 총 플레이 시간은 비동기로 불러오며, 불러오기 전까지는 이번 세션 시간만 집계됩니다.
      * @param player 플레이어
      */
     public static void onPlayerJoin(Player player) {
+        TimeKernel kernel = TimeKernel.getInstance();
+        if (kernel == null) {
+            throw new IllegalStateException("TimeKernel이 초기화되지 않았습니다");
+        }
+        // 커널은 플러그인이 켜질 때마다 새로 만들어지며, 그 전에 모든 세션이 저장되고 비워집니다
+        sessionTimeSource = kernel.getTimeSource();
         UUID uuid = player.getUniqueId();
-        playerJoinTime.put(uuid, System.currentTimeMillis());
+        long now = nowMillis();
+        playerJoinTime.put(uuid, now);
+        playerFlushedTime.put(uuid, now);
         playerJoinGameMinutes.put(uuid, ServerClockAPI.getTotalMinutes());
         
-        // 기존 플레이 시간이 없으면 0으로 초기화
-        playerTotalPlayTime.putIfAbsent(uuid, 0L);
+        // 저장된 시간을 불러오기 전까지는 이번 세션 시간만 집계합니다
+        playerTotalPlayTime.put(uuid, 0L);
+        long session = sessionCounter.incrementAndGet();
+        playerPendingLoad.put(uuid, session);
+        
+        kernel.onPlayerJoin(uuid);
+        // 불러오기가 끝나기 전에 나갔거나 다시 접속했으면 버립니다 (퇴장 시 늘어난 시간은 따로 더해 저장되고,
+        // 새 세션은 그 뒤에 순서대로 불러오므로 이미 반영된 값을 받습니다)
+        kernel.loadPlayTime(uuid).thenAccept(stored -> playerPendingLoad.computeIfPresent(uuid, (key, pending) -> {
+            if (pending != session) {
+                return pending;
+            }
+            playerTotalPlayTime.merge(uuid, stored, Long::sum);
+            return null;
+        }));
     }
     
     /**
@@ -35,12 +80,20 @@ public class PlayerTimeAPI {
      */
     public static void onPlayerQuit(Player player) {
         UUID uuid = player.getUniqueId();
-        Long joinTime = playerJoinTime.remove(uuid);
+        playerPendingLoad.remove(uuid);
+        Long flushedTime = playerFlushedTime.remove(uuid);
+        playerJoinTime.remove(uuid);
         playerJoinGameMinutes.remove(uuid);
+        playerTotalPlayTime.remove(uuid);
         
-        if (joinTime != null) {
-            long sessionTime = System.currentTimeMillis() - joinTime;
-            playerTotalPlayTime.merge(uuid, sessionTime, Long::sum);
+        // 남은 쿨타임이 없으면 바로 정리하고, 있으면 재접속해도 유지되도록 만료될 때까지 보관합니다
+        TimeKernel kernel = TimeKernel.getInstance();
+        if (kernel != null) {
+            kernel.onPlayerQuit(uuid);
+            // 마지막 저장 이후 늘어난 시간을 비동기로 더해 씁니다
+            if (flushedTime != null) {
+                kernel.addPlayTimes(Collections.singletonMap(uuid, Math.max(0, nowMillis() - flushedTime)), true);
+            }
         }
     }
     
@@ -54,7 +107,7 @@ public class PlayerTimeAPI {
         if (joinTime == null) {
             return 0;
         }
-        return (System.currentTimeMillis() - joinTime) / 1000L;
+        return (nowMillis() - joinTime) / 1000L;
     }
     
     /**
@@ -64,15 +117,15 @@ public class PlayerTimeAPI {
      */
     public static long getTotalPlayTime(Player player) {
         UUID uuid = player.getUniqueId();
-        long totalTime = playerTotalPlayTime.getOrDefault(uuid, 0L) / 1000L;
+        long totalTime = playerTotalPlayTime.getOrDefault(uuid, 0L);
         
-        // 현재 세션 시간 추가
-        Long joinTime = playerJoinTime.get(uuid);
-        if (joinTime != null) {
-            totalTime += (System.currentTimeMillis() - joinTime) / 1000L;
+        // 아직 저장소에 보내지 않은 현재 세션 시간 추가
+        Long flushedTime = playerFlushedTime.get(uuid);
+        if (flushedTime != null) {
+            totalTime += nowMillis() - flushedTime;
         }
         
-        return totalTime;
+        return totalTime / 1000L;
     }
     
     /**
@@ -177,13 +230,53 @@ public class PlayerTimeAPI {
     
     /**
      * 플레이어별 쿨타임을 설정합니다.
+     * 자주 호출되는 경로라면 CooldownType을 상수로 받아 두고 CooldownType 버전을 사용하세요.
      * @param player 플레이어
      * @param cooldownType 쿨타임 타입
      * @param durationInSeconds 지속 시간(초)
      */
     public static void setPlayerCooldown(Player player, String cooldownType, long durationInSeconds) {
-        String uniqueId = cooldownType + "_" + player.getUniqueId();
-        ServerClockAPI.setCooldown(uniqueId, durationInSeconds);
+        setPlayerCooldown(player.getUniqueId(), CooldownType.of(cooldownType), durationInSeconds);
+    }
+    
+    /**
+     * 플레이어별 쿨타임을 설정합니다.
+     * @param player 플레이어
+     * @param cooldownType 쿨타임 종류
+     * @param durationInSeconds 지속 시간(초)
+     */
+    public static void setPlayerCooldown(Player player, CooldownType cooldownType, long durationInSeconds) {
+        setPlayerCooldown(player.getUniqueId(), cooldownType, durationInSeconds);
+    }
+    
+    /**
+     * 플레이어별 쿨타임을 설정합니다. 접속 중이 아닌 플레이어에게도 사용할 수 있습니다.
+     * @param uuid 플레이어 UUID
+     * @param cooldownType 쿨타임 종류
+     * @param durationInSeconds 지속 시간(초)
+     */
+    public static void setPlayerCooldown(UUID uuid, CooldownType cooldownType, long durationInSeconds) {
+        TimeKernel kernel = TimeKernel.getInstance();
+        if (kernel == null) {
+            throw new IllegalStateException("TimeKernel이 초기화되지 않았습니다");
+        }
+        kernel.setPlayerCooldown(uuid, cooldownType, durationInSeconds);
+    }
+    
+    /**
+     * 플레이어별 쿨타임을 설정하고, 만료되면 메인 스레드에서 콜백을 실행합니다.
+     * 만료 전에 제거되거나 다시 설정되면 콜백은 실행되지 않습니다.
+     * @param player 플레이어
+     * @param cooldownType 쿨타임 종류
+     * @param durationInSeconds 지속 시간(초)
+     * @param onExpire 만료 시 실행할 콜백 (예: 능력 아이템 다시 활성화)
+     */
+    public static void setPlayerCooldown(Player player, CooldownType cooldownType, long durationInSeconds, Runnable onExpire) {
+        TimeKernel kernel = TimeKernel.getInstance();
+        if (kernel == null) {
+            throw new IllegalStateException("TimeKernel이 초기화되지 않았습니다");
+        }
+        kernel.setPlayerCooldown(player.getUniqueId(), cooldownType, durationInSeconds, onExpire);
     }
     
     /**
@@ -193,8 +286,31 @@ public class PlayerTimeAPI {
      * @return 쿨타임이 끝났으면 true
      */
     public static boolean isPlayerCooldownOver(Player player, String cooldownType) {
-        String uniqueId = cooldownType + "_" + player.getUniqueId();
-        return ServerClockAPI.isCooldownOver(uniqueId);
+        return isPlayerCooldownOver(player.getUniqueId(), CooldownType.of(cooldownType));
+    }
+    
+    /**
+     * 플레이어의 쿨타임이 끝났는지 확인합니다. 객체를 만들지 않습니다.
+     * @param player 플레이어
+     * @param cooldownType 쿨타임 종류
+     * @return 쿨타임이 끝났으면 true
+     */
+    public static boolean isPlayerCooldownOver(Player player, CooldownType cooldownType) {
+        return isPlayerCooldownOver(player.getUniqueId(), cooldownType);
+    }
+    
+    /**
+     * 플레이어의 쿨타임이 끝났는지 확인합니다. 객체를 만들지 않습니다.
+     * @param uuid 플레이어 UUID
+     * @param cooldownType 쿨타임 종류
+     * @return 쿨타임이 끝났으면 true
+     */
+    public static boolean isPlayerCooldownOver(UUID uuid, CooldownType cooldownType) {
+        TimeKernel kernel = TimeKernel.getInstance();
+        if (kernel == null) {
+            throw new IllegalStateException("TimeKernel이 초기화되지 않았습니다");
+        }
+        return kernel.isPlayerCooldownOver(uuid, cooldownType);
     }
     
     /**
@@ -204,8 +320,111 @@ public class PlayerTimeAPI {
      * @return 남은 시간(초)
      */
     public static long getPlayerRemainingCooldown(Player player, String cooldownType) {
-        String uniqueId = cooldownType + "_" + player.getUniqueId();
-        return ServerClockAPI.getRemainingCooldownSeconds(uniqueId);
+        return getPlayerRemainingCooldown(player.getUniqueId(), CooldownType.of(cooldownType));
+    }
+    
+    /**
+     * 플레이어의 남은 쿨타임을 반환합니다.
+     * @param player 플레이어
+     * @param cooldownType 쿨타임 종류
+     * @return 남은 시간(초)
+     */
+    public static long getPlayerRemainingCooldown(Player player, CooldownType cooldownType) {
+        return getPlayerRemainingCooldown(player.getUniqueId(), cooldownType);
+    }
+    
+    /**
+     * 플레이어의 남은 쿨타임을 반환합니다.
+     * @param uuid 플레이어 UUID
+     * @param cooldownType 쿨타임 종류
+     * @return 남은 시간(초)
+     */
+    public static long getPlayerRemainingCooldown(UUID uuid, CooldownType cooldownType) {
+        TimeKernel kernel = TimeKernel.getInstance();
+        if (kernel == null) {
+            throw new IllegalStateException("TimeKernel이 초기화되지 않았습니다");
+        }
+        return kernel.getRemainingPlayerCooldownSeconds(uuid, cooldownType);
+    }
+    
+    /**
+     * 플레이어의 특정 쿨타임을 제거합니다.
+     * @param player 플레이어
+     * @param cooldownType 쿨타임 종류
+     */
+    public static void removePlayerCooldown(Player player, CooldownType cooldownType) {
+        TimeKernel kernel = TimeKernel.getInstance();
+        if (kernel == null) {
+            throw new IllegalStateException("TimeKernel이 초기화되지 않았습니다");
+        }
+        kernel.removePlayerCooldown(player.getUniqueId(), cooldownType);
+    }
+    
+    /**
+     * 여러 플레이어에게 같은 쿨타임을 한 번에 설정합니다. (라운드 시작 등)
+     * 모든 플레이어가 같은 시점에 만료됩니다.
+     * @param players 플레이어 목록
+     * @param cooldownType 쿨타임 종류
+     * @param durationInSeconds 지속 시간(초)
+     */
+    public static void setPlayerCooldowns(Collection<? extends Player> players, CooldownType cooldownType, long durationInSeconds) {
+        TimeKernel kernel = TimeKernel.getInstance();
+        if (kernel == null) {
+            throw new IllegalStateException("TimeKernel이 초기화되지 않았습니다");
+        }
+        kernel.setPlayerCooldowns(players, Player::getUniqueId, cooldownType, durationInSeconds);
+    }
+    
+    /**
+     * 여러 플레이어의 쿨타임 종료 여부를 한 시점 기준으로 확인합니다.
+     * @param players 플레이어 목록
+     * @param cooldownType 쿨타임 종류
+     * @return i번째 플레이어의 쿨타임이 끝났으면 i번째 비트가 켜진 BitSet
+     */
+    public static BitSet getPlayerCooldownsOver(List<? extends Player> players, CooldownType cooldownType) {
+        TimeKernel kernel = TimeKernel.getInstance();
+        if (kernel == null) {
+            throw new IllegalStateException("TimeKernel이 초기화되지 않았습니다");
+        }
+        return kernel.getPlayerCooldownsOver(players, Player::getUniqueId, cooldownType);
+    }
+    
+    /**
+     * 모든 플레이어에게서 한 종류의 쿨타임을 제거합니다. (라운드 종료 등)
+     * @param cooldownType 쿨타임 종류
+     * @return 제거된 진행 중 쿨타임 수
+     */
+    public static int clearCooldownType(CooldownType cooldownType) {
+        TimeKernel kernel = TimeKernel.getInstance();
+        if (kernel == null) {
+            throw new IllegalStateException("TimeKernel이 초기화되지 않았습니다");
+        }
+        return kernel.clearCooldownType(cooldownType);
+    }
+    
+    /**
+     * 플레이어의 쿨타임을 모두 제거합니다. (퇴장 시 초기화 등)
+     * @param uuid 플레이어 UUID
+     */
+    public static void clearPlayerCooldowns(UUID uuid) {
+        TimeKernel kernel = TimeKernel.getInstance();
+        if (kernel == null) {
+            throw new IllegalStateException("TimeKernel이 초기화되지 않았습니다");
+        }
+        kernel.clearPlayerCooldowns(uuid);
+    }
+    
+    /**
+     * 플레이어의 진행 중인 쿨타임 목록을 반환합니다.
+     * @param player 플레이어
+     * @return 쿨타임 종류별 남은 시간(초)
+     */
+    public static Map<CooldownType, Long> getActivePlayerCooldowns(Player player) {
+        TimeKernel kernel = TimeKernel.getInstance();
+        if (kernel == null) {
+            throw new IllegalStateException("TimeKernel이 초기화되지 않았습니다");
+        }
+        return kernel.getActivePlayerCooldowns(player.getUniqueId());
     }
     
     /**
@@ -213,30 +432,86 @@ public class PlayerTimeAPI {
      * 서버 종료 시 호출되어야 합니다.
      */
     public static void saveAllPlayerData() {
-        // 현재 온라인인 모든 플레이어의 세션 시간을 총 플레이 시간에 추가
-        for (Map.Entry<UUID, Long> entry : playerJoinTime.entrySet()) {
-            UUID uuid = entry.getKey();
-            long joinTime = entry.getValue();
-            long sessionTime = System.currentTimeMillis() - joinTime;
-            playerTotalPlayTime.merge(uuid, sessionTime, Long::sum);
+        // 현재 온라인인 모든 플레이어의 세션 시간을 총 플레이 시간에 추가하고 세션을 끝냅니다
+        TimeKernel kernel = TimeKernel.getInstance();
+        Map<UUID, Long> deltas = collectUnsavedPlayTime();
+        if (kernel != null) {
+            kernel.addPlayTimes(deltas, true);
         }
         playerJoinTime.clear();
+        playerFlushedTime.clear();
+        playerPendingLoad.clear();
+    }
+    
+    /**
+     * 접속 중인 플레이어의 늘어난 플레이 시간을 비동기로 저장합니다. 세션은 그대로 이어집니다. (자동 저장)
+     */
+    public static void flushPlayerData() {
+        TimeKernel kernel = TimeKernel.getInstance();
+        if (kernel == null) {
+            throw new IllegalStateException("TimeKernel이 초기화되지 않았습니다");
+        }
+        kernel.addPlayTimes(collectUnsavedPlayTime(), false);
+    }
+    
+    // 마지막 저장 이후 늘어난 시간을 총 플레이 시간에 접어 넣고, 플레이어별 증가분을 돌려줍니다
+    private static Map<UUID, Long> collectUnsavedPlayTime() {
+        Map<UUID, Long> deltas = new HashMap<>();
+        long now = nowMillis();
+        for (UUID uuid : playerFlushedTime.keySet()) {
+            playerFlushedTime.computeIfPresent(uuid, (key, flushedTime) -> {
+                long delta = now - flushedTime;
+                if (delta <= 0) {
+                    return flushedTime;
+                }
+                deltas.put(uuid, delta);
+                playerTotalPlayTime.merge(uuid, delta, Long::sum);
+                return now;
+            });
+        }
+        return deltas;
     }
     
     /**
-     * 플레이어의 총 플레이 시간 데이터를 가져옵니다.
-     * @return 플레이어별 총 플레이 시간 맵
+     * 접속 중인 플레이어의 총 플레이 시간 데이터를 가져옵니다. 접속하지 않은 플레이어는 들어 있지 않습니다.
+     * 접속하지 않은 플레이어의 플레이 시간은 저장소에만 있으므로 {@link #loadStoredPlayTime(UUID)}로 불러오세요.
+     * 방금 접속해 저장된 시간을 아직 불러오는 중인 플레이어는 이번 세션 시간만 들어 있습니다.
+     * @return 접속 중인 플레이어별 총 플레이 시간 맵 (마지막 저장 시점 기준, ms)
      */
     public static Map<UUID, Long> getAllPlayerPlayTime() {
         return new ConcurrentHashMap<>(playerTotalPlayTime);
     }
     
     /**
-     * 플레이어의 총 플레이 시간 데이터를 설정합니다.
-     * @param playTimeData 플레이어별 총 플레이 시간 맵
+     * 저장된 총 플레이 시간을 비동기로 불러옵니다. 접속하지 않은 플레이어에게도 쓸 수 있습니다.
+     * 접속 중인 플레이어는 아직 저장하지 않은 시간이 빠져 있으므로 {@link #getTotalPlayTime(Player)}를 쓰세요.
+     * @param uuid 플레이어 UUID
+     * @return 저장된 총 플레이 시간(초) - 기록이 없거나 플레이 시간 저장이 꺼져 있으면 0
+     */
+    public static CompletableFuture<Long> loadStoredPlayTime(UUID uuid) {
+        TimeKernel kernel = TimeKernel.getInstance();
+        if (kernel == null) {
+            throw new IllegalStateException("TimeKernel이 초기화되지 않았습니다");
+        }
+        return kernel.loadPlayTime(uuid).thenApply(millis -> millis / 1000L);
+    }
+    
+    /**
+     * 주어진 플레이어들의 총 플레이 시간을 덮어쓰고 저장소에도 비동기로 씁니다.
+     * @param playTimeData 플레이어별 총 플레이 시간 맵 (ms)
      */
     public static void setAllPlayerPlayTime(Map<UUID, Long> playTimeData) {
-        playerTotalPlayTime.clear();
-        playerTotalPlayTime.putAll(playTimeData);
+        long now = nowMillis();
+        playTimeData.forEach((uuid, total) -> playerFlushedTime.computeIfPresent(uuid, (key, flushedTime) -> {
+            // 덮어쓴 값이 기준이므로 아직 불러오는 중인 저장값은 더하지 않습니다
+            playerPendingLoad.remove(uuid);
+            playerTotalPlayTime.put(uuid, total);
+            return now;
+        }));
+        
+        TimeKernel kernel = TimeKernel.getInstance();
+        if (kernel != null) {
+            kernel.setPlayTimes(playTimeData);
+        }
     }
 }
\ No newline at end of file
@@ -1,6 +1,18 @@
 package wiki.creeper.creeperTimeUtil.api;
 
+import org.bukkit.World;
+import wiki.creeper.creeperTimeUtil.core.ClockSnapshot;
+import wiki.creeper.creeperTimeUtil.core.CooldownStats;
+import wiki.creeper.creeperTimeUtil.core.GameCalendar;
+import wiki.creeper.creeperTimeUtil.core.GameTask;
 import wiki.creeper.creeperTimeUtil.core.TimeKernel;
+import wiki.creeper.creeperTimeUtil.core.TimeListener;
+import wiki.creeper.creeperTimeUtil.core.TimeSubscription;
+import wiki.creeper.creeperTimeUtil.events.ServerTimeOfDayEvent;
+
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.List;
 
 /**
  * 서버의 중앙 시간을 관리하는 API
@@ -92,6 +104,32 @@ public class ServerClockAPI {
         return kernel.getYear();
     }
     
+    /**
+     * 현재 서버 시간의 불변 스냅샷을 반환합니다.
+     * 일차/시/분/주/월/년도를 한 시점 기준으로 일관되게 읽어야 할 때 사용합니다.
+     * @return 현재 시간 스냅샷
+     */
+    public static ClockSnapshot getSnapshot() {
+        TimeKernel kernel = TimeKernel.getInstance();
+        if (kernel == null) {
+            throw new IllegalStateException("TimeKernel이 초기화되지 않았습니다");
+        }
+        return kernel.getSnapshot();
+    }
+    
+    /**
+     * 서버에서 사용 중인 달력을 반환합니다.
+     * 일차를 년/월/요일로 바꾸거나 특정 월의 일수를 구할 때 사용합니다.
+     * @return 서버 달력
+     */
+    public static GameCalendar getCalendar() {
+        TimeKernel kernel = TimeKernel.getInstance();
+        if (kernel == null) {
+            throw new IllegalStateException("TimeKernel이 초기화되지 않았습니다");
+        }
+        return kernel.getCalendar();
+    }
+    
     /**
      * 서버 시작부터 현재까지 누적된 총 시간(분)을 반환합니다.
      * 모든 쿨타임 및 기간 계산의 절대적인 기준점이 됩니다.
@@ -105,6 +143,160 @@ public class ServerClockAPI {
         return kernel.getTotalMinutes();
     }
     
+    // ===== 게임 시간 기반 작업 예약 =====
+    
+    /**
+     * 지정한 게임 시점에 작업을 한 번 실행하도록 예약합니다.
+     * 작업은 메인 스레드에서 해당 분의 시간 이벤트가 발생한 뒤 실행됩니다.
+     * setTime으로 그 시점을 건너뛰면 건너뛴 직후 실행되고, 시간이 일시정지되면 함께 멈춥니다.
+     * @param totalMinutes 실행 시점 (서버 누적 시간(분) 기준)
+     * @param task 실행할 작업
+     * @return 취소 가능한 작업 핸들
+     */
+    public static GameTask scheduleAt(long totalMinutes, Runnable task) {
+        TimeKernel kernel = TimeKernel.getInstance();
+        if (kernel == null) {
+            throw new IllegalStateException("TimeKernel이 초기화되지 않았습니다");
+        }
+        return kernel.scheduleAt(totalMinutes, task);
+    }
+    
+    /**
+     * 지정한 일차/시/분에 작업을 한 번 실행하도록 예약합니다.
+     * @param day 일차 (1부터 시작)
+     * @param hour 시간 (0-23)
+     * @param minute 분 (0-59)
+     * @param task 실행할 작업
+     * @return 취소 가능한 작업 핸들
+     */
+    public static GameTask scheduleAt(int day, int hour, int minute, Runnable task) {
+        return scheduleAt(((day - 1) * 1440L) + (hour * 60L) + minute, task);
+    }
+    
+    /**
+     * 작업을 게임 시간 기준으로 반복 실행하도록 예약합니다.
+     * setTime으로 여러 주기를 건너뛰면 한 번만 실행한 뒤 다음 주기부터 이어갑니다.
+     * @param firstRunMinutes 첫 실행 시점 (서버 누적 시간(분) 기준)
+     * @param periodMinutes 반복 주기(게임 시간 분)
+     * @param task 실행할 작업
+     * @return 취소 가능한 작업 핸들
+     */
+    public static GameTask scheduleEvery(long firstRunMinutes, long periodMinutes, Runnable task) {
+        TimeKernel kernel = TimeKernel.getInstance();
+        if (kernel == null) {
+            throw new IllegalStateException("TimeKernel이 초기화되지 않았습니다");
+        }
+        return kernel.scheduleEvery(firstRunMinutes, periodMinutes, task);
+    }
+    
+    /**
+     * 작업을 지금부터 주기마다 반복 실행하도록 예약합니다.
+     * @param periodMinutes 반복 주기(게임 시간 분), 예: 180 = 3시간마다
+     * @param task 실행할 작업
+     * @return 취소 가능한 작업 핸들
+     */
+    public static GameTask scheduleEvery(long periodMinutes, Runnable task) {
+        return scheduleEvery(getTotalMinutes() + periodMinutes, periodMinutes, task);
+    }
+    
+    // ===== 경량 시간 구독 =====
+    // Bukkit 이벤트를 등록하고 핸들러 안에서 걸러내는 대신, 필요한 시점에만 호출되는 콜백을 등록합니다.
+    // 콜백은 메인 스레드에서 같은 시점의 Bukkit 이벤트가 발생한 직후 호출됩니다.
+    
+    /**
+     * 매 시간 지정한 분(예: 30 = 매시 30분)마다 호출될 콜백을 등록합니다.
+     * @param minute 분 (0-59)
+     * @param listener 콜백
+     * @return 구독 핸들 (unsubscribe()로 해제)
+     */
+    public static TimeSubscription onMinuteOfHour(int minute, TimeListener listener) {
+        TimeKernel kernel = TimeKernel.getInstance();
+        if (kernel == null) {
+            throw new IllegalStateException("TimeKernel이 초기화되지 않았습니다");
+        }
+        return kernel.onMinuteOfHour(minute, listener);
+    }
+    
+    /**
+     * 매일 지정한 정시(예: 6 = 06:00)마다 호출될 콜백을 등록합니다.
+     * @param hour 시간 (0-23)
+     * @param listener 콜백
+     * @return 구독 핸들 (unsubscribe()로 해제)
+     */
+    public static TimeSubscription onHour(int hour, TimeListener listener) {
+        TimeKernel kernel = TimeKernel.getInstance();
+        if (kernel == null) {
+            throw new IllegalStateException("TimeKernel이 초기화되지 않았습니다");
+        }
+        return kernel.onHour(hour, listener);
+    }
+    
+    /**
+     * 매 정시마다 호출될 콜백을 등록합니다.
+     * @param listener 콜백
+     * @return 구독 핸들 (unsubscribe()로 해제)
+     */
+    public static TimeSubscription onEveryHour(TimeListener listener) {
+        TimeKernel kernel = TimeKernel.getInstance();
+        if (kernel == null) {
+            throw new IllegalStateException("TimeKernel이 초기화되지 않았습니다");
+        }
+        return kernel.onEveryHour(listener);
+    }
+    
+    /**
+     * 지정한 시간대(예: DUSK)가 시작될 때마다 호출될 콜백을 등록합니다.
+     * @param timeOfDay 시간대
+     * @param listener 콜백
+     * @return 구독 핸들 (unsubscribe()로 해제)
+     */
+    public static TimeSubscription onTimeOfDay(ServerTimeOfDayEvent.TimeOfDay timeOfDay, TimeListener listener) {
+        TimeKernel kernel = TimeKernel.getInstance();
+        if (kernel == null) {
+            throw new IllegalStateException("TimeKernel이 초기화되지 않았습니다");
+        }
+        return kernel.onTimeOfDay(timeOfDay, listener);
+    }
+    
+    /**
+     * 날짜가 바뀔 때마다 호출될 콜백을 등록합니다.
+     * @param listener 콜백
+     * @return 구독 핸들 (unsubscribe()로 해제)
+     */
+    public static TimeSubscription onDay(TimeListener listener) {
+        TimeKernel kernel = TimeKernel.getInstance();
+        if (kernel == null) {
+            throw new IllegalStateException("TimeKernel이 초기화되지 않았습니다");
+        }
+        return kernel.onDay(listener);
+    }
+    
+    /**
+     * 주가 바뀔 때마다 호출될 콜백을 등록합니다.
+     * @param listener 콜백
+     * @return 구독 핸들 (unsubscribe()로 해제)
+     */
+    public static TimeSubscription onWeek(TimeListener listener) {
+        TimeKernel kernel = TimeKernel.getInstance();
+        if (kernel == null) {
+            throw new IllegalStateException("TimeKernel이 초기화되지 않았습니다");
+        }
+        return kernel.onWeek(listener);
+    }
+    
+    /**
+     * 월이 바뀔 때마다 호출될 콜백을 등록합니다.
+     * @param listener 콜백
+     * @return 구독 핸들 (unsubscribe()로 해제)
+     */
+    public static TimeSubscription onMonth(TimeListener listener) {
+        TimeKernel kernel = TimeKernel.getInstance();
+        if (kernel == null) {
+            throw new IllegalStateException("TimeKernel이 초기화되지 않았습니다");
+        }
+        return kernel.onMonth(listener);
+    }
+    
     // ===== 실제 시간 기반 쿨타임 (권장) =====
     
     /**
@@ -120,6 +312,21 @@ public class ServerClockAPI {
         kernel.setCooldown(uniqueId, durationInSeconds);
     }
     
+    /**
+     * 실제 시간 기반으로 쿨타임을 설정하고, 만료되면 메인 스레드에서 콜백을 실행합니다.
+     * 만료 전에 제거되거나 다시 설정되면 콜백은 실행되지 않습니다.
+     * @param uniqueId 고유 ID
+     * @param durationInSeconds 쿨타임 지속 시간(초)
+     * @param onExpire 만료 시 실행할 콜백
+     */
+    public static void setCooldown(String uniqueId, long durationInSeconds, Runnable onExpire) {
+        TimeKernel kernel = TimeKernel.getInstance();
+        if (kernel == null) {
+            throw new IllegalStateException("TimeKernel이 초기화되지 않았습니다");
+        }
+        kernel.setCooldown(uniqueId, durationInSeconds, onExpire);
+    }
+    
     /**
      * 지정된 ID의 쿨타임이 종료되었는지 확인합니다.
      * @param uniqueId 고유 ID
@@ -158,12 +365,232 @@ public class ServerClockAPI {
         kernel.removeCooldown(uniqueId);
     }
     
+    /**
+     * 여러 ID에 같은 쿨타임을 한 번에 설정합니다. 모든 ID가 같은 시점에 만료됩니다.
+     * @param uniqueIds 고유 ID 목록
+     * @param durationInSeconds 쿨타임 지속 시간(초)
+     */
+    public static void setCooldowns(Collection<String> uniqueIds, long durationInSeconds) {
+        TimeKernel kernel = TimeKernel.getInstance();
+        if (kernel == null) {
+            throw new IllegalStateException("TimeKernel이 초기화되지 않았습니다");
+        }
+        kernel.setCooldowns(uniqueIds, durationInSeconds);
+    }
+    
+    /**
+     * 여러 ID의 쿨타임 종료 여부를 한 시점 기준으로 확인합니다.
+     * @param uniqueIds 고유 ID 목록
+     * @return i번째 ID의 쿨타임이 끝났으면 i번째 비트가 켜진 BitSet
+     */
+    public static BitSet getCooldownsOver(List<String> uniqueIds) {
+        TimeKernel kernel = TimeKernel.getInstance();
+        if (kernel == null) {
+            throw new IllegalStateException("TimeKernel이 초기화되지 않았습니다");
+        }
+        return kernel.getCooldownsOver(uniqueIds);
+    }
+    
+    /**
+     * 여러 ID의 쿨타임을 한 번에 제거합니다.
+     * @param uniqueIds 고유 ID 목록
+     */
+    public static void removeCooldowns(Collection<String> uniqueIds) {
+        TimeKernel kernel = TimeKernel.getInstance();
+        if (kernel == null) {
+            throw new IllegalStateException("TimeKernel이 초기화되지 않았습니다");
+        }
+        kernel.removeCooldowns(uniqueIds);
+    }
+    
+    /**
+     * 아직 만료되지 않은 실시간 쿨타임 수를 반환합니다.
+     * 만료된 쿨타임은 자동으로 제거되므로 장시간 가동해도 늘어나지 않습니다.
+     * @return 활성 쿨타임 수
+     */
+    public static int getActiveCooldownCount() {
+        TimeKernel kernel = TimeKernel.getInstance();
+        if (kernel == null) {
+            throw new IllegalStateException("TimeKernel이 초기화되지 않았습니다");
+        }
+        return kernel.getActiveCooldownCount();
+    }
+    
+    /**
+     * 실시간 쿨타임 최대 개수를 설정합니다. 넘치면 가장 먼저 만료될 쿨타임부터 밀려납니다.
+     * @param maxEntries 최대 개수, 0이면 무제한
+     */
+    public static void setMaxCooldowns(int maxEntries) {
+        TimeKernel kernel = TimeKernel.getInstance();
+        if (kernel == null) {
+            throw new IllegalStateException("TimeKernel이 초기화되지 않았습니다");
+        }
+        kernel.setMaxCooldowns(maxEntries);
+    }
+    
+    /**
+     * 실시간 쿨타임 저장소의 항목 수, 메모리 사용량 추정치, 밀려난 항목 수를 반환합니다.
+     * @return 저장소 상태
+     */
+    public static CooldownStats getCooldownStats() {
+        TimeKernel kernel = TimeKernel.getInstance();
+        if (kernel == null) {
+            throw new IllegalStateException("TimeKernel이 초기화되지 않았습니다");
+        }
+        return kernel.getCooldownStats();
+    }
+    
+    // ===== 속도 제한 =====
+    
+    /**
+     * 키별 토큰 버킷에서 토큰 하나를 꺼냅니다. 채팅/명령어/상호작용 도배 방지에 사용합니다.
+     * 버킷은 처음 불릴 때 가득 찬 상태로 만들어지고, 가득 찬 채로 쓰이지 않으면 자동으로 제거됩니다.
+     * <pre>
+     * // 초당 2번, 한 번에 최대 5번까지
+     * if (!ServerClockAPI.tryAcquire("chat:" + player.getUniqueId(), 2.0, 5)) {
+     *     event.setCancelled(true);
+     * }
+     * </pre>
+     * @param key 버킷 키
+     * @param permitsPerSecond 초당 보충되는 토큰 수
+     * @param burst 버킷 크기 (연속으로 허용되는 최대 요청 수)
+     * @return 토큰을 얻었으면 true, 속도 제한에 걸렸으면 false
+     */
+    public static boolean tryAcquire(String key, double permitsPerSecond, int burst) {
+        TimeKernel kernel = TimeKernel.getInstance();
+        if (kernel == null) {
+            throw new IllegalStateException("TimeKernel이 초기화되지 않았습니다");
+        }
+        return kernel.tryAcquire(key, permitsPerSecond, burst);
+    }
+    
+    /**
+     * 버킷을 가득 찬 상태로 되돌립니다.
+     * @param key 버킷 키
+     */
+    public static void resetRateLimit(String key) {
+        TimeKernel kernel = TimeKernel.getInstance();
+        if (kernel == null) {
+            throw new IllegalStateException("TimeKernel이 초기화되지 않았습니다");
+        }
+        kernel.resetRateLimit(key);
+    }
+    
+    // ===== 게임 시간 쿨타임 =====
+    // 만료 시점을 게임 분으로 저장하므로 pauseTime() 동안은 줄지 않고, 시간 속도를 바꾸면 함께 빨라집니다
+    
+    /**
+     * 서버 시계 기준 게임 시간 쿨타임을 설정합니다.
+     * @param key 고유 ID
+     * @param durationInMinutes 지속 시간(게임 분)
+     */
+    public static void setGameCooldown(String key, long durationInMinutes) {
+        TimeKernel kernel = TimeKernel.getInstance();
+        if (kernel == null) {
+            throw new IllegalStateException("TimeKernel이 초기화되지 않았습니다");
+        }
+        kernel.setGameCooldown(null, key, durationInMinutes);
+    }
+    
+    /**
+     * 월드 시계(WorldTimeZoneAPI의 오프셋/속도 적용) 기준 게임 시간 쿨타임을 설정합니다.
+     * @param world 기준 월드
+     * @param key 고유 ID
+     * @param durationInMinutes 지속 시간(월드의 게임 분)
+     */
+    public static void setGameCooldown(World world, String key, long durationInMinutes) {
+        TimeKernel kernel = TimeKernel.getInstance();
+        if (kernel == null) {
+            throw new IllegalStateException("TimeKernel이 초기화되지 않았습니다");
+        }
+        kernel.setGameCooldown(world.getName(), key, durationInMinutes);
+    }
+    
+    /**
+     * 서버 시계 기준 게임 시간 쿨타임이 끝났는지 확인합니다.
+     * @param key 고유 ID
+     * @return 끝났거나 없으면 true
+     */
+    public static boolean isGameCooldownOver(String key) {
+        TimeKernel kernel = TimeKernel.getInstance();
+        if (kernel == null) {
+            throw new IllegalStateException("TimeKernel이 초기화되지 않았습니다");
+        }
+        return kernel.isGameCooldownOver(null, key);
+    }
+    
+    /**
+     * 월드 시계 기준 게임 시간 쿨타임이 끝났는지 확인합니다.
+     * @param world 기준 월드
+     * @param key 고유 ID
+     * @return 끝났거나 없으면 true
+     */
+    public static boolean isGameCooldownOver(World world, String key) {
+        TimeKernel kernel = TimeKernel.getInstance();
+        if (kernel == null) {
+            throw new IllegalStateException("TimeKernel이 초기화되지 않았습니다");
+        }
+        return kernel.isGameCooldownOver(world.getName(), key);
+    }
+    
+    /**
+     * 서버 시계 기준 게임 시간 쿨타임의 남은 시간을 반환합니다.
+     * @param key 고유 ID
+     * @return 남은 시간(게임 분), 없으면 0
+     */
+    public static long getRemainingGameCooldownMinutes(String key) {
+        TimeKernel kernel = TimeKernel.getInstance();
+        if (kernel == null) {
+            throw new IllegalStateException("TimeKernel이 초기화되지 않았습니다");
+        }
+        return kernel.getRemainingGameCooldownMinutes(null, key);
+    }
+    
+    /**
+     * 월드 시계 기준 게임 시간 쿨타임의 남은 시간을 반환합니다.
+     * @param world 기준 월드
+     * @param key 고유 ID
+     * @return 남은 시간(월드의 게임 분), 없으면 0
+     */
+    public static long getRemainingGameCooldownMinutes(World world, String key) {
+        TimeKernel kernel = TimeKernel.getInstance();
+        if (kernel == null) {
+            throw new IllegalStateException("TimeKernel이 초기화되지 않았습니다");
+        }
+        return kernel.getRemainingGameCooldownMinutes(world.getName(), key);
+    }
+    
+    /**
+     * 서버 시계 기준 게임 시간 쿨타임을 제거합니다.
+     * @param key 고유 ID
+     */
+    public static void removeGameCooldown(String key) {
+        TimeKernel kernel = TimeKernel.getInstance();
+        if (kernel == null) {
+            throw new IllegalStateException("TimeKernel이 초기화되지 않았습니다");
+        }
+        kernel.removeGameCooldown(null, key);
+    }
+    
+    /**
+     * 월드 시계 기준 게임 시간 쿨타임을 제거합니다.
+     * @param world 기준 월드
+     * @param key 고유 ID
+     */
+    public static void removeGameCooldown(World world, String key) {
+        TimeKernel kernel = TimeKernel.getInstance();
+        if (kernel == null) {
+            throw new IllegalStateException("TimeKernel이 초기화되지 않았습니다");
+        }
+        kernel.removeGameCooldown(world.getName(), key);
+    }
+    
     // ===== 게임 시간 기반 쿨타임 (레거시) =====
     
     /**
      * 게임 시간 기반으로 쿨타임을 설정합니다.
      * @param uniqueId 고유 ID
-     * @deprecated 실제 시간 기반 setCooldown(String, long) 사용을 권장합니다
+     * @deprecated 실제 시간 기반 setCooldown(String, long) 또는 만료 시점을 저장하는 setGameCooldown(String, long) 사용을 권장합니다
      */
     @Deprecated
     public static void setGameTimeCooldown(String uniqueId) {
@@ -60,9 +60,18 @@ public class WorldTimeZoneAPI {
      * @return 월드의 총 시간(분)
      */
     public static long getWorldTotalMinutes(World world) {
-        long serverMinutes = ServerClockAPI.getTotalMinutes();
-        long offset = getWorldTimeOffset(world);
-        double speed = getWorldTimeSpeed(world);
+        return getWorldTotalMinutes(world.getName(), ServerClockAPI.getTotalMinutes());
+    }
+    
+    /**
+     * 서버 시간(분)을 월드의 시간(분)으로 바꿉니다.
+     * @param worldName 월드 이름
+     * @param serverMinutes 서버 총 시간(분)
+     * @return 월드의 총 시간(분)
+     */
+    public static long getWorldTotalMinutes(String worldName, long serverMinutes) {
+        long offset = worldTimeOffsets.getOrDefault(worldName, 0L);
+        double speed = worldTimeSpeed.getOrDefault(worldName, 1.0);
         
         // 속도를 고려한 시간 계산
         return (long)(serverMinutes * speed) + offset;
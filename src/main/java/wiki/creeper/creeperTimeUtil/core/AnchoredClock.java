@@ -0,0 +1,99 @@
+package wiki.creeper.creeperTimeUtil.core;
+
+/**
+ * 단조 시간(System.nanoTime) 기준점으로부터 게임 시간을 계산하는 시계
+ * 타이머가 밀리거나 다시 생성되어도 실제로 흐른 시간만큼 정확히 진행됩니다.
+ *
+ * 속도는 백만분의 1 단위 고정소수점 정수(speedMicros)로 보관하며, 경과 시간은
+ * 실제 나노초 × speedMicros 단위로 누적합니다. 한 게임 분은 nanosPerGameMinute × SPEED_SCALE
+ * 단위이고, 분 미만의 나머지는 remainder에 그대로 남겨 다음 계산에 이어 씁니다.
+ * 따라서 1.5배속과 1.9배속이 정확히 구분되고, 100배속 이상에서도 오차가 누적되지 않습니다.
+ */
+final class AnchoredClock {
+    static final long SPEED_SCALE = 1_000_000L;
+
+    private final long unitsPerGameMinute;
+
+    private long baseMinutes;
+    private long anchorNanos;
+    private long remainder; // 아직 1분이 되지 않은 진행분 (단위: 실제 나노초 × speedMicros)
+    private long speedMicros = SPEED_SCALE;
+    private boolean paused;
+
+    AnchoredClock(long nanosPerGameMinute) {
+        this.unitsPerGameMinute = Math.multiplyExact(nanosPerGameMinute, SPEED_SCALE);
+        this.anchorNanos = System.nanoTime();
+    }
+
+    /**
+     * 배율을 고정소수점 값으로 변환합니다.
+     * @param speed 속도 배율
+     * @return 백만분의 1 단위 속도
+     */
+    static long toSpeedMicros(double speed) {
+        long micros = Math.round(speed * SPEED_SCALE);
+        if (micros <= 0) {
+            throw new IllegalArgumentException("시간 속도는 0보다 커야 합니다");
+        }
+        return micros;
+    }
+
+    /**
+     * 현재 시각 기준 게임 시간(분)을 반환합니다.
+     * 호출할 때마다 흐른 시간을 기준점에 접어 넣으므로 오래 실행되어도 정밀도가 떨어지지 않습니다.
+     * @return 기준점으로부터 계산된 총 시간(분)
+     */
+    synchronized long currentMinutes() {
+        advance(System.nanoTime());
+        return baseMinutes;
+    }
+
+    /**
+     * 시계를 특정 시간(분)으로 맞추고 지금을 새 기준점으로 삼습니다.
+     * @param minutes 총 시간(분)
+     */
+    synchronized void set(long minutes) {
+        baseMinutes = minutes;
+        remainder = 0;
+        anchorNanos = System.nanoTime();
+    }
+
+    synchronized void setSpeedMicros(long newSpeedMicros) {
+        advance(System.nanoTime());
+        speedMicros = newSpeedMicros;
+    }
+
+    synchronized void pause() {
+        if (paused) {
+            return;
+        }
+        advance(System.nanoTime());
+        paused = true;
+    }
+
+    synchronized void resume() {
+        if (!paused) {
+            return;
+        }
+        paused = false;
+        anchorNanos = System.nanoTime();
+    }
+
+    private void advance(long now) {
+        long elapsed = now - anchorNanos;
+        anchorNanos = now;
+        if (paused || elapsed <= 0) {
+            return;
+        }
+
+        // elapsed × speedMicros가 long 범위를 넘지 않도록 나눠서 누적합니다
+        long maxChunk = (Long.MAX_VALUE - unitsPerGameMinute) / speedMicros;
+        while (elapsed > 0) {
+            long chunk = Math.min(elapsed, maxChunk);
+            long units = remainder + chunk * speedMicros;
+            baseMinutes += units / unitsPerGameMinute;
+            remainder = units % unitsPerGameMinute;
+            elapsed -= chunk;
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package wiki.creeper.creeperTimeUtil.core;
+
+/**
+ * 다음 정시/일/주/월/시간대 경계의 절대 시점(분)을 미리 계산해 두는 추적기
+ * 경계가 아닌 대부분의 분은 next()와 한 번 비교하는 것으로 끝나고,
+ * 경계에 도달했을 때만 해당 종류의 다음 경계를 다시 계산합니다.
+ * 주/월 경계는 GameCalendar에서 다음 시작일을 받아 계산합니다.
+ */
+final class BoundaryTracker {
+    private final GameCalendar calendar;
+    private long nextHour;
+    private long nextDay;
+    private long nextWeek;
+    private long nextMonth;
+    private long nextTimeOfDay;
+    private long next;
+
+    BoundaryTracker(GameCalendar calendar, long minute) {
+        this.calendar = calendar;
+        reset(minute);
+    }
+
+    /**
+     * minute 이후의 경계를 기준으로 모든 값을 다시 계산합니다.
+     * @param minute 마지막으로 처리한 시점(분)
+     */
+    void reset(long minute) {
+        nextHour = after(minute, BoundaryWalker.MINUTES_PER_HOUR);
+        nextDay = after(minute, BoundaryWalker.MINUTES_PER_DAY);
+        int day = BoundaryWalker.dayAt(minute);
+        nextWeek = BoundaryWalker.startOfDay(calendar.getNextWeekStart(day));
+        nextMonth = BoundaryWalker.startOfDay(calendar.getNextMonthStart(day));
+        nextTimeOfDay = timeOfDayAfter(minute);
+        next = nextHour; // 모든 경계는 정시 위에 있으므로 가장 가까운 경계는 항상 다음 정시입니다
+    }
+
+    /**
+     * 가장 가까운 다음 경계 시점을 반환합니다.
+     * @return 다음 경계 시점(분)
+     */
+    long next() {
+        return next;
+    }
+
+    /**
+     * minute에 도달했을 때 겹친 경계 종류를 반환하고 지나간 경계를 다음 값으로 옮깁니다.
+     * minute은 이전 호출보다 크고, 중간의 경계를 건너뛰지 않아야 합니다.
+     * @param minute 현재 시점(분)
+     * @return BoundaryWalker의 경계 종류 비트 조합, 경계가 아니면 0
+     */
+    int advance(long minute) {
+        if (minute < next) {
+            return 0;
+        }
+
+        int kinds = BoundaryWalker.HOUR;
+        nextHour += BoundaryWalker.MINUTES_PER_HOUR;
+        if (minute == nextTimeOfDay) {
+            kinds |= BoundaryWalker.TIME_OF_DAY;
+            nextTimeOfDay = timeOfDayAfter(minute);
+        }
+        if (minute == nextDay) {
+            kinds |= BoundaryWalker.DAY;
+            nextDay += BoundaryWalker.MINUTES_PER_DAY;
+        }
+        if (minute == nextWeek) {
+            kinds |= BoundaryWalker.WEEK;
+            nextWeek = BoundaryWalker.startOfDay(calendar.getNextWeekStart(BoundaryWalker.dayAt(minute)));
+        }
+        if (minute == nextMonth) {
+            kinds |= BoundaryWalker.MONTH;
+            nextMonth = BoundaryWalker.startOfDay(calendar.getNextMonthStart(BoundaryWalker.dayAt(minute)));
+        }
+        next = nextHour;
+        return kinds;
+    }
+
+    private static long after(long minute, long period) {
+        return (Math.floorDiv(minute, period) + 1) * period;
+    }
+
+    private static long timeOfDayAfter(long minute) {
+        long dayStart = Math.floorDiv(minute, BoundaryWalker.MINUTES_PER_DAY) * BoundaryWalker.MINUTES_PER_DAY;
+        for (int hour : BoundaryWalker.TIME_OF_DAY_HOURS) {
+            long start = dayStart + hour * BoundaryWalker.MINUTES_PER_HOUR;
+            if (start > minute) {
+                return start;
+            }
+        }
+        return dayStart + BoundaryWalker.MINUTES_PER_DAY; // 다음 날 자정
+    }
+}
@@ -0,0 +1,205 @@
+package wiki.creeper.creeperTimeUtil.core;
+
+/**
+ * 두 시점 사이에 지나친 정시/일/주/월/시간대 경계를 계산하는 유틸리티
+ * 모든 경계는 정시(60분 단위) 위에 있으므로 정시만 차례로 방문하며,
+ * 종류별 개수와 마지막 경계는 나눗셈과 GameCalendar 조회만으로 바로 계산합니다.
+ */
+public final class BoundaryWalker {
+    public static final int HOUR = 1;
+    public static final int DAY = 1 << 1;
+    public static final int WEEK = 1 << 2;
+    public static final int MONTH = 1 << 3;
+    public static final int TIME_OF_DAY = 1 << 4;
+
+    static final long MINUTES_PER_HOUR = 60L;
+    static final long MINUTES_PER_DAY = 1440L;
+
+    // 시간대(TimeOfDay)가 시작되는 시각 - 하루 안에서의 순서대로
+    static final int[] TIME_OF_DAY_HOURS = {0, 5, 6, 12, 18, 22};
+
+    /**
+     * 크게 건너뛴 구간의 이벤트를 처리하는 방식
+     */
+    public enum Coalesce {
+        FIRE_ALL,   // 지나친 경계를 모두 순서대로 발생
+        FIRE_LAST,  // 종류별로 마지막 경계 하나만 발생
+        SUMMARY     // 경계 개수를 담은 ServerTimeSkipEvent 하나만 발생
+    }
+
+    /**
+     * 경계를 하나씩 전달받는 콜백
+     */
+    public interface Visitor {
+        void onBoundary(long minute, int kinds);
+    }
+
+    private BoundaryWalker() {
+    }
+
+    /**
+     * from(제외)부터 to(포함) 사이의 모든 경계를 시간 순서대로 방문합니다.
+     * @param from 시작 시점(분), 이 시점의 경계는 포함하지 않음
+     * @param to 끝 시점(분)
+     * @param calendar 주/월 경계를 판단할 달력
+     * @param visitor 경계마다 호출될 콜백
+     */
+    public static void walk(long from, long to, GameCalendar calendar, Visitor visitor) {
+        for (long minute = nextHour(from); minute <= to; minute += MINUTES_PER_HOUR) {
+            visitor.onBoundary(minute, kindsAt(minute, calendar));
+        }
+    }
+
+    /**
+     * 정시 시점에 겹치는 경계 종류를 비트 조합으로 반환합니다.
+     * @param minute 총 시간(분)
+     * @param calendar 주/월 경계를 판단할 달력
+     * @return 경계 종류 비트 조합, 정시가 아니면 0
+     */
+    public static int kindsAt(long minute, GameCalendar calendar) {
+        if (minute % MINUTES_PER_HOUR != 0) {
+            return 0;
+        }
+        int kinds = HOUR;
+        if (isTimeOfDayHour((int) ((minute % MINUTES_PER_DAY) / MINUTES_PER_HOUR))) kinds |= TIME_OF_DAY;
+        if (minute % MINUTES_PER_DAY == 0) {
+            kinds |= DAY;
+            int day = dayAt(minute);
+            if (calendar.isWeekStart(day)) kinds |= WEEK;
+            if (calendar.isMonthStart(day)) kinds |= MONTH;
+        }
+        return kinds;
+    }
+
+    /**
+     * 시점이 속한 일차를 반환합니다.
+     */
+    static int dayAt(long minute) {
+        return (int) Math.floorDiv(minute, MINUTES_PER_DAY) + 1;
+    }
+
+    /**
+     * 일차가 시작되는 시점(분)을 반환합니다.
+     */
+    static long startOfDay(int day) {
+        return (day - 1L) * MINUTES_PER_DAY;
+    }
+
+    /**
+     * 해당 시각이 시간대가 시작되는 시각인지 확인합니다.
+     * @param hour 시간 (0-23)
+     * @return 시간대 시작 시각이면 true
+     */
+    public static boolean isTimeOfDayHour(int hour) {
+        for (int h : TIME_OF_DAY_HOURS) {
+            if (h == hour) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * from 이후 첫 정시를 반환합니다.
+     */
+    static long nextHour(long from) {
+        return (Math.floorDiv(from, MINUTES_PER_HOUR) + 1) * MINUTES_PER_HOUR;
+    }
+
+    /**
+     * 구간 안에서 주기가 period인 경계의 개수를 반환합니다.
+     * @param period 경계 주기(분)
+     */
+    public static long count(long from, long to, long period) {
+        if (to <= from) {
+            return 0;
+        }
+        return Math.floorDiv(to, period) - Math.floorDiv(from, period);
+    }
+
+    /**
+     * 구간 안에서 시작된 주의 개수를 반환합니다.
+     */
+    public static long countWeeks(long from, long to, GameCalendar calendar) {
+        if (to <= from) {
+            return 0;
+        }
+        return calendar.getWeek(dayAt(to)) - calendar.getWeek(dayAt(from));
+    }
+
+    /**
+     * 구간 안에서 시작된 달의 개수를 반환합니다.
+     */
+    public static long countMonths(long from, long to, GameCalendar calendar) {
+        if (to <= from) {
+            return 0;
+        }
+        return calendar.getMonthsSinceStart(dayAt(to)) - calendar.getMonthsSinceStart(dayAt(from));
+    }
+
+    /**
+     * 구간 안의 마지막 경계를 반환합니다.
+     * @param period 경계 주기(분)
+     * @return 마지막 경계 시점(분), 없으면 -1
+     */
+    public static long last(long from, long to, long period) {
+        long boundary = Math.floorDiv(to, period) * period;
+        return boundary > from ? boundary : -1;
+    }
+
+    /**
+     * 구간 안의 마지막 주 시작 시점을 반환합니다.
+     * @return 마지막 주 시작 시점(분), 없으면 -1
+     */
+    public static long lastWeek(long from, long to, GameCalendar calendar) {
+        long boundary = startOfDay(calendar.getFirstDayOfWeek(dayAt(to)));
+        return boundary > from ? boundary : -1;
+    }
+
+    /**
+     * 구간 안의 마지막 달 시작 시점을 반환합니다.
+     * @return 마지막 달 시작 시점(분), 없으면 -1
+     */
+    public static long lastMonth(long from, long to, GameCalendar calendar) {
+        long boundary = startOfDay(calendar.getMonthStartOf(dayAt(to)));
+        return boundary > from ? boundary : -1;
+    }
+
+    /**
+     * 구간 안에서 시작된 시간대의 개수를 반환합니다.
+     */
+    public static long countTimeOfDay(long from, long to) {
+        if (to <= from) {
+            return 0;
+        }
+        return timeOfDayStartsUpTo(to) - timeOfDayStartsUpTo(from);
+    }
+
+    /**
+     * 구간 안의 마지막 시간대 시작 시점을 반환합니다.
+     * @return 마지막 시간대 시작 시점(분), 없으면 -1
+     */
+    public static long lastTimeOfDay(long from, long to) {
+        // 시간대 시작 시각 사이의 간격은 최대 6시간이므로 몇 번만 거슬러 올라가면 됩니다
+        for (long minute = Math.floorDiv(to, MINUTES_PER_HOUR) * MINUTES_PER_HOUR;
+             minute > from; minute -= MINUTES_PER_HOUR) {
+            if (isTimeOfDayHour((int) (Math.floorMod(minute, MINUTES_PER_DAY) / MINUTES_PER_HOUR))) {
+                return minute;
+            }
+        }
+        return -1;
+    }
+
+    // 0분부터 minute까지(포함) 시작된 시간대 개수
+    private static long timeOfDayStartsUpTo(long minute) {
+        long days = Math.floorDiv(minute, MINUTES_PER_DAY);
+        long minuteOfDay = Math.floorMod(minute, MINUTES_PER_DAY);
+        long starts = days * TIME_OF_DAY_HOURS.length;
+        for (int h : TIME_OF_DAY_HOURS) {
+            if (h * MINUTES_PER_HOUR <= minuteOfDay) {
+                starts++;
+            }
+        }
+        return starts;
+    }
+}
@@ -0,0 +1,151 @@
+package wiki.creeper.creeperTimeUtil.core;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32;
+
+/**
+ * 메모리 매핑된 시계 체크포인트 (clock.checkpoint)
+ *
+ * 게임 분이 바뀔 때마다 서버 누적 시간, 속도, 일시정지 여부를 매핑된 버퍼에 적기만 하고 디스크 반영은 OS에 맡기므로,
+ * 분마다 시스템 호출이 일어나지 않습니다. 서버 프로세스가 갑자기 죽어도 OS가 페이지를 내려 쓰므로 마지막 분이 남습니다.
+ * <pre>
+ * int MAGIC ("CTCK"), int 버전
+ * 칸 2개: long 순번, long 기록 시각 (epoch ms), long 서버 누적 시간(분), long 속도 (double 비트), int 플래그, int 앞 36바이트의 CRC32
+ * 플래그: 1 = 일시정지, 2 = 정상 종료 때 쓴 칸
+ * </pre>
+ * 두 칸에 번갈아 쓰므로 쓰는 도중 끊겨도 다른 칸은 온전하며, 불러올 때는 CRC가 맞는 칸 중 순번이 큰 쪽을 씁니다.
+ * 마지막 칸이 정상 종료 칸이 아니면 서버가 비정상 종료된 것입니다.
+ */
+final class ClockCheckpoint {
+    static final String FILE_NAME = "clock.checkpoint";
+    private static final int MAGIC = 0x4354434B; // "CTCK"
+    private static final int VERSION = 1;
+    private static final int HEADER_BYTES = 8;
+    private static final int SLOT_BYTES = 40;
+    private static final int SLOT_BODY_BYTES = SLOT_BYTES - 4;
+    private static final int FILE_BYTES = HEADER_BYTES + SLOT_BYTES * 2;
+    private static final int FLAG_PAUSED = 1;
+    private static final int FLAG_CLEAN = 2;
+
+    private final File file;
+    private final CRC32 crc = new CRC32();
+    private MappedByteBuffer buffer;
+    private long sequence;
+
+    ClockCheckpoint(File file) {
+        this.file = file;
+    }
+
+    /**
+     * 파일을 열어 매핑하고, 남아 있던 체크포인트 중 가장 최근의 온전한 것을 돌려줍니다.
+     * @return 온전한 체크포인트가 없으면 null
+     */
+    synchronized State open() throws IOException {
+        file.getAbsoluteFile().getParentFile().mkdirs();
+        try (FileChannel channel = FileChannel.open(file.toPath(),
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            boolean fresh = channel.size() != FILE_BYTES;
+            buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, FILE_BYTES); // 매핑은 채널을 닫아도 유지됩니다
+            if (fresh || buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION) {
+                for (int i = 0; i < FILE_BYTES; i++) {
+                    buffer.put(i, (byte) 0);
+                }
+                buffer.putInt(0, MAGIC);
+                buffer.putInt(4, VERSION);
+                return null;
+            }
+        }
+        State first = readSlot(0);
+        State second = readSlot(1);
+        State latest = first == null || (second != null && second.sequence > first.sequence) ? second : first;
+        sequence = latest != null ? latest.sequence : 0;
+        return latest;
+    }
+
+    /**
+     * 현재 시계 상태를 다음 칸에 적습니다. open() 전이나 close() 뒤에는 아무것도 하지 않습니다.
+     */
+    synchronized void write(long totalMinutes, double speed, boolean paused) {
+        write(totalMinutes, speed, paused ? FLAG_PAUSED : 0);
+    }
+
+    /**
+     * 정상 종료 직전에 현재 시계 상태를 적습니다. 다음에 열었을 때 이 칸이 마지막이면 비정상 종료가 아닌 것으로 봅니다.
+     */
+    synchronized void writeClean(long totalMinutes, double speed, boolean paused) {
+        write(totalMinutes, speed, (paused ? FLAG_PAUSED : 0) | FLAG_CLEAN);
+    }
+
+    private void write(long totalMinutes, double speed, int flags) {
+        if (buffer == null) {
+            return;
+        }
+        sequence++;
+        int offset = slotOffset((int) (sequence & 1));
+        buffer.putLong(offset, sequence);
+        buffer.putLong(offset + 8, System.currentTimeMillis());
+        buffer.putLong(offset + 16, totalMinutes);
+        buffer.putLong(offset + 24, Double.doubleToLongBits(speed));
+        buffer.putInt(offset + 32, flags);
+        buffer.putInt(offset + SLOT_BODY_BYTES, checksum(offset));
+    }
+
+    /**
+     * 매핑된 내용을 디스크에 내려 쓰고 더 이상 쓰지 않습니다.
+     */
+    synchronized void close() {
+        if (buffer != null) {
+            buffer.force();
+            buffer = null;
+        }
+    }
+
+    private State readSlot(int slot) {
+        int offset = slotOffset(slot);
+        long slotSequence = buffer.getLong(offset);
+        if (slotSequence <= 0 || buffer.getInt(offset + SLOT_BODY_BYTES) != checksum(offset)) {
+            return null;
+        }
+        int flags = buffer.getInt(offset + 32);
+        return new State(slotSequence, buffer.getLong(offset + 8), buffer.getLong(offset + 16),
+            Double.longBitsToDouble(buffer.getLong(offset + 24)), (flags & FLAG_PAUSED) != 0, (flags & FLAG_CLEAN) != 0);
+    }
+
+    private int checksum(int offset) {
+        ByteBuffer body = buffer.duplicate();
+        body.limit(offset + SLOT_BODY_BYTES).position(offset);
+        crc.reset();
+        crc.update(body);
+        return (int) crc.getValue();
+    }
+
+    private static int slotOffset(int slot) {
+        return HEADER_BYTES + slot * SLOT_BYTES;
+    }
+
+    /**
+     * 체크포인트에 남은 시계 상태
+     */
+    static final class State {
+        final long sequence;
+        final long writtenAt;
+        final long totalMinutes;
+        final double speed;
+        final boolean paused;
+        final boolean clean; // 정상 종료 때 쓴 칸
+
+        private State(long sequence, long writtenAt, long totalMinutes, double speed, boolean paused, boolean clean) {
+            this.sequence = sequence;
+            this.writtenAt = writtenAt;
+            this.totalMinutes = totalMinutes;
+            this.speed = speed;
+            this.paused = paused;
+            this.clean = clean;
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package wiki.creeper.creeperTimeUtil.core;
+
+import wiki.creeper.creeperTimeUtil.events.ServerTimeOfDayEvent;
+
+import java.time.DayOfWeek;
+
+/**
+ * 특정 시점의 서버 시간을 담은 불변 객체
+ * 모든 달력 필드를 생성 시점에 GameCalendar로 미리 계산해 두므로, 읽는 쪽은 필드만 읽으면 됩니다.
+ * TimeKernel이 매 분마다 새 스냅샷을 발행하며, 어느 스레드에서 읽어도 안전합니다.
+ */
+public final class ClockSnapshot {
+    private final long totalMinutes;
+    private final int day;
+    private final int hour;
+    private final int minute;
+    private final int week;
+    private final DayOfWeek dayOfWeek;
+    private final int month;
+    private final int dayOfMonth;
+    private final int year;
+    private final ServerTimeOfDayEvent.TimeOfDay timeOfDay;
+    private final String formattedTime;
+
+    private ClockSnapshot(long totalMinutes, GameCalendar calendar) {
+        this.totalMinutes = totalMinutes;
+        this.day = (int) (totalMinutes / 1440) + 1; // Day starts at 1
+        this.hour = (int) ((totalMinutes % 1440) / 60);
+        this.minute = (int) (totalMinutes % 60);
+        this.week = calendar.getWeek(day);
+        this.dayOfWeek = calendar.getDayOfWeek(day);
+        this.year = calendar.getYear(day);
+        this.month = calendar.getMonth(day);
+        this.dayOfMonth = calendar.getDayOfMonth(day);
+        this.timeOfDay = timeOfDayAt(hour);
+        this.formattedTime = String.format("%d일차 %02d:%02d", day, hour, minute);
+    }
+
+    /**
+     * 주어진 총 시간(분)에 대한 스냅샷을 현재 서버 달력으로 생성합니다.
+     * @param totalMinutes 총 시간(분)
+     * @return 스냅샷
+     */
+    public static ClockSnapshot of(long totalMinutes) {
+        return new ClockSnapshot(totalMinutes, GameCalendar.current());
+    }
+
+    /**
+     * 주어진 총 시간(분)에 대한 스냅샷을 지정한 달력으로 생성합니다.
+     * @param totalMinutes 총 시간(분)
+     * @param calendar 달력
+     * @return 스냅샷
+     */
+    public static ClockSnapshot of(long totalMinutes, GameCalendar calendar) {
+        return new ClockSnapshot(totalMinutes, calendar);
+    }
+
+    /**
+     * 해당 시각이 속한 시간대를 반환합니다.
+     * @param hour 시간 (0-23)
+     * @return 가장 최근에 시작된 시간대
+     */
+    public static ServerTimeOfDayEvent.TimeOfDay timeOfDayAt(int hour) {
+        if (hour >= 22) return ServerTimeOfDayEvent.TimeOfDay.NIGHT;
+        if (hour >= 18) return ServerTimeOfDayEvent.TimeOfDay.DUSK;
+        if (hour >= 12) return ServerTimeOfDayEvent.TimeOfDay.NOON;
+        if (hour >= 6) return ServerTimeOfDayEvent.TimeOfDay.MORNING;
+        if (hour >= 5) return ServerTimeOfDayEvent.TimeOfDay.DAWN;
+        return ServerTimeOfDayEvent.TimeOfDay.MIDNIGHT;
+    }
+
+    public long getTotalMinutes() {
+        return totalMinutes;
+    }
+
+    public int getDay() {
+        return day;
+    }
+
+    public int getHour() {
+        return hour;
+    }
+
+    public int getMinute() {
+        return minute;
+    }
+
+    public int getWeek() {
+        return week;
+    }
+
+    public DayOfWeek getDayOfWeek() {
+        return dayOfWeek;
+    }
+
+    public int getMonth() {
+        return month;
+    }
+
+    public int getDayOfMonth() {
+        return dayOfMonth;
+    }
+
+    public int getYear() {
+        return year;
+    }
+
+    /**
+     * 현재 시간대를 반환합니다.
+     * @return 가장 최근에 시작된 시간대 (예: 14시면 NOON)
+     */
+    public ServerTimeOfDayEvent.TimeOfDay getTimeOfDay() {
+        return timeOfDay;
+    }
+
+    /**
+     * 포맷된 시간 문자열을 반환합니다.
+     * @return 형식: "3일차 15:30"
+     */
+    public String getFormattedTime() {
+        return formattedTime;
+    }
+}
@@ -0,0 +1,63 @@
+package wiki.creeper.creeperTimeUtil.core;
+
+/**
+ * 실시간 쿨타임 저장소의 상태를 담은 불변 객체
+ * 메모리 사용량은 배열과 키 문자열 크기로 계산한 추정치이며, 만료 콜백 객체는 포함하지 않습니다.
+ */
+public final class CooldownStats {
+    private final int liveEntries;
+    private final long bytesUsed;
+    private final int maxEntries;
+    private final long evictions;
+    private final double evictionsPerSecond;
+
+    CooldownStats(int liveEntries, long bytesUsed, int maxEntries, long evictions, double evictionsPerSecond) {
+        this.liveEntries = liveEntries;
+        this.bytesUsed = bytesUsed;
+        this.maxEntries = maxEntries;
+        this.evictions = evictions;
+        this.evictionsPerSecond = evictionsPerSecond;
+    }
+
+    /**
+     * @return 저장된 항목 수 (만료되었지만 아직 정리되지 않은 항목 포함)
+     */
+    public int getLiveEntries() {
+        return liveEntries;
+    }
+
+    /**
+     * @return 사용 중인 메모리 추정치(바이트)
+     */
+    public long getBytesUsed() {
+        return bytesUsed;
+    }
+
+    /**
+     * @return 최대 항목 수, 0이면 무제한
+     */
+    public int getMaxEntries() {
+        return maxEntries;
+    }
+
+    /**
+     * @return 상한 때문에 밀려난 항목의 누적 수
+     */
+    public long getEvictions() {
+        return evictions;
+    }
+
+    /**
+     * @return 마지막으로 끝난 1분 창 동안 초당 밀려난 항목 수 (첫 창이 끝나기 전에는 지금까지의 평균)
+     */
+    public double getEvictionsPerSecond() {
+        return evictionsPerSecond;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("항목 %d개 (상한 %s), 약 %.1fKB, 밀려남 %d개 (%.1f/초)",
+            liveEntries, maxEntries == 0 ? "없음" : String.valueOf(maxEntries),
+            bytesUsed / 1024.0, evictions, evictionsPerSecond);
+    }
+}
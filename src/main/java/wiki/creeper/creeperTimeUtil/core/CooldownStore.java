@@ -0,0 +1,686 @@
+package wiki.creeper.creeperTimeUtil.core;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.BiConsumer;
+import java.util.function.ObjLongConsumer;
+
+/**
+ * 실시간 쿨타임 저장소 - 키마다 만료 시점(TimeSource 기준) 하나만 보관합니다.
+ *
+ * 키 해시의 상위 비트로 세그먼트를 고르고, 세그먼트 안에서는 기본형 배열 위 선형 탐사(open addressing)로 찾습니다.
+ * 항목마다 객체를 만들지 않으므로 키 문자열 외에는 슬롯당 long 하나와 int 두 개만 씁니다.
+ * 세그먼트마다 슬롯 번호로 된 만료 시점 순 최소 힙을 두어, 만료 정리와 상한 초과 시 제거를 모두 힙 맨 앞에서 처리합니다.
+ * 조회는 낙관적 읽기로 잠금 없이 끝나며, 쓰기와 겹쳤을 때만 읽기 잠금을 잡고 다시 읽습니다.
+ *
+ * 상한(maxEntries)은 전체 항목 수에 적용하며, 넘치면 세그먼트들의 힙 맨 앞 중 가장 먼저 만료될 항목부터 밀어냅니다.
+ * 밀어내기는 넣은 세그먼트의 잠금을 푼 뒤에 하므로, 동시에 여러 스레드가 넣는 순간에는 잠시 상한을 몇 개 넘을 수 있습니다.
+ * 만료 콜백은 자연 만료된 항목에만 전달되며, 다시 설정되거나 제거되거나 상한 때문에 밀려난 항목의 콜백은 버려집니다.
+ */
+final class CooldownStore {
+    private static final int SEGMENT_BITS = 6;
+    private static final int SEGMENT_COUNT = 1 << SEGMENT_BITS;
+    private static final int INITIAL_CAPACITY = 16; // 세그먼트당 슬롯 수 (2의 거듭제곱)
+    // 밀려남 빈도를 집계하는 고정 창 길이
+    private static final long EVICTION_WINDOW_NANOS = 60_000_000_000L;
+
+    private final Segment[] segments = new Segment[SEGMENT_COUNT];
+    private final TimeSource timeSource;
+    private final AtomicInteger count = new AtomicInteger(); // 전체 항목 수
+    private final LongAdder evictions = new LongAdder();
+    private volatile int maxEntries; // 0이면 무제한
+    // 밀려남 빈도 창 - this 잠금 보호
+    private long windowStart;
+    private long windowEvictions;
+    private double lastWindowRate = -1; // 아직 끝난 창이 없으면 -1
+
+    CooldownStore(TimeSource timeSource) {
+        this.timeSource = timeSource;
+        for (int i = 0; i < SEGMENT_COUNT; i++) {
+            segments[i] = new Segment(count);
+        }
+        this.windowStart = timeSource.nanoTime();
+    }
+
+    long now() {
+        return timeSource.nanoTime();
+    }
+
+    /**
+     * 저장할 수 있는 최대 항목 수를 설정합니다. 이미 넘쳤으면 가장 먼저 만료될 항목부터 바로 밀어냅니다.
+     * @param maxEntries 최대 항목 수, 0이면 무제한
+     */
+    void setMaxEntries(int maxEntries) {
+        if (maxEntries < 0) {
+            throw new IllegalArgumentException("최대 항목 수는 0 이상이어야 합니다");
+        }
+        this.maxEntries = maxEntries;
+        evictOverflow();
+    }
+
+    int getMaxEntries() {
+        return maxEntries;
+    }
+
+    /**
+     * 쿨타임을 설정합니다. 기존 쿨타임은 덮어씁니다.
+     * @param durationNanos 지속 시간(나노초)
+     * @param onExpire 만료 시 실행할 콜백, 없으면 null
+     */
+    void set(String key, long durationNanos, Runnable onExpire) {
+        restore(key, timeSource.nanoTime() + durationNanos, onExpire);
+    }
+
+    /**
+     * 만료 시점(TimeSource 기준)을 직접 지정해 쿨타임을 설정합니다.
+     */
+    void restore(String key, long deadlineNanos, Runnable onExpire) {
+        int h = hash(key);
+        segmentFor(h).put(key, h, deadlineNanos, onExpire);
+        evictOverflow();
+    }
+
+    /**
+     * 만료 시점을 지정한 항목들을 한꺼번에 넣습니다. 불러오기용.
+     * 항목을 세그먼트별로 나눈 뒤 세그먼트마다 잠금을 한 번만 잡고, 필요한 크기로 한 번에 늘립니다.
+     * @param count keys/deadlines 앞쪽에서 사용할 항목 수
+     */
+    void restoreAll(String[] keys, long[] deadlines, int count) {
+        int[] hashes = new int[count];
+        int[] starts = new int[SEGMENT_COUNT + 1];
+        for (int i = 0; i < count; i++) {
+            hashes[i] = hash(keys[i]);
+            starts[(hashes[i] >>> (32 - SEGMENT_BITS)) + 1]++;
+        }
+        for (int i = 0; i < SEGMENT_COUNT; i++) {
+            starts[i + 1] += starts[i];
+        }
+        int[] order = new int[count];
+        int[] next = Arrays.copyOf(starts, SEGMENT_COUNT);
+        for (int i = 0; i < count; i++) {
+            order[next[hashes[i] >>> (32 - SEGMENT_BITS)]++] = i;
+        }
+        for (int i = 0; i < SEGMENT_COUNT; i++) {
+            if (starts[i] < starts[i + 1]) {
+                segments[i].putAll(keys, deadlines, hashes, order, starts[i], starts[i + 1]);
+            }
+        }
+        evictOverflow();
+    }
+
+    /**
+     * 여러 키에 같은 쿨타임을 설정합니다. 시계는 한 번만 읽습니다.
+     */
+    void setAll(Collection<String> keys, long durationNanos) {
+        long deadline = timeSource.nanoTime() + durationNanos;
+        for (String key : keys) {
+            int h = hash(key);
+            segmentFor(h).put(key, h, deadline, null);
+            evictOverflow();
+        }
+    }
+
+    /**
+     * 여러 키의 쿨타임을 한 시점 기준으로 확인합니다.
+     * @return 순서대로 i번째 키의 쿨타임이 끝났으면 i번째 비트가 켜진 BitSet
+     */
+    BitSet overAll(Iterable<String> keys) {
+        long now = timeSource.nanoTime();
+        BitSet over = new BitSet();
+        int index = 0;
+        for (String key : keys) {
+            int h = hash(key);
+            if (segmentFor(h).remaining(key, h, now) == 0) {
+                over.set(index);
+            }
+            index++;
+        }
+        return over;
+    }
+
+    void removeAll(Collection<String> keys) {
+        for (String key : keys) {
+            remove(key);
+        }
+    }
+
+    boolean isOver(String key) {
+        return remainingNanos(key) == 0;
+    }
+
+    /**
+     * 남은 시간을 반환합니다.
+     * @return 남은 시간(나노초), 없거나 만료되었으면 0
+     */
+    long remainingNanos(String key) {
+        int h = hash(key);
+        return segmentFor(h).remaining(key, h, timeSource.nanoTime());
+    }
+
+    void remove(String key) {
+        int h = hash(key);
+        segmentFor(h).remove(key, h);
+    }
+
+    int size() {
+        return count.get();
+    }
+
+    /**
+     * 모든 항목을 지웁니다. 지운 항목의 콜백은 버려집니다.
+     */
+    void clear() {
+        for (Segment segment : segments) {
+            segment.clear();
+        }
+    }
+
+    /**
+     * 아직 만료되지 않은 항목의 키와 now 기준 남은 시간(나노초)을 차례로 전달합니다. 저장용.
+     * 세그먼트마다 읽기 잠금을 잡은 채 전달하므로 visitor는 짧아야 합니다.
+     * @param now 기준 시점 (TimeSource 기준)
+     */
+    void forEachActive(long now, ObjLongConsumer<String> visitor) {
+        for (Segment segment : segments) {
+            segment.forEachActive(now, visitor);
+        }
+    }
+
+    /**
+     * 만료된 항목을 제거합니다. 만료된 항목이 없으면 세그먼트마다 힙 맨 앞만 잠금 없이 확인하고 끝납니다.
+     * 제거된 항목의 키와 콜백(없으면 null)은 잠금을 푼 뒤 만료 순서대로 expired에 전달됩니다.
+     * @return 제거된 항목 수
+     */
+    int sweep(BiConsumer<String, Runnable> expired) {
+        long now = timeSource.nanoTime();
+        List<Expired> removed = null;
+        for (Segment segment : segments) {
+            if (segment.hasExpired(now)) {
+                if (removed == null) {
+                    removed = new ArrayList<>();
+                }
+                segment.sweep(now, removed);
+            }
+        }
+        rollEvictionWindow(now);
+        if (removed == null) {
+            return 0;
+        }
+        removed.sort(Comparator.comparingLong(entry -> entry.deadlineNanos - now));
+        for (Expired entry : removed) {
+            expired.accept(entry.key, entry.onExpire);
+        }
+        return removed.size();
+    }
+
+    /**
+     * 현재 항목 수, 사용 중인 메모리 추정치, 상한 때문에 밀려난 항목 수를 반환합니다.
+     * 밀려남 빈도는 마지막으로 끝난 1분 창의 평균이며, 첫 창이 끝나기 전에는 지금까지의 평균입니다.
+     * 조회하는 횟수나 간격과 상관없이 같은 값을 돌려줍니다.
+     */
+    synchronized CooldownStats stats() {
+        int live = 0;
+        long bytes = 0;
+        for (Segment segment : segments) {
+            long stamp = segment.lock.readLock();
+            try {
+                live += segment.size;
+                bytes += segment.bytesUsed();
+            } finally {
+                segment.lock.unlockRead(stamp);
+            }
+        }
+        long now = timeSource.nanoTime();
+        rollEvictionWindow(now);
+        long evicted = evictions.sum();
+        double rate = lastWindowRate;
+        if (rate < 0) {
+            long elapsed = now - windowStart;
+            rate = elapsed > 0 ? (evicted - windowEvictions) * 1_000_000_000.0 / elapsed : 0.0;
+        }
+        return new CooldownStats(live, bytes, maxEntries, evicted, rate);
+    }
+
+    // 창이 끝났으면 그 창의 평균을 남기고 새 창을 엽니다. sweep()이 매번 불러 조회가 없어도 창이 넘어갑니다
+    private synchronized void rollEvictionWindow(long now) {
+        long elapsed = now - windowStart;
+        if (elapsed < EVICTION_WINDOW_NANOS) {
+            return;
+        }
+        long evicted = evictions.sum();
+        lastWindowRate = (evicted - windowEvictions) * 1_000_000_000.0 / elapsed;
+        windowStart = now;
+        windowEvictions = evicted;
+    }
+
+    // 상한을 넘은 만큼 전체에서 가장 먼저 만료될 항목을 밀어냅니다.
+    // 세그먼트 잠금을 잡지 않은 채 부르므로 두 세그먼트 잠금을 동시에 잡는 일이 없습니다
+    private void evictOverflow() {
+        int max;
+        while ((max = maxEntries) > 0 && count.get() > max) {
+            Segment soonest = null;
+            long soonestDeadline = 0;
+            for (Segment segment : segments) {
+                long stamp = segment.lock.tryOptimisticRead();
+                Table t = segment.table;
+                boolean present = segment.size > 0;
+                long deadline = present ? t.deadlines[t.heap[0]] : 0;
+                if (!segment.lock.validate(stamp)) {
+                    stamp = segment.lock.readLock();
+                    try {
+                        present = segment.size > 0;
+                        deadline = present ? segment.table.deadlines[segment.table.heap[0]] : 0;
+                    } finally {
+                        segment.lock.unlockRead(stamp);
+                    }
+                }
+                if (present && (soonest == null || deadline - soonestDeadline < 0)) {
+                    soonest = segment;
+                    soonestDeadline = deadline;
+                }
+            }
+            if (soonest == null) {
+                return;
+            }
+            if (soonest.evictHead(max)) {
+                evictions.increment();
+            }
+        }
+    }
+
+    private Segment segmentFor(int h) {
+        return segments[h >>> (32 - SEGMENT_BITS)];
+    }
+
+    // 상위 비트는 세그먼트, 하위 비트는 슬롯을 고르는 데 쓰므로 곱셈으로 고르게 섞습니다
+    private static int hash(String key) {
+        int h = key.hashCode() * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    // 문자열 객체 + Latin-1 byte[] 크기 추정 (8바이트 정렬)
+    private static long keyBytes(String key) {
+        return 24 + ((16 + key.length() + 7) & ~7L);
+    }
+
+    private static final class Segment {
+        private final StampedLock lock = new StampedLock();
+        private final AtomicInteger total; // 저장소 전체 항목 수
+        private Table table = new Table(INITIAL_CAPACITY);
+        private int size;
+        private long keyBytes;
+
+        Segment(AtomicInteger total) {
+            this.total = total;
+        }
+
+        long remaining(String key, int h, long now) {
+            long stamp = lock.tryOptimisticRead();
+            if (stamp != 0) {
+                long remaining = remainingIn(table, key, h, now);
+                if (lock.validate(stamp)) {
+                    return remaining;
+                }
+            }
+            stamp = lock.readLock();
+            try {
+                return remainingIn(table, key, h, now);
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+
+        private static long remainingIn(Table t, String key, int h, long now) {
+            int slot = t.find(key, h);
+            if (slot < 0) {
+                return 0;
+            }
+            long remaining = t.deadlines[slot] - now;
+            return remaining > 0 ? remaining : 0;
+        }
+
+        void put(String key, int h, long deadline, Runnable onExpire) {
+            long stamp = lock.writeLock();
+            try {
+                putLocked(key, h, deadline, onExpire);
+            } finally {
+                lock.unlockWrite(stamp);
+            }
+        }
+
+        void putAll(String[] keys, long[] deadlines, int[] hashes, int[] order, int from, int to) {
+            long stamp = lock.writeLock();
+            try {
+                int required = size + (to - from);
+                if (required * 4L > table.keys.length * 3L) {
+                    resize(Integer.highestOneBit(Math.max(1, required * 4 / 3)) << 1);
+                }
+                for (int i = from; i < to; i++) {
+                    int index = order[i];
+                    putLocked(keys[index], hashes[index], deadlines[index], null);
+                }
+            } finally {
+                lock.unlockWrite(stamp);
+            }
+        }
+
+        private void putLocked(String key, int h, long deadline, Runnable onExpire) {
+            Table t = table;
+            int slot = t.find(key, h);
+            if (slot >= 0) {
+                long previous = t.deadlines[slot];
+                t.deadlines[slot] = deadline;
+                t.setCallback(slot, onExpire);
+                int position = t.heapIndex[slot];
+                if (deadline - previous < 0) {
+                    t.siftUp(position);
+                } else {
+                    t.siftDown(position, size);
+                }
+                return;
+            }
+            if ((size + 1) * 4 > t.keys.length * 3) {
+                t = resize(t.keys.length << 1);
+            }
+            slot = t.freeSlot(h);
+            t.keys[slot] = key;
+            t.deadlines[slot] = deadline;
+            t.setCallback(slot, onExpire);
+            t.heap[size] = slot;
+            t.heapIndex[slot] = size;
+            t.siftUp(size++);
+            total.incrementAndGet();
+            keyBytes += keyBytes(key);
+        }
+
+        // 전체 항목 수가 아직 max를 넘으면 힙 맨 앞(방금 넣은 항목일 수도 있습니다)을 밀어냅니다
+        boolean evictHead(int max) {
+            long stamp = lock.writeLock();
+            try {
+                if (size == 0 || total.get() <= max) {
+                    return false;
+                }
+                removeSlot(table, table.heap[0]);
+                shrinkIfSparse();
+                return true;
+            } finally {
+                lock.unlockWrite(stamp);
+            }
+        }
+
+        void remove(String key, int h) {
+            long stamp = lock.writeLock();
+            try {
+                int slot = table.find(key, h);
+                if (slot >= 0) {
+                    removeSlot(table, slot);
+                    shrinkIfSparse();
+                }
+            } finally {
+                lock.unlockWrite(stamp);
+            }
+        }
+
+        void clear() {
+            long stamp = lock.writeLock();
+            try {
+                total.addAndGet(-size);
+                table = new Table(INITIAL_CAPACITY);
+                size = 0;
+                keyBytes = 0;
+            } finally {
+                lock.unlockWrite(stamp);
+            }
+        }
+
+        boolean hasExpired(long now) {
+            long stamp = lock.tryOptimisticRead();
+            if (stamp != 0) {
+                Table t = table;
+                int count = size;
+                boolean expired = count > 0 && now - t.deadlines[t.heap[0]] >= 0;
+                if (lock.validate(stamp)) {
+                    return expired;
+                }
+            }
+            stamp = lock.readLock();
+            try {
+                return size > 0 && now - table.deadlines[table.heap[0]] >= 0;
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+
+        void sweep(long now, List<Expired> removed) {
+            long stamp = lock.writeLock();
+            try {
+                Table t = table;
+                while (size > 0) {
+                    int slot = t.heap[0];
+                    long deadline = t.deadlines[slot];
+                    if (now - deadline < 0) {
+                        break;
+                    }
+                    removed.add(new Expired(t.keys[slot], deadline, t.callbacks != null ? t.callbacks[slot] : null));
+                    removeSlot(t, slot);
+                }
+                shrinkIfSparse();
+            } finally {
+                lock.unlockWrite(stamp);
+            }
+        }
+
+        void forEachActive(long now, ObjLongConsumer<String> visitor) {
+            long stamp = lock.readLock();
+            try {
+                Table t = table;
+                for (int i = 0; i < size; i++) {
+                    int slot = t.heap[i];
+                    long remaining = t.deadlines[slot] - now;
+                    if (remaining > 0) {
+                        visitor.accept(t.keys[slot], remaining);
+                    }
+                }
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+
+        long bytesUsed() {
+            return table.bytesUsed() + keyBytes;
+        }
+
+        // 힙에서 빼고, 뒤따르는 탐사 묶음을 당겨 빈자리를 메웁니다 (삭제 표시를 남기지 않음)
+        private void removeSlot(Table t, int slot) {
+            int position = t.heapIndex[slot];
+            int last = --size;
+            total.decrementAndGet();
+            if (position != last) {
+                int moved = t.heap[last];
+                t.heap[position] = moved;
+                t.heapIndex[moved] = position;
+                t.siftDown(position, size);
+                t.siftUp(t.heapIndex[moved]);
+            }
+            keyBytes -= keyBytes(t.keys[slot]);
+
+            int mask = t.mask;
+            int hole = slot;
+            t.clear(hole);
+            for (int i = (hole + 1) & mask; t.keys[i] != null; i = (i + 1) & mask) {
+                int home = hash(t.keys[i]) & mask;
+                // 원래 자리에서 i까지의 거리가 빈자리에서 i까지보다 멀거나 같으면 빈자리로 옮겨도 찾을 수 있습니다
+                if (((i - home) & mask) >= ((i - hole) & mask)) {
+                    t.move(i, hole);
+                    hole = i;
+                }
+            }
+        }
+
+        private void shrinkIfSparse() {
+            int capacity = table.keys.length;
+            if (capacity > INITIAL_CAPACITY && size * 8 < capacity) {
+                resize(Math.max(INITIAL_CAPACITY, Integer.highestOneBit(Math.max(1, size * 4 - 1)) << 1));
+            }
+        }
+
+        // 힙 순서를 그대로 옮기므로 힙을 다시 만들 필요가 없습니다
+        private Table resize(int capacity) {
+            Table old = table;
+            Table t = new Table(capacity);
+            for (int position = 0; position < size; position++) {
+                int from = old.heap[position];
+                String key = old.keys[from];
+                int to = t.freeSlot(hash(key));
+                t.keys[to] = key;
+                t.deadlines[to] = old.deadlines[from];
+                if (old.callbacks != null) {
+                    t.setCallback(to, old.callbacks[from]);
+                }
+                t.heap[position] = to;
+                t.heapIndex[to] = position;
+            }
+            table = t;
+            return t;
+        }
+    }
+
+    // 크기가 바뀔 때만 통째로 교체되므로, 낙관적 읽기 중에도 배열 길이는 서로 일치합니다
+    private static final class Table {
+        private final int mask;
+        private final String[] keys; // null이면 빈 슬롯
+        private final long[] deadlines;
+        private final int[] heapIndex; // 슬롯 → 힙 위치
+        private final int[] heap; // 힙 위치 → 슬롯
+        private Runnable[] callbacks; // 콜백이 처음 설정될 때 만듭니다
+
+        private Table(int capacity) {
+            this.mask = capacity - 1;
+            this.keys = new String[capacity];
+            this.deadlines = new long[capacity];
+            this.heapIndex = new int[capacity];
+            this.heap = new int[capacity];
+        }
+
+        int find(String key, int h) {
+            String[] keys = this.keys;
+            int mask = keys.length - 1;
+            for (int i = h & mask, probes = 0; probes <= mask; i = (i + 1) & mask, probes++) {
+                String candidate = keys[i];
+                if (candidate == null) {
+                    return -1;
+                }
+                if (candidate == key || candidate.equals(key)) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        int freeSlot(int h) {
+            int i = h & mask;
+            while (keys[i] != null) {
+                i = (i + 1) & mask;
+            }
+            return i;
+        }
+
+        void setCallback(int slot, Runnable onExpire) {
+            if (callbacks == null) {
+                if (onExpire == null) {
+                    return;
+                }
+                callbacks = new Runnable[keys.length];
+            }
+            callbacks[slot] = onExpire;
+        }
+
+        void clear(int slot) {
+            keys[slot] = null;
+            if (callbacks != null) {
+                callbacks[slot] = null;
+            }
+        }
+
+        void move(int from, int to) {
+            keys[to] = keys[from];
+            deadlines[to] = deadlines[from];
+            if (callbacks != null) {
+                callbacks[to] = callbacks[from];
+            }
+            int position = heapIndex[from];
+            heapIndex[to] = position;
+            heap[position] = to;
+            clear(from);
+        }
+
+        void siftUp(int position) {
+            int slot = heap[position];
+            long deadline = deadlines[slot];
+            while (position > 0) {
+                int parent = (position - 1) >>> 1;
+                int parentSlot = heap[parent];
+                if (deadline - deadlines[parentSlot] >= 0) {
+                    break;
+                }
+                heap[position] = parentSlot;
+                heapIndex[parentSlot] = position;
+                position = parent;
+            }
+            heap[position] = slot;
+            heapIndex[slot] = position;
+        }
+
+        void siftDown(int position, int size) {
+            int slot = heap[position];
+            long deadline = deadlines[slot];
+            int half = size >>> 1;
+            while (position < half) {
+                int child = (position << 1) + 1;
+                int childSlot = heap[child];
+                int right = child + 1;
+                if (right < size && deadlines[heap[right]] - deadlines[childSlot] < 0) {
+                    child = right;
+                    childSlot = heap[right];
+                }
+                if (deadline - deadlines[childSlot] <= 0) {
+                    break;
+                }
+                heap[position] = childSlot;
+                heapIndex[childSlot] = position;
+                position = child;
+            }
+            heap[position] = slot;
+            heapIndex[slot] = position;
+        }
+
+        // 배열 헤더 16바이트, 참조는 압축 포인터 4바이트로 추정합니다
+        long bytesUsed() {
+            long capacity = keys.length;
+            long bytes = (16 + capacity * 4) + (16 + capacity * 8) + (16 + capacity * 4) * 2;
+            if (callbacks != null) {
+                bytes += 16 + capacity * 4;
+            }
+            return bytes;
+        }
+    }
+
+    private static final class Expired {
+        private final String key;
+        private final long deadlineNanos;
+        private final Runnable onExpire;
+
+        private Expired(String key, long deadlineNanos, Runnable onExpire) {
+            this.key = key;
+            this.deadlineNanos = deadlineNanos;
+            this.onExpire = onExpire;
+        }
+    }
+}
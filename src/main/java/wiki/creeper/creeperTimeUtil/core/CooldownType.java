@@ -0,0 +1,71 @@
+package wiki.creeper.creeperTimeUtil.core;
+
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 플레이어 쿨타임 종류 - 이름마다 하나의 인스턴스와 0부터 시작하는 번호가 부여됩니다.
+ * 번호는 플레이어별 쿨타임 배열의 칸 번호로 쓰이므로, 자주 쓰는 종류는 상수로 받아 두고 재사용하세요.
+ * <pre>
+ * private static final CooldownType DASH = CooldownType.of("dash");
+ * </pre>
+ */
+public final class CooldownType {
+    private static final ConcurrentHashMap<String, CooldownType> BY_NAME = new ConcurrentHashMap<>();
+    private static volatile CooldownType[] byId = new CooldownType[0];
+
+    private final String name;
+    private final int id;
+
+    private CooldownType(String name, int id) {
+        this.name = name;
+        this.id = id;
+    }
+
+    /**
+     * 이름에 해당하는 쿨타임 종류를 반환합니다. 처음 보는 이름이면 새 번호를 부여합니다.
+     * @param name 쿨타임 종류 이름
+     * @return 쿨타임 종류
+     */
+    public static CooldownType of(String name) {
+        CooldownType type = BY_NAME.get(name);
+        return type != null ? type : register(name);
+    }
+
+    private static synchronized CooldownType register(String name) {
+        CooldownType type = BY_NAME.get(name);
+        if (type != null) {
+            return type;
+        }
+        CooldownType[] types = byId;
+        type = new CooldownType(name, types.length);
+        CooldownType[] grown = Arrays.copyOf(types, types.length + 1);
+        grown[type.id] = type;
+        byId = grown;
+        BY_NAME.put(name, type);
+        return type;
+    }
+
+    /**
+     * 번호에 해당하는 쿨타임 종류를 반환합니다.
+     * @param id 번호
+     * @return 쿨타임 종류, 없으면 null
+     */
+    static CooldownType byId(int id) {
+        CooldownType[] types = byId;
+        return id >= 0 && id < types.length ? types[id] : null;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getId() {
+        return id;
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+}
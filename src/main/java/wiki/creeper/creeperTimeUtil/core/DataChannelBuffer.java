@@ -0,0 +1,236 @@
+package wiki.creeper.creeperTimeUtil.core;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.CRC32;
+
+/**
+ * 채널 입출력용 재사용 직접 버퍼
+ *
+ * 쓰기는 버퍼가 찰 때마다 채널로 흘려보내고(스트리밍), 읽기는 버퍼가 빌 때마다 채널에서 채웁니다.
+ * 정수와 문자열은 버퍼에 직접 넣고 빼므로, 값마다 시스템 호출이나 동기화된 스트림 메소드를 거치지 않습니다.
+ * 쓰는 동안 흘려보낸 바이트는 모두 CRC32에 누적됩니다. 한 번에 한 스레드만 쓸 수 있습니다.
+ */
+final class DataChannelBuffer {
+    static final int DEFAULT_CAPACITY = 1 << 20;
+    private static final int MAX_VARLONG_BYTES = 10;
+
+    private final ByteBuffer buffer;
+    private final CRC32 crc = new CRC32();
+    private byte[] scratch = new byte[256];
+    private WritableByteChannel out;
+    private ReadableByteChannel in;
+
+    DataChannelBuffer(int capacity) {
+        this.buffer = ByteBuffer.allocateDirect(capacity);
+    }
+
+    // ===== 쓰기 =====
+
+    void beginWrite(WritableByteChannel channel) {
+        this.out = channel;
+        this.in = null;
+        buffer.clear();
+        crc.reset();
+    }
+
+    void putInt(int value) throws IOException {
+        ensureWritable(4);
+        buffer.putInt(value);
+    }
+
+    void putLong(long value) throws IOException {
+        ensureWritable(8);
+        buffer.putLong(value);
+    }
+
+    void putVarLong(long value) throws IOException {
+        ensureWritable(MAX_VARLONG_BYTES);
+        while ((value & ~0x7FL) != 0) {
+            buffer.put((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        buffer.put((byte) value);
+    }
+
+    /**
+     * varint 길이 + UTF-8 바이트로 씁니다. ASCII 문자열은 중간 배열 없이 버퍼에 바로 넣습니다.
+     */
+    void putString(String value) throws IOException {
+        int length = value.length();
+        if (length + MAX_VARLONG_BYTES <= buffer.capacity()) {
+            ensureWritable(length + MAX_VARLONG_BYTES);
+            int start = buffer.position();
+            putVarLong(length);
+            int i = 0;
+            for (; i < length; i++) {
+                char c = value.charAt(i);
+                if (c >= 0x80) {
+                    break;
+                }
+                buffer.put((byte) c);
+            }
+            if (i == length) {
+                return;
+            }
+            buffer.position(start); // ASCII가 아니면 되돌리고 인코딩합니다
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        putVarLong(bytes.length);
+        putBytes(bytes, 0, bytes.length);
+    }
+
+    void putBytes(byte[] bytes, int offset, int length) throws IOException {
+        while (length > 0) {
+            ensureWritable(1);
+            int chunk = Math.min(length, buffer.remaining());
+            buffer.put(bytes, offset, chunk);
+            offset += chunk;
+            length -= chunk;
+        }
+    }
+
+    /**
+     * 남은 내용을 흘려보내고, 필요하면 지금까지 쓴 모든 바이트의 CRC32를 덧붙입니다.
+     */
+    void endWrite(boolean appendChecksum) throws IOException {
+        drain();
+        if (appendChecksum) {
+            buffer.putInt((int) crc.getValue());
+            buffer.flip();
+            writeFully();
+        }
+        out = null;
+    }
+
+    private void ensureWritable(int bytes) throws IOException {
+        if (buffer.remaining() < bytes) {
+            drain();
+        }
+    }
+
+    private void drain() throws IOException {
+        buffer.flip();
+        int start = buffer.position();
+        crc.update(buffer);
+        buffer.position(start);
+        writeFully();
+    }
+
+    private void writeFully() throws IOException {
+        while (buffer.hasRemaining()) {
+            out.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    // ===== 읽기 =====
+
+    void beginRead(ReadableByteChannel channel) {
+        this.in = channel;
+        this.out = null;
+        buffer.clear();
+        buffer.flip(); // 빈 상태에서 시작
+    }
+
+    int getInt() throws IOException {
+        ensureReadable(4);
+        return buffer.getInt();
+    }
+
+    long getLong() throws IOException {
+        ensureReadable(8);
+        return buffer.getLong();
+    }
+
+    long getVarLong() throws IOException {
+        if (buffer.remaining() < MAX_VARLONG_BYTES) {
+            fill(MAX_VARLONG_BYTES, false);
+        }
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            ensureReadable(1);
+            int b = buffer.get();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("잘못된 varint");
+    }
+
+    String getString() throws IOException {
+        long length = getVarLong();
+        if (length < 0 || length > Integer.MAX_VALUE) {
+            throw new IOException("잘못된 문자열 길이: " + length);
+        }
+        int size = (int) length;
+        if (size <= buffer.capacity()) {
+            ensureReadable(size);
+            if (scratch.length < size) {
+                scratch = new byte[Math.max(size, scratch.length * 2)];
+            }
+            buffer.get(scratch, 0, size);
+            return new String(scratch, 0, size, StandardCharsets.UTF_8);
+        }
+        byte[] bytes = new byte[size];
+        for (int offset = 0; offset < size; ) {
+            ensureReadable(1);
+            int chunk = Math.min(size - offset, buffer.remaining());
+            buffer.get(bytes, offset, chunk);
+            offset += chunk;
+        }
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    void endRead() {
+        in = null;
+    }
+
+    private void ensureReadable(int bytes) throws IOException {
+        if (buffer.remaining() < bytes) {
+            fill(bytes, true);
+        }
+    }
+
+    // 남은 바이트를 앞으로 당기고 채널에서 더 읽어 옵니다. required가 false면 파일 끝에서 멈춰도 됩니다
+    private void fill(int bytes, boolean required) throws IOException {
+        buffer.compact();
+        try {
+            while (buffer.position() < bytes) {
+                if (in.read(buffer) < 0) {
+                    if (required) {
+                        throw new EOFException();
+                    }
+                    return;
+                }
+            }
+        } finally {
+            buffer.flip();
+        }
+    }
+
+    /**
+     * 채널의 다음 length 바이트에 대한 CRC32를 계산합니다. 검증용으로, 읽은 내용은 버립니다.
+     */
+    int checksum(ReadableByteChannel channel, long length) throws IOException {
+        CRC32 sum = new CRC32();
+        buffer.clear();
+        while (length > 0) {
+            buffer.limit((int) Math.min(buffer.capacity(), length));
+            int read = channel.read(buffer);
+            if (read < 0) {
+                throw new EOFException();
+            }
+            buffer.flip();
+            sum.update(buffer);
+            buffer.clear();
+            length -= read;
+        }
+        return (int) sum.getValue();
+    }
+}
@@ -0,0 +1,108 @@
+package wiki.creeper.creeperTimeUtil.core;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * 데이터 폴더의 파일 저장소 - 커널 상태는 timedata.dat(직전 세대는 .bak), 플레이 시간은 playtime/ 샤드 파일
+ */
+final class FlatFileStorage implements TimeStorage {
+    static final String DATA_FILE_NAME = "timedata.dat";
+
+    private final File dataFile;
+    private final File backupFile;
+    private final File tempFile;
+    private final Logger logger;
+    private final PlayerTimeShards playTimes;
+
+    FlatFileStorage(File dataFolder, Logger logger) {
+        this.dataFile = new File(dataFolder, DATA_FILE_NAME);
+        this.backupFile = new File(dataFolder, DATA_FILE_NAME + TimeDataFile.BACKUP_SUFFIX);
+        this.tempFile = new File(dataFolder, DATA_FILE_NAME + TimeDataFile.TEMP_SUFFIX);
+        this.logger = logger;
+        this.playTimes = new PlayerTimeShards(new File(dataFolder, PlayerTimeShards.DIRECTORY_NAME), logger);
+    }
+
+    @Override
+    public String name() {
+        return "파일";
+    }
+
+    boolean hasState() {
+        return dataFile.exists() || backupFile.exists();
+    }
+
+    // 이전 형식 파일도 그대로 읽히며, 다음 저장 때 새 형식으로 바뀝니다
+    // 본 파일이 없거나 손상되었으면 직전 세대(.bak)에서 불러옵니다
+    @Override
+    public TimeDataFile.LoadResult loadState(DataChannelBuffer io, CooldownStore cooldowns, PlayerCooldowns playerCooldowns,
+                                             GameCooldownStore gameCooldowns, Map<String, Long> gameTimeCooldowns) throws IOException {
+        // 저장 도중 중단되어 남은 임시 파일은 완전하지 않을 수 있으므로 버립니다
+        tempFile.delete();
+        
+        IOException failure = null;
+        for (File file : new File[] {dataFile, backupFile}) {
+            if (!file.exists()) {
+                continue;
+            }
+            try {
+                TimeDataFile.LoadResult loaded = TimeDataFile.read(file, io, cooldowns, playerCooldowns, gameCooldowns, gameTimeCooldowns);
+                if (file == backupFile) {
+                    logger.warning("시간 데이터를 백업 파일에서 복구했습니다: " + file.getName());
+                }
+                return loaded;
+            } catch (IOException e) {
+                logger.log(Level.SEVERE, "시간 데이터 로드 실패: " + file.getName(), e);
+                failure = e;
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+        return null;
+    }
+
+    @Override
+    public void saveState(DataChannelBuffer io, TimeDataFile.Snapshot snapshot) throws IOException {
+        dataFile.getAbsoluteFile().getParentFile().mkdirs();
+        TimeDataFile.writeAtomically(dataFile, io, snapshot);
+    }
+
+    @Override
+    public boolean hasPlayTimes() {
+        return playTimes.exists();
+    }
+
+    /**
+     * 모든 플레이어의 누적 플레이 시간(ms)을 읽습니다. 다른 저장소로 옮길 때만 씁니다.
+     */
+    Map<UUID, Long> loadAllPlayTimes() throws IOException {
+        return playTimes.readAll();
+    }
+
+    @Override
+    public long loadPlayTime(UUID player) throws IOException {
+        return playTimes.read(player);
+    }
+
+    @Override
+    public void addPlayTimes(Map<UUID, Long> deltaMillis, Set<UUID> released) {
+        playTimes.update(deltaMillis, true, released);
+    }
+
+    @Override
+    public void putPlayTimes(Map<UUID, Long> totalMillis) {
+        playTimes.update(totalMillis, false, Collections.emptySet());
+    }
+
+    @Override
+    public void close() {
+        playTimes.close();
+    }
+}
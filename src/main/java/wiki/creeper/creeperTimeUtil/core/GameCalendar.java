@@ -0,0 +1,161 @@
+package wiki.creeper.creeperTimeUtil.core;
+
+import java.time.DayOfWeek;
+
+/**
+ * 서버 일차를 년/월/주/요일로 변환하는 달력
+ * 모든 일차는 1부터 시작합니다. 이벤트, API, 액션바 플레이스홀더가 모두 같은 달력을 사용합니다.
+ */
+public interface GameCalendar {
+
+    /**
+     * 기본 달력: 30일 × 12개월(360일), 1일차는 월요일, 주는 월요일에 시작, 윤년 없음
+     */
+    GameCalendar DEFAULT = TableCalendar.standard();
+
+    /**
+     * 현재 서버에서 사용 중인 달력을 반환합니다.
+     * @return TimeKernel의 달력, 초기화 전이면 기본 달력
+     */
+    static GameCalendar current() {
+        TimeKernel kernel = TimeKernel.getInstance();
+        return kernel != null ? kernel.getCalendar() : DEFAULT;
+    }
+
+    /**
+     * 1년의 월 수를 반환합니다.
+     * @return 월 수
+     */
+    int getMonthsPerYear();
+
+    /**
+     * 해당 연도가 윤년인지 확인합니다.
+     * @param year 년도 (1부터 시작)
+     * @return 윤년이면 true
+     */
+    boolean isLeapYear(int year);
+
+    /**
+     * 해당 월의 일수를 반환합니다.
+     * @param year 년도 (1부터 시작)
+     * @param month 월 (1부터 시작)
+     * @return 일수
+     */
+    int getMonthLength(int year, int month);
+
+    /**
+     * 해당 월 1일의 일차를 반환합니다.
+     * @param year 년도 (1부터 시작)
+     * @param month 월 (1부터 시작)
+     * @return 일차
+     */
+    int getFirstDayOfMonth(int year, int month);
+
+    /**
+     * 일차의 년도를 반환합니다.
+     * @param day 일차
+     * @return 년도 (1부터 시작)
+     */
+    int getYear(int day);
+
+    /**
+     * 일차의 월을 반환합니다.
+     * @param day 일차
+     * @return 월 (1부터 시작)
+     */
+    int getMonth(int day);
+
+    /**
+     * 일차가 그 달의 몇 번째 날인지 반환합니다.
+     * @param day 일차
+     * @return 일 (1부터 시작)
+     */
+    int getDayOfMonth(int day);
+
+    /**
+     * 일차가 그 해의 몇 번째 날인지 반환합니다.
+     * @param day 일차
+     * @return 일 (1부터 시작)
+     */
+    int getDayOfYear(int day);
+
+    /**
+     * 서버가 시작된 후 몇 번째 달인지 반환합니다.
+     * @param day 일차
+     * @return 경과 개월수 (0부터 시작)
+     */
+    int getMonthsSinceStart(int day);
+
+    /**
+     * 일차의 요일을 반환합니다.
+     * @param day 일차
+     * @return 요일
+     */
+    DayOfWeek getDayOfWeek(int day);
+
+    /**
+     * 주가 시작되는 요일을 반환합니다.
+     * @return 주 시작 요일
+     */
+    DayOfWeek getWeekStart();
+
+    /**
+     * 일차가 속한 주차를 반환합니다. 1일차가 속한 주가 1주차입니다.
+     * @param day 일차
+     * @return 주차 (1부터 시작)
+     */
+    int getWeek(int day);
+
+    /**
+     * 일차가 속한 주의 첫날(주 시작 요일)의 일차를 반환합니다.
+     * 1주차가 1일차보다 앞에서 시작하면 1보다 작은 값일 수 있습니다.
+     * @param day 일차
+     * @return 주 첫날의 일차
+     */
+    int getFirstDayOfWeek(int day);
+
+    /**
+     * 일차가 그 달의 첫날인지 확인합니다.
+     * @param day 일차
+     * @return 첫날이면 true
+     */
+    default boolean isMonthStart(int day) {
+        return getDayOfMonth(day) == 1;
+    }
+
+    /**
+     * 일차가 주의 첫날인지 확인합니다.
+     * @param day 일차
+     * @return 첫날이면 true
+     */
+    default boolean isWeekStart(int day) {
+        return getFirstDayOfWeek(day) == day;
+    }
+
+    /**
+     * 일차가 속한 달의 첫날 일차를 반환합니다.
+     * @param day 일차
+     * @return 그 달 1일의 일차
+     */
+    default int getMonthStartOf(int day) {
+        return day - getDayOfMonth(day) + 1;
+    }
+
+    /**
+     * 일차 다음에 오는 첫 달의 1일 일차를 반환합니다.
+     * @param day 일차
+     * @return 다음 달 1일의 일차
+     */
+    default int getNextMonthStart(int day) {
+        return getMonthStartOf(day) + getMonthLength(getYear(day), getMonth(day));
+    }
+
+    /**
+     * 일차 다음에 오는 첫 주의 첫날 일차를 반환합니다.
+     * @param day 일차
+     * @return 다음 주 첫날의 일차
+     */
+    default int getNextWeekStart(int day) {
+        return getFirstDayOfWeek(day) + 7;
+    }
+}
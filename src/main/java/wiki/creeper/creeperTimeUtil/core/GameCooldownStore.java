@@ -0,0 +1,80 @@
+package wiki.creeper.creeperTimeUtil.core;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.ToLongFunction;
+
+/**
+ * 게임 시간 쿨타임 저장소 - 범위(서버 또는 월드 이름)마다 키별 만료 시점(게임 분)을 보관합니다.
+ *
+ * 만료 시점은 그 범위의 시계 기준 절대값이므로, 확인은 발행된 시계 값과의 정수 비교 한 번입니다.
+ * 게임 시계는 pauseTime() 동안 멈추므로 쿨타임도 함께 멈춥니다.
+ */
+final class GameCooldownStore {
+    /** 서버 시계 범위 */
+    static final String SERVER_SCOPE = "";
+
+    private final ConcurrentHashMap<String, ConcurrentHashMap<String, Long>> scopes = new ConcurrentHashMap<>();
+
+    void set(String scope, String key, long deadlineMinutes) {
+        scopes.computeIfAbsent(scope, name -> new ConcurrentHashMap<>()).put(key, deadlineMinutes);
+    }
+
+    boolean isOver(String scope, String key, long nowMinutes) {
+        Long deadline = lookup(scope, key);
+        return deadline == null || nowMinutes >= deadline;
+    }
+
+    /**
+     * @return 남은 시간(게임 분), 없거나 만료되었으면 0
+     */
+    long remaining(String scope, String key, long nowMinutes) {
+        Long deadline = lookup(scope, key);
+        return deadline == null ? 0 : Math.max(0, deadline - nowMinutes);
+    }
+
+    void remove(String scope, String key) {
+        Map<String, Long> entries = scopes.get(scope);
+        if (entries != null) {
+            entries.remove(key);
+        }
+    }
+
+    private Long lookup(String scope, String key) {
+        Map<String, Long> entries = scopes.get(scope);
+        return entries != null ? entries.get(key) : null;
+    }
+
+    /**
+     * 모든 범위의 항목을 지웁니다.
+     */
+    void clear() {
+        scopes.clear();
+    }
+
+    int size() {
+        int size = 0;
+        for (Map<String, Long> entries : scopes.values()) {
+            size += entries.size();
+        }
+        return size;
+    }
+
+    /**
+     * 범위마다 현재 시각을 한 번 구해 만료된 항목을 제거합니다.
+     * @param nowOf 범위 이름 → 그 범위의 현재 시각(게임 분)
+     */
+    void sweep(ToLongFunction<String> nowOf) {
+        for (Map.Entry<String, ConcurrentHashMap<String, Long>> scope : scopes.entrySet()) {
+            long now = nowOf.applyAsLong(scope.getKey());
+            scope.getValue().values().removeIf(deadline -> deadline <= now);
+        }
+    }
+
+    /**
+     * 범위별 항목을 그대로 돌려줍니다. 저장용.
+     */
+    Map<String, ConcurrentHashMap<String, Long>> scopes() {
+        return scopes;
+    }
+}
@@ -0,0 +1,61 @@
+package wiki.creeper.creeperTimeUtil.core;
+
+/**
+ * 게임 시간 기준으로 예약된 작업의 핸들
+ * ServerClockAPI.scheduleAt / scheduleEvery가 반환하며, cancel()로 언제든 취소할 수 있습니다.
+ */
+public final class GameTask {
+    final Runnable task;
+    final long periodMinutes;
+    final long sequence;
+    volatile long dueMinutes; // GameTimeScheduler 잠금 아래에서만 변경
+    GameTask next;   // 타이밍 휠 슬롯 연결 리스트
+
+    private volatile boolean cancelled;
+
+    GameTask(Runnable task, long dueMinutes, long periodMinutes, long sequence) {
+        this.task = task;
+        this.dueMinutes = dueMinutes;
+        this.periodMinutes = periodMinutes;
+        this.sequence = sequence;
+    }
+
+    /**
+     * 작업을 취소합니다. 반복 작업이면 이후 실행도 모두 취소됩니다.
+     */
+    public void cancel() {
+        cancelled = true;
+    }
+
+    /**
+     * 작업이 취소되었는지 확인합니다.
+     * @return 취소되었으면 true
+     */
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    /**
+     * 반복 작업인지 확인합니다.
+     * @return 반복 작업이면 true
+     */
+    public boolean isRepeating() {
+        return periodMinutes > 0;
+    }
+
+    /**
+     * 반복 주기를 반환합니다.
+     * @return 반복 주기(게임 시간 분), 한 번만 실행되는 작업이면 0
+     */
+    public long getPeriodMinutes() {
+        return periodMinutes;
+    }
+
+    /**
+     * 다음 실행 예정 시점을 반환합니다.
+     * @return 서버 누적 시간(분) 기준 실행 시점
+     */
+    public long getNextRunMinutes() {
+        return dueMinutes;
+    }
+}
@@ -0,0 +1,209 @@
+package wiki.creeper.creeperTimeUtil.core;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.BiConsumer;
+
+/**
+ * 게임 시간(분) 기준 작업 예약기 - 계층형 타이밍 휠
+ *
+ * 64칸짜리 휠 4단계(64^4분, 약 1만 1천 일)와 그보다 먼 작업을 위한 overflow 목록으로 구성됩니다.
+ * 작업은 실행 시점과 현재 시점이 처음으로 달라지는 자릿수(6비트 단위) 단계에 놓이고,
+ * 시간이 해당 칸의 시작에 도달하면 아래 단계로 내려옵니다. 따라서 한 분이 지날 때는
+ * 그 분에 실행될 작업과 내려올 칸만 건드립니다.
+ *
+ * 크게 건너뛰는 경우(setTime, 큰 지연)에는 모든 작업을 모아 한꺼번에 처리하며,
+ * 그 사이 놓친 반복 작업은 한 번만 실행한 뒤 도착 시점 이후의 다음 주기로 옮깁니다.
+ * 뒤로 돌아가는 경우에는 실행 없이 새 시점 기준으로 다시 배치합니다.
+ */
+final class GameTimeScheduler {
+    private static final int BITS = 6;
+    private static final int SLOTS = 1 << BITS;
+    private static final int MASK = SLOTS - 1;
+    private static final int LEVELS = 4;
+    // 이보다 크게 앞으로 건너뛰면 분 단위로 진행하지 않고 한꺼번에 처리합니다
+    private static final long MAX_STEP_MINUTES = 1440L;
+
+    private final GameTask[][] heads = new GameTask[LEVELS][SLOTS];
+    private final GameTask[][] tails = new GameTask[LEVELS][SLOTS];
+    private GameTask overflow;
+    private long now;
+    private long sequence;
+    private int size;
+
+    private final BiConsumer<GameTask, RuntimeException> errorHandler;
+
+    GameTimeScheduler(long now, BiConsumer<GameTask, RuntimeException> errorHandler) {
+        this.now = now;
+        this.errorHandler = errorHandler;
+    }
+
+    /**
+     * 작업을 예약합니다. 이미 지난 시점이면 다음 분에 실행됩니다.
+     * @param dueMinutes 실행 시점(분)
+     * @param periodMinutes 반복 주기(분), 한 번만 실행하려면 0
+     */
+    synchronized GameTask schedule(Runnable task, long dueMinutes, long periodMinutes) {
+        GameTask handle = new GameTask(task, Math.max(dueMinutes, now + 1), periodMinutes, sequence++);
+        insert(handle);
+        size++;
+        return handle;
+    }
+
+    /**
+     * 예약된 작업 수를 반환합니다. 취소되었지만 아직 정리되지 않은 작업도 포함됩니다.
+     */
+    synchronized int size() {
+        return size;
+    }
+
+    /**
+     * 시간을 target까지 진행하고 실행 시점이 된 작업을 실행합니다. 메인 스레드 전용.
+     * @param target 도착 시점(분)
+     */
+    void advanceTo(long target) {
+        List<GameTask> due;
+        synchronized (this) {
+            if (target == now) {
+                return;
+            }
+            if (target < now || target - now > MAX_STEP_MINUTES) {
+                due = rebase(target);
+            } else {
+                due = new ArrayList<>();
+                while (now < target) {
+                    step(due);
+                }
+            }
+        }
+        run(due);
+    }
+
+    // now를 1분 진행하며 내려올 칸을 내리고 이번 분의 칸을 비웁니다
+    private void step(List<GameTask> due) {
+        now++;
+        if ((now & ((1L << (BITS * LEVELS)) - 1)) == 0) {
+            GameTask list = overflow;
+            overflow = null;
+            reinsert(list, due);
+        }
+        for (int level = LEVELS - 1; level >= 1; level--) {
+            if ((now & ((1L << (BITS * level)) - 1)) == 0) {
+                int slot = (int) ((now >>> (BITS * level)) & MASK);
+                GameTask list = heads[level][slot];
+                heads[level][slot] = tails[level][slot] = null;
+                reinsert(list, due);
+            }
+        }
+        int slot = (int) (now & MASK);
+        GameTask list = heads[0][slot];
+        heads[0][slot] = tails[0][slot] = null;
+        reinsert(list, due);
+    }
+
+    // 목록의 작업을 다시 배치하고, 실행 시점이 된 작업은 due에 모읍니다
+    private void reinsert(GameTask list, List<GameTask> due) {
+        while (list != null) {
+            GameTask task = list;
+            list = list.next;
+            task.next = null;
+            if (task.isCancelled()) {
+                size--;
+            } else if (task.dueMinutes <= now) {
+                due.add(task);
+            } else {
+                insert(task);
+            }
+        }
+    }
+
+    // 모든 작업을 꺼내 target 기준으로 다시 배치하고, 앞으로 건너뛴 구간에서 실행 시점이 된 작업을 반환합니다
+    private List<GameTask> rebase(long target) {
+        boolean forward = target > now;
+        List<GameTask> all = new ArrayList<>();
+        for (int level = 0; level < LEVELS; level++) {
+            for (int slot = 0; slot < SLOTS; slot++) {
+                collect(heads[level][slot], all);
+                heads[level][slot] = tails[level][slot] = null;
+            }
+        }
+        collect(overflow, all);
+        overflow = null;
+        now = target;
+
+        List<GameTask> due = new ArrayList<>();
+        for (GameTask task : all) {
+            if (task.isCancelled()) {
+                size--;
+            } else if (forward && task.dueMinutes <= target) {
+                due.add(task);
+            } else {
+                // 뒤로 돌아간 경우 작업은 원래 시점을 유지한 채 그때까지 기다립니다
+                insert(task);
+            }
+        }
+        due.sort(Comparator.comparingLong((GameTask task) -> task.dueMinutes).thenComparingLong(task -> task.sequence));
+        return due;
+    }
+
+    private static void collect(GameTask list, List<GameTask> out) {
+        while (list != null) {
+            GameTask task = list;
+            list = list.next;
+            task.next = null;
+            out.add(task);
+        }
+    }
+
+    private void insert(GameTask task) {
+        long due = task.dueMinutes;
+        long diff = due ^ now;
+        int level = 0;
+        while (level < LEVELS && (diff >>> (BITS * (level + 1))) != 0) {
+            level++;
+        }
+        if (level == LEVELS) {
+            task.next = overflow;
+            overflow = task;
+            return;
+        }
+        int slot = (int) ((due >>> (BITS * level)) & MASK);
+        if (tails[level][slot] == null) {
+            heads[level][slot] = task;
+        } else {
+            tails[level][slot].next = task;
+        }
+        tails[level][slot] = task;
+    }
+
+    // 잠금 밖에서 실행하므로 작업 안에서 다른 작업을 예약/취소해도 안전합니다
+    private void run(List<GameTask> due) {
+        for (GameTask task : due) {
+            if (task.isCancelled()) {
+                synchronized (this) {
+                    size--;
+                }
+                continue;
+            }
+            try {
+                task.task.run();
+            } catch (RuntimeException e) {
+                errorHandler.accept(task, e);
+            }
+            synchronized (this) {
+                if (task.periodMinutes > 0 && !task.isCancelled()) {
+                    long next = task.dueMinutes + task.periodMinutes;
+                    if (next <= now) {
+                        // 건너뛴 구간에서 놓친 주기는 합쳐서 도착 시점 이후의 다음 주기로 옮깁니다
+                        next += ((now - next) / task.periodMinutes + 1) * task.periodMinutes;
+                    }
+                    task.dueMinutes = next;
+                    insert(task);
+                } else {
+                    size--;
+                }
+            }
+        }
+    }
+}
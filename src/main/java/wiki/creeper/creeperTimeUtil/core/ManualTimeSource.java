@@ -0,0 +1,41 @@
+package wiki.creeper.creeperTimeUtil.core;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 직접 값을 정하는 시계 - 테스트와 벤치마크에서 쿨타임 만료를 원하는 시점에 일으킬 때 사용합니다.
+ */
+public final class ManualTimeSource implements TimeSource {
+    private final AtomicLong now;
+
+    public ManualTimeSource() {
+        this(0L);
+    }
+
+    public ManualTimeSource(long startNanos) {
+        this.now = new AtomicLong(startNanos);
+    }
+
+    @Override
+    public long nanoTime() {
+        return now.get();
+    }
+
+    /**
+     * 시점을 지정합니다.
+     * @param nanos 나노초 단위 시점
+     */
+    public void set(long nanos) {
+        now.set(nanos);
+    }
+
+    /**
+     * 시계를 앞으로 진행합니다.
+     * @param amount 진행할 양
+     * @param unit 단위
+     */
+    public void advance(long amount, TimeUnit unit) {
+        now.addAndGet(unit.toNanos(amount));
+    }
+}
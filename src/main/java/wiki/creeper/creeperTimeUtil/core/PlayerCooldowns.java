@@ -0,0 +1,576 @@
+package wiki.creeper.creeperTimeUtil.core;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Function;
+
+/**
+ * 플레이어별 쿨타임 저장소 - (UUID, 쿨타임 종류 번호)를 키로 만료 시점을 보관합니다.
+ *
+ * 플레이어마다 종류 번호를 칸 번호로 쓰는 long 배열 하나를 두므로, 확인할 때는
+ * UUID 해시 조회 한 번과 배열 읽기만 하고 객체를 만들지 않습니다.
+ * 만료 시점은 생성 시점(origin) 기준 나노초이며 0은 쿨타임 없음을 뜻합니다.
+ *
+ * UUID 해시로 세그먼트를 고르고, 세그먼트마다 행 맵과 (행, 종류) 항목의 만료 시점 순 최소 힙을 둡니다.
+ * 힙 위치는 행에 기록되므로 다시 설정하면 제자리에서 올리거나 내리고, 제거하면 힙에서도 바로 빠집니다.
+ * 행을 만들고 지우는 일과 칸에 쓰는 일은 모두 세그먼트 잠금 아래에서 하므로 서로 엇갈리지 않으며,
+ * 조회는 잠금 없이 합니다.
+ *
+ * 접속 중이 아닌 플레이어(나갔거나 한 번도 접속하지 않은 플레이어)의 행은 쿨타임이 모두 만료되면 행째 제거됩니다.
+ */
+final class PlayerCooldowns {
+    private static final int SEGMENT_BITS = 4;
+    private static final int SEGMENT_COUNT = 1 << SEGMENT_BITS;
+    private static final int INITIAL_HEAP_CAPACITY = 16;
+    // 나간 플레이어 행을 정리하는 주기
+    private static final long DETACHED_SWEEP_INTERVAL_NANOS = 1_000_000_000L;
+
+    private final Segment[] segments = new Segment[SEGMENT_COUNT];
+    private final Set<UUID> attached = ConcurrentHashMap.newKeySet();
+    private final Set<UUID> detached = ConcurrentHashMap.newKeySet();
+    private long nextDetachedSweep; // sweep 호출 스레드 전용
+    private final TimeSource timeSource;
+    private final long origin;
+
+    /**
+     * 만료된 플레이어 쿨타임을 받는 콜백
+     */
+    interface ExpiryHandler {
+        /**
+         * @param onExpire 설정할 때 넘긴 콜백, 없으면 null
+         */
+        void onExpire(UUID player, CooldownType type, Runnable onExpire);
+    }
+
+    /**
+     * 저장할 때 진행 중인 쿨타임을 차례로 받는 콜백
+     */
+    interface EntryVisitor {
+        void visit(UUID player, CooldownType type, long remainingNanos);
+    }
+
+    PlayerCooldowns(TimeSource timeSource) {
+        this.timeSource = timeSource;
+        this.origin = timeSource.nanoTime();
+        for (int i = 0; i < SEGMENT_COUNT; i++) {
+            segments[i] = new Segment();
+        }
+    }
+
+    private long now() {
+        return timeSource.nanoTime() - origin;
+    }
+
+    void set(UUID player, CooldownType type, long durationNanos, Runnable onExpire) {
+        restore(player, type, timeSource.nanoTime() + durationNanos, onExpire);
+    }
+
+    /**
+     * 만료 시점(TimeSource 기준)을 직접 지정해 쿨타임을 설정합니다.
+     */
+    void restore(UUID player, CooldownType type, long deadlineNanoTime, Runnable onExpire) {
+        long deadline = Math.max(1, deadlineNanoTime - origin);
+        Segment segment = segmentFor(player);
+        synchronized (segment) {
+            segment.schedule(rowFor(segment, player), type.getId(), deadline, onExpire);
+        }
+    }
+
+    /**
+     * 여러 플레이어에게 같은 쿨타임을 설정합니다. 시계는 한 번만 읽습니다.
+     * @return 설정한 플레이어 수
+     */
+    <T> int setAll(Iterable<T> players, Function<? super T, UUID> idOf, CooldownType type, long durationNanos) {
+        long deadline = Math.max(1, now() + durationNanos);
+        int id = type.getId();
+        int count = 0;
+        for (T item : players) {
+            UUID player = idOf.apply(item);
+            Segment segment = segmentFor(player);
+            synchronized (segment) {
+                segment.schedule(rowFor(segment, player), id, deadline, null);
+            }
+            count++;
+        }
+        return count;
+    }
+
+    // 세그먼트 잠금 아래에서 부릅니다. 접속 중이 아닌 플레이어의 행은 만든 즉시 정리 대상에 올립니다
+    // (불러온 쿨타임, 오프라인 플레이어에게 설정한 쿨타임)
+    private Row rowFor(Segment segment, UUID player) {
+        Row row = segment.rows.get(player);
+        if (row == null) {
+            row = new Row(player);
+            segment.rows.put(player, row);
+            if (!attached.contains(player)) {
+                detached.add(player);
+            }
+        }
+        return row;
+    }
+
+    /**
+     * 여러 플레이어의 쿨타임을 한 시점 기준으로 확인합니다.
+     * @return 순서대로 i번째 플레이어의 쿨타임이 끝났으면 i번째 비트가 켜진 BitSet
+     */
+    <T> BitSet overAll(Iterable<T> players, Function<? super T, UUID> idOf, CooldownType type) {
+        long now = now();
+        int id = type.getId();
+        BitSet over = new BitSet();
+        int index = 0;
+        for (T item : players) {
+            Row row = rowOf(idOf.apply(item));
+            long deadline = row != null ? row.get(id) : 0;
+            if (deadline == 0 || now >= deadline) {
+                over.set(index);
+            }
+            index++;
+        }
+        return over;
+    }
+
+    /**
+     * 모든 플레이어에게서 한 종류의 쿨타임을 제거합니다. 세그먼트마다 잠금을 한 번만 잡습니다.
+     * @return 제거된 진행 중 쿨타임 수
+     */
+    int clearType(CooldownType type) {
+        long now = now();
+        int id = type.getId();
+        int cleared = 0;
+        for (Segment segment : segments) {
+            synchronized (segment) {
+                for (Row row : segment.rows.values()) {
+                    long deadline = row.get(id);
+                    if (segment.unschedule(row, id) && deadline > now) {
+                        cleared++;
+                    }
+                }
+                segment.shrinkIfSparse();
+            }
+        }
+        return cleared;
+    }
+
+    boolean isOver(UUID player, CooldownType type) {
+        Row row = rowOf(player);
+        if (row == null) {
+            return true;
+        }
+        long deadline = row.get(type.getId());
+        return deadline == 0 || now() >= deadline;
+    }
+
+    /**
+     * @return 남은 시간(나노초), 없거나 만료되었으면 0
+     */
+    long remainingNanos(UUID player, CooldownType type) {
+        Row row = rowOf(player);
+        if (row == null) {
+            return 0;
+        }
+        long deadline = row.get(type.getId());
+        long remaining = deadline - now();
+        return deadline != 0 && remaining > 0 ? remaining : 0;
+    }
+
+    void remove(UUID player, CooldownType type) {
+        Segment segment = segmentFor(player);
+        synchronized (segment) {
+            Row row = segment.rows.get(player);
+            if (row != null && segment.unschedule(row, type.getId())) {
+                segment.shrinkIfSparse();
+            }
+        }
+    }
+
+    /**
+     * 플레이어의 쿨타임을 모두 제거합니다. 힙 항목도 함께 뺍니다.
+     */
+    void clear(UUID player) {
+        Segment segment = segmentFor(player);
+        synchronized (segment) {
+            Row row = segment.rows.remove(player);
+            if (row != null) {
+                segment.unscheduleAll(row);
+                segment.shrinkIfSparse();
+            }
+            detached.remove(player);
+        }
+    }
+
+    /**
+     * 모든 플레이어의 쿨타임을 지웁니다. 지운 쿨타임의 콜백은 버려집니다.
+     */
+    void clearAll() {
+        for (Segment segment : segments) {
+            synchronized (segment) {
+                for (Row row : segment.rows.values()) {
+                    segment.unscheduleAll(row);
+                }
+                segment.rows.clear();
+                segment.shrinkIfSparse();
+            }
+        }
+        detached.clear();
+    }
+
+    /**
+     * 아직 끝나지 않은 쿨타임과 남은 시간(나노초)을 반환합니다.
+     */
+    Map<CooldownType, Long> active(UUID player) {
+        Map<CooldownType, Long> result = new LinkedHashMap<>();
+        Row row = rowOf(player);
+        if (row == null) {
+            return result;
+        }
+        long now = now();
+        AtomicLongArray deadlines = row.deadlines;
+        for (int id = 0; id < deadlines.length(); id++) {
+            long deadline = deadlines.get(id);
+            if (deadline != 0 && deadline > now) {
+                result.put(CooldownType.byId(id), deadline - now);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 플레이어가 접속하면 정리 대상에서 뺍니다.
+     */
+    void attach(UUID player) {
+        attached.add(player);
+        detached.remove(player);
+    }
+
+    /**
+     * 플레이어가 나가면 남은 쿨타임이 없을 때 바로 행을 제거하고, 있으면 만료 후 정리되도록 표시합니다.
+     * 만료되었지만 아직 알리지 않은 쿨타임도 남은 것으로 보므로, 마지막 만료 알림은 sweep에서 전달됩니다.
+     */
+    void release(UUID player) {
+        attached.remove(player);
+        Segment segment = segmentFor(player);
+        synchronized (segment) {
+            Row row = segment.rows.get(player);
+            if (row == null) {
+                return;
+            }
+            if (row.scheduled == 0) {
+                segment.rows.remove(player);
+            } else {
+                detached.add(player);
+            }
+        }
+    }
+
+    /**
+     * 만료된 칸을 비우고 expired에 만료 순서대로 전달합니다. 호출 스레드 하나에서만 불러야 합니다.
+     * 만료된 칸이 없으면 세그먼트마다 힙 맨 앞만 잠금 없이 확인하고 끝납니다.
+     * @return 만료된 쿨타임 수
+     */
+    int sweep(ExpiryHandler expired) {
+        long now = now();
+        List<Expired> due = null;
+        for (Segment segment : segments) {
+            if (segment.head <= now) {
+                if (due == null) {
+                    due = new ArrayList<>();
+                }
+                synchronized (segment) {
+                    segment.expire(now, due);
+                }
+            }
+        }
+        int count = 0;
+        if (due != null) {
+            due.sort(Comparator.comparingLong(entry -> entry.deadline));
+            for (Expired entry : due) {
+                expired.onExpire(entry.player, CooldownType.byId(entry.typeId), entry.onExpire);
+            }
+            count = due.size();
+        }
+        // 만료를 알린 뒤에 행을 정리해야 나간 플레이어의 마지막 만료도 전달됩니다
+        sweepDetached(now);
+        return count;
+    }
+
+    // 나간 플레이어 중 쿨타임이 모두 끝난 행을 제거합니다. 주기보다 자주 불리면 바로 반환합니다.
+    private void sweepDetached(long now) {
+        if (now < nextDetachedSweep || detached.isEmpty()) {
+            return;
+        }
+        nextDetachedSweep = now + DETACHED_SWEEP_INTERVAL_NANOS;
+        for (UUID player : detached) {
+            Segment segment = segmentFor(player);
+            synchronized (segment) {
+                Row row = segment.rows.get(player);
+                if (row == null || row.scheduled == 0) {
+                    if (row != null) {
+                        segment.rows.remove(player);
+                    }
+                    detached.remove(player);
+                }
+            }
+        }
+    }
+
+    /**
+     * 아직 만료되지 않은 쿨타임을 플레이어별로 묶어 nanoTime 기준 남은 시간과 함께 차례로 전달합니다. 저장용.
+     * @param nanoTime 기준 시점 (TimeSource 기준)
+     */
+    void forEachActive(long nanoTime, EntryVisitor visitor) {
+        long now = nanoTime - origin;
+        for (Segment segment : segments) {
+            for (Row row : segment.rows.values()) {
+                AtomicLongArray deadlines = row.deadlines;
+                for (int id = 0; id < deadlines.length(); id++) {
+                    long deadline = deadlines.get(id);
+                    if (deadline != 0 && deadline > now) {
+                        visitor.visit(row.player, CooldownType.byId(id), deadline - now);
+                    }
+                }
+            }
+        }
+    }
+
+    int playerCount() {
+        int count = 0;
+        for (Segment segment : segments) {
+            count += segment.rows.size();
+        }
+        return count;
+    }
+
+    private Row rowOf(UUID player) {
+        return segmentFor(player).rows.get(player);
+    }
+
+    private Segment segmentFor(UUID player) {
+        int h = player.hashCode() * 0x9E3779B9;
+        return segments[h >>> (32 - SEGMENT_BITS)];
+    }
+
+    // 칸 배열은 잠금 없이 읽고, 쓰기와 힙 위치는 세그먼트 잠금 아래에서만 다룹니다
+    private static final class Row {
+        private final UUID player;
+        private volatile AtomicLongArray deadlines = new AtomicLongArray(0);
+        private int[] positions = new int[0]; // 종류 번호 → 힙 위치 + 1, 0이면 힙에 없음
+        private int scheduled; // 힙에 있는 항목 수
+
+        private Row(UUID player) {
+            this.player = player;
+        }
+
+        long get(int id) {
+            AtomicLongArray current = deadlines;
+            return id < current.length() ? current.get(id) : 0;
+        }
+
+        void ensureCapacity(int id) {
+            AtomicLongArray current = deadlines;
+            if (id < current.length()) {
+                return;
+            }
+            int capacity = Math.max(id + 1, current.length() * 2);
+            AtomicLongArray grown = new AtomicLongArray(capacity);
+            for (int i = 0; i < current.length(); i++) {
+                grown.set(i, current.get(i));
+            }
+            positions = Arrays.copyOf(positions, capacity);
+            deadlines = grown;
+        }
+    }
+
+    // 힙 배열은 (행, 종류, 만료 시점, 콜백)을 같은 위치에 나란히 둡니다. 모든 메서드는 세그먼트 잠금 아래에서 부릅니다
+    private static final class Segment {
+        private final ConcurrentHashMap<UUID, Row> rows = new ConcurrentHashMap<>();
+        private Row[] heapRows = new Row[INITIAL_HEAP_CAPACITY];
+        private int[] heapTypes = new int[INITIAL_HEAP_CAPACITY];
+        private long[] heapDeadlines = new long[INITIAL_HEAP_CAPACITY];
+        private Runnable[] heapCallbacks; // 콜백이 처음 설정될 때 만듭니다
+        private int size;
+        // 힙 맨 앞의 만료 시점, 비었으면 Long.MAX_VALUE - sweep이 잠금 없이 확인합니다
+        private volatile long head = Long.MAX_VALUE;
+
+        void schedule(Row row, int id, long deadline, Runnable onExpire) {
+            row.ensureCapacity(id);
+            int position = row.positions[id] - 1;
+            boolean earlier;
+            if (position < 0) {
+                if (size == heapRows.length) {
+                    resize(size << 1);
+                }
+                position = size++;
+                heapRows[position] = row;
+                heapTypes[position] = id;
+                row.positions[id] = position + 1;
+                row.scheduled++;
+                earlier = true;
+            } else {
+                earlier = deadline < heapDeadlines[position];
+            }
+            heapDeadlines[position] = deadline;
+            setCallback(position, onExpire);
+            row.deadlines.set(id, deadline);
+            if (earlier) {
+                siftUp(position);
+            } else {
+                siftDown(position);
+            }
+            head = heapDeadlines[0];
+        }
+
+        // 칸에 쿨타임이 있었으면 비우고 힙에서도 뺍니다
+        boolean unschedule(Row row, int id) {
+            int position = id < row.positions.length ? row.positions[id] - 1 : -1;
+            if (position < 0) {
+                return false;
+            }
+            row.deadlines.set(id, 0);
+            removeAt(position);
+            return true;
+        }
+
+        void unscheduleAll(Row row) {
+            int[] positions = row.positions;
+            for (int id = 0; id < positions.length && row.scheduled > 0; id++) {
+                if (positions[id] != 0) {
+                    unschedule(row, id);
+                }
+            }
+        }
+
+        // 만료된 항목을 힙 맨 앞부터 꺼내 칸을 비우고 due에 담습니다
+        void expire(long now, List<Expired> due) {
+            while (size > 0 && heapDeadlines[0] <= now) {
+                Row row = heapRows[0];
+                int id = heapTypes[0];
+                due.add(new Expired(row.player, id, heapDeadlines[0], heapCallbacks != null ? heapCallbacks[0] : null));
+                row.deadlines.set(id, 0);
+                removeAt(0);
+            }
+            shrinkIfSparse();
+        }
+
+        void shrinkIfSparse() {
+            int capacity = heapRows.length;
+            if (capacity > INITIAL_HEAP_CAPACITY && size * 8 < capacity) {
+                resize(Math.max(INITIAL_HEAP_CAPACITY, Integer.highestOneBit(Math.max(1, size * 4 - 1)) << 1));
+            }
+        }
+
+        // 마지막 항목을 빈자리로 옮긴 뒤 위아래로 맞춥니다
+        private void removeAt(int position) {
+            Row row = heapRows[position];
+            row.positions[heapTypes[position]] = 0;
+            row.scheduled--;
+            int last = --size;
+            if (position != last) {
+                move(last, position);
+                siftUp(siftDown(position));
+            }
+            heapRows[last] = null;
+            if (heapCallbacks != null) {
+                heapCallbacks[last] = null;
+            }
+            head = size > 0 ? heapDeadlines[0] : Long.MAX_VALUE;
+        }
+
+        private int siftUp(int position) {
+            while (position > 0) {
+                int parent = (position - 1) >>> 1;
+                if (heapDeadlines[position] >= heapDeadlines[parent]) {
+                    break;
+                }
+                swap(position, parent);
+                position = parent;
+            }
+            return position;
+        }
+
+        private int siftDown(int position) {
+            int half = size >>> 1;
+            while (position < half) {
+                int child = (position << 1) + 1;
+                int right = child + 1;
+                if (right < size && heapDeadlines[right] < heapDeadlines[child]) {
+                    child = right;
+                }
+                if (heapDeadlines[position] <= heapDeadlines[child]) {
+                    break;
+                }
+                swap(position, child);
+                position = child;
+            }
+            return position;
+        }
+
+        private void swap(int a, int b) {
+            Row row = heapRows[a];
+            int id = heapTypes[a];
+            long deadline = heapDeadlines[a];
+            Runnable onExpire = heapCallbacks != null ? heapCallbacks[a] : null;
+            move(b, a);
+            heapRows[b] = row;
+            heapTypes[b] = id;
+            heapDeadlines[b] = deadline;
+            if (heapCallbacks != null) {
+                heapCallbacks[b] = onExpire;
+            }
+            row.positions[id] = b + 1;
+        }
+
+        private void move(int from, int to) {
+            Row row = heapRows[from];
+            int id = heapTypes[from];
+            heapRows[to] = row;
+            heapTypes[to] = id;
+            heapDeadlines[to] = heapDeadlines[from];
+            if (heapCallbacks != null) {
+                heapCallbacks[to] = heapCallbacks[from];
+            }
+            row.positions[id] = to + 1;
+        }
+
+        private void setCallback(int position, Runnable onExpire) {
+            if (heapCallbacks == null) {
+                if (onExpire == null) {
+                    return;
+                }
+                heapCallbacks = new Runnable[heapRows.length];
+            }
+            heapCallbacks[position] = onExpire;
+        }
+
+        private void resize(int capacity) {
+            heapRows = Arrays.copyOf(heapRows, capacity);
+            heapTypes = Arrays.copyOf(heapTypes, capacity);
+            heapDeadlines = Arrays.copyOf(heapDeadlines, capacity);
+            if (heapCallbacks != null) {
+                heapCallbacks = Arrays.copyOf(heapCallbacks, capacity);
+            }
+        }
+    }
+
+    private static final class Expired {
+        private final UUID player;
+        private final int typeId;
+        private final long deadline;
+        private final Runnable onExpire;
+
+        private Expired(UUID player, int typeId, long deadline, Runnable onExpire) {
+            this.player = player;
+            this.typeId = typeId;
+            this.deadline = deadline;
+            this.onExpire = onExpire;
+        }
+    }
+}
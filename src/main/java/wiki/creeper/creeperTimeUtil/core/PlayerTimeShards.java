@@ -0,0 +1,284 @@
+package wiki.creeper.creeperTimeUtil.core;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+
+/**
+ * 플레이어 누적 플레이 시간 샤드 파일 (playtime/&lt;00-ff&gt;.dat)
+ *
+ * UUID를 섞어 256개 샤드 파일 중 하나에 고정 크기 레코드로 보관합니다. 접속할 때 그 플레이어의 레코드만 읽고,
+ * 퇴장/자동 저장 때는 그 사이에 늘어난 시간만 더해 씁니다. 그래서 서버 시작과 종료 비용은 지금까지 접속한
+ * 전체 플레이어 수가 아니라 접속 중인 플레이어 수에 비례합니다.
+ * <pre>
+ * int MAGIC ("CTPT"), int 버전
+ * 레코드 반복 (32바이트): long×2 UUID, long 누적 플레이 시간(ms), int 마지막 갱신 시각(epoch 초), int 앞 28바이트의 CRC32
+ * </pre>
+ * 한 번의 갱신이 끝나면 건드린 샤드를 fsync합니다. 저장소 스레드(StorageWriter) 하나에서만 사용합니다.
+ */
+final class PlayerTimeShards {
+    static final String DIRECTORY_NAME = "playtime";
+    private static final int SHARD_COUNT = 256;
+    private static final int MAGIC = 0x43545054; // "CTPT"
+    private static final int VERSION = 1;
+    private static final int HEADER_BYTES = 8;
+    private static final int RECORD_BYTES = 32;
+    private static final int RECORD_BODY_BYTES = RECORD_BYTES - 4;
+    private static final int SCAN_BUFFER_BYTES = RECORD_BYTES * 2048;
+
+    private final File directory;
+    private final Logger logger;
+    private final FileChannel[] shards = new FileChannel[SHARD_COUNT];
+    private final Map<UUID, Integer> slots = new HashMap<>(); // 접속 중인 플레이어의 레코드 위치
+    private final ByteBuffer record = ByteBuffer.allocate(RECORD_BYTES);
+    private final ByteBuffer scan = ByteBuffer.allocateDirect(SCAN_BUFFER_BYTES);
+    private final CRC32 crc = new CRC32();
+
+    PlayerTimeShards(File directory, Logger logger) {
+        this.directory = directory;
+        this.logger = logger;
+    }
+
+    void close() {
+        for (int i = 0; i < SHARD_COUNT; i++) {
+            if (shards[i] != null) {
+                try {
+                    shards[i].close();
+                } catch (IOException e) {
+                    logger.log(Level.WARNING, "플레이 시간 파일 닫기 실패", e);
+                }
+                shards[i] = null;
+            }
+        }
+        slots.clear();
+    }
+
+    /**
+     * @return 누적 플레이 시간(ms), 레코드가 없으면 0
+     */
+    long read(UUID player) throws IOException {
+        int shard = shardOf(player);
+        FileChannel channel = shard(shard);
+        int slot = find(channel, player);
+        if (slot < 0) {
+            return 0;
+        }
+        slots.put(player, slot);
+        readRecord(channel, slot);
+        if (!recordValid()) {
+            logger.warning("플레이 시간 레코드가 손상되어 0으로 시작합니다: " + player);
+            return 0;
+        }
+        return record.getLong(16);
+    }
+
+    /**
+     * 레코드를 더하거나(add) 덮어씁니다. 같은 샤드의 레코드는 한 번에 쓰고 fsync합니다.
+     * @param released 쓰고 나서 레코드 위치를 잊을 플레이어 (퇴장)
+     */
+    void update(Map<UUID, Long> values, boolean add, Set<UUID> released) {
+        Set<FileChannel> touched = new HashSet<>();
+        List<UUID> players = new ArrayList<>(values.keySet());
+        players.sort((a, b) -> Integer.compare(shardOf(a), shardOf(b))); // 샤드 순서대로
+        for (UUID player : players) {
+            try {
+                FileChannel channel = shard(shardOf(player));
+                Integer known = slots.get(player);
+                int slot = known != null ? known : find(channel, player);
+                long total = values.get(player);
+                if (slot < 0) {
+                    slot = (int) ((channel.size() - HEADER_BYTES) / RECORD_BYTES);
+                } else if (add) {
+                    readRecord(channel, slot);
+                    if (recordValid()) {
+                        total += record.getLong(16);
+                    }
+                }
+                writeRecord(channel, slot, player, Math.max(0, total));
+                touched.add(channel);
+                if (released.contains(player)) {
+                    slots.remove(player);
+                } else {
+                    slots.put(player, slot);
+                }
+            } catch (IOException e) {
+                logger.log(Level.WARNING, "플레이 시간 쓰기 실패: " + player, e);
+            }
+        }
+        for (FileChannel channel : touched) {
+            try {
+                channel.force(false);
+            } catch (IOException e) {
+                logger.log(Level.WARNING, "플레이 시간 fsync 실패", e);
+            }
+        }
+    }
+
+    /**
+     * @return 샤드 파일이 하나라도 있으면 true
+     */
+    boolean exists() {
+        for (int i = 0; i < SHARD_COUNT; i++) {
+            if (file(i).exists()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 모든 샤드의 레코드를 읽습니다. 다른 저장소로 옮길 때 한 번만 씁니다.
+     * CRC가 맞지 않는 레코드와 형식이 다른 샤드 파일은 경고를 남기고 건너뜁니다.
+     * @return 플레이어별 누적 플레이 시간(ms)
+     */
+    Map<UUID, Long> readAll() throws IOException {
+        Map<UUID, Long> values = new HashMap<>();
+        int skipped = 0;
+        for (int i = 0; i < SHARD_COUNT; i++) {
+            if (!file(i).exists()) {
+                continue;
+            }
+            FileChannel channel;
+            try {
+                channel = shard(i);
+            } catch (IOException e) {
+                logger.log(Level.WARNING, "플레이 시간 파일을 건너뜁니다", e);
+                continue;
+            }
+            long size = channel.size();
+            for (long position = HEADER_BYTES; position + RECORD_BYTES <= size; ) {
+                scan.clear();
+                scan.limit((int) Math.min(scan.capacity(), (size - position) / RECORD_BYTES * RECORD_BYTES));
+                while (scan.hasRemaining()) {
+                    if (channel.read(scan, position + scan.position()) < 0) {
+                        throw new IOException("플레이 시간 파일이 잘렸습니다: " + file(i).getName());
+                    }
+                }
+                scan.flip();
+                while (scan.hasRemaining()) {
+                    record.clear();
+                    scan.get(record.array(), 0, RECORD_BYTES);
+                    if (recordValid()) {
+                        values.put(new UUID(record.getLong(0), record.getLong(8)), record.getLong(16));
+                    } else {
+                        skipped++;
+                    }
+                }
+                position += scan.limit();
+            }
+        }
+        if (skipped > 0) {
+            logger.warning("손상된 플레이 시간 레코드 " + skipped + "개를 건너뛰었습니다");
+        }
+        return values;
+    }
+
+    private FileChannel shard(int shard) throws IOException {
+        FileChannel channel = shards[shard];
+        if (channel != null) {
+            return channel;
+        }
+        directory.mkdirs();
+        File file = file(shard);
+        channel = FileChannel.open(file.toPath(), StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+        if (channel.size() < HEADER_BYTES) {
+            header.putInt(MAGIC).putInt(VERSION).flip();
+            while (header.hasRemaining()) {
+                channel.write(header, header.position());
+            }
+        } else {
+            while (header.hasRemaining() && channel.read(header, header.position()) >= 0) {
+                // 계속 읽음
+            }
+            if (header.getInt(0) != MAGIC) {
+                channel.close();
+                throw new IOException("플레이 시간 파일 형식이 아닙니다: " + file.getName());
+            }
+        }
+        shards[shard] = channel;
+        return channel;
+    }
+
+    // 샤드를 처음부터 훑어 레코드 위치를 찾습니다. 없으면 -1
+    private int find(FileChannel channel, UUID player) throws IOException {
+        long msb = player.getMostSignificantBits();
+        long lsb = player.getLeastSignificantBits();
+        long size = channel.size();
+        int slot = 0;
+        for (long position = HEADER_BYTES; position + RECORD_BYTES <= size; ) {
+            scan.clear();
+            scan.limit((int) Math.min(scan.capacity(), (size - position) / RECORD_BYTES * RECORD_BYTES));
+            while (scan.hasRemaining()) {
+                if (channel.read(scan, position + scan.position()) < 0) {
+                    return -1;
+                }
+            }
+            scan.flip();
+            for (int offset = 0; offset < scan.limit(); offset += RECORD_BYTES, slot++) {
+                if (scan.getLong(offset) == msb && scan.getLong(offset + 8) == lsb) {
+                    return slot;
+                }
+            }
+            position += scan.limit();
+        }
+        return -1;
+    }
+
+    private void readRecord(FileChannel channel, int slot) throws IOException {
+        record.clear();
+        long position = HEADER_BYTES + (long) slot * RECORD_BYTES;
+        while (record.hasRemaining()) {
+            if (channel.read(record, position + record.position()) < 0) {
+                throw new IOException("플레이 시간 레코드가 잘렸습니다");
+            }
+        }
+    }
+
+    private boolean recordValid() {
+        crc.reset();
+        crc.update(record.array(), 0, RECORD_BODY_BYTES);
+        return record.getInt(RECORD_BODY_BYTES) == (int) crc.getValue();
+    }
+
+    private void writeRecord(FileChannel channel, int slot, UUID player, long totalMillis) throws IOException {
+        record.clear();
+        record.putLong(player.getMostSignificantBits());
+        record.putLong(player.getLeastSignificantBits());
+        record.putLong(totalMillis);
+        record.putInt((int) TimeUnit.MILLISECONDS.toSeconds(System.currentTimeMillis()));
+        crc.reset();
+        crc.update(record.array(), 0, RECORD_BODY_BYTES);
+        record.putInt((int) crc.getValue());
+        record.flip();
+        long position = HEADER_BYTES + (long) slot * RECORD_BYTES;
+        while (record.hasRemaining()) {
+            channel.write(record, position + record.position());
+        }
+    }
+
+    private File file(int shard) {
+        return new File(directory, String.format("%02x.dat", shard));
+    }
+
+    private static int shardOf(UUID player) {
+        long h = player.getMostSignificantBits() ^ player.getLeastSignificantBits();
+        h ^= h >>> 33;
+        h *= 0xFF51AFD7ED558CCDL;
+        h ^= h >>> 33;
+        return (int) h & (SHARD_COUNT - 1);
+    }
+}
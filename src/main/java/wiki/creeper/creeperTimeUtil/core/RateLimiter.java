@@ -0,0 +1,95 @@
+package wiki.creeper.creeperTimeUtil.core;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 키별 토큰 버킷 속도 제한 - GCRA(Generic Cell Rate Algorithm)
+ *
+ * 버킷 하나는 "다음 요청이 이론상 도착해야 할 시점(TAT, TimeSource 기준)" long 하나뿐입니다.
+ * 요청 하나는 TAT를 간격(1초 / 초당 허용 수)만큼 미루며, 미룬 TAT가 현재보다 burst × 간격 이상
+ * 앞서면 거절합니다. 갱신은 CAS 한 번이므로 잠금이 없고, 이미 있는 키라면 객체도 만들지 않습니다.
+ *
+ * TAT가 현재보다 과거인 버킷은 가득 찬 상태와 같으므로 주기적으로 제거합니다.
+ * 제거와 동시에 요청이 들어오면 그 요청 하나가 떨어져 나간 버킷에 기록될 수 있는데,
+ * 이는 가득 찬 버킷에서 토큰 하나를 더 허용하는 것과 같아 제한을 크게 어기지 않습니다.
+ */
+final class RateLimiter {
+    private static final long SWEEP_INTERVAL_NANOS = 1_000_000_000L;
+
+    private final ConcurrentHashMap<String, AtomicLong> buckets = new ConcurrentHashMap<>();
+    private final TimeSource timeSource;
+    private long nextSweep; // sweep 호출 스레드 전용
+
+    RateLimiter(TimeSource timeSource) {
+        this.timeSource = timeSource;
+        this.nextSweep = timeSource.nanoTime();
+    }
+
+    /**
+     * 요청 하나를 허용할지 판단하고, 허용하면 토큰 하나를 씁니다.
+     * @param permitsPerSecond 초당 보충되는 토큰 수
+     * @param burst 한 번에 쓸 수 있는 최대 토큰 수
+     * @return 허용되면 true
+     */
+    boolean tryAcquire(String key, double permitsPerSecond, int burst) {
+        if (permitsPerSecond <= 0 || burst < 1) {
+            throw new IllegalArgumentException("초당 허용 수와 burst는 0보다 커야 합니다");
+        }
+        // 간격은 올림해야 실제 허용 속도가 초당 허용 수를 넘지 않습니다. 아주 작은 허용 수는 long 최댓값에서 멈춥니다
+        long interval = Math.max(1L, (long) Math.ceil(1_000_000_000.0 / permitsPerSecond));
+        long limit = saturatedMultiply(interval, burst);
+        long now = timeSource.nanoTime();
+
+        AtomicLong bucket = buckets.get(key);
+        if (bucket == null) {
+            bucket = buckets.computeIfAbsent(key, k -> new AtomicLong(now));
+        }
+        while (true) {
+            long tat = bucket.get();
+            long start = tat - now > 0 ? tat : now;
+            // (start - now) + interval > limit 를 넘침 없이 비교합니다 (limit >= interval)
+            if (start - now > limit - interval) {
+                return false;
+            }
+            if (bucket.compareAndSet(tat, start + interval)) {
+                return true;
+            }
+        }
+    }
+
+    private static long saturatedMultiply(long interval, int burst) {
+        long high = Math.multiplyHigh(interval, burst);
+        long low = interval * burst;
+        return high == 0 && low >= 0 ? low : Long.MAX_VALUE;
+    }
+
+    /**
+     * 버킷을 지웁니다. 다음 요청은 가득 찬 버킷에서 시작합니다.
+     */
+    void reset(String key) {
+        buckets.remove(key);
+    }
+
+    int size() {
+        return buckets.size();
+    }
+
+    /**
+     * 가득 찬(오래 쓰이지 않은) 버킷을 제거합니다. 주기보다 자주 불리면 바로 반환합니다.
+     */
+    void sweep() {
+        long now = timeSource.nanoTime();
+        if (now - nextSweep < 0) {
+            return;
+        }
+        nextSweep = now + SWEEP_INTERVAL_NANOS;
+        for (Map.Entry<String, AtomicLong> entry : buckets.entrySet()) {
+            AtomicLong bucket = entry.getValue();
+            if (bucket.get() - now <= 0) {
+                buckets.remove(entry.getKey(), bucket);
+            }
+        }
+    }
+}
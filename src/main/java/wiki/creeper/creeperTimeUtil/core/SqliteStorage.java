@@ -0,0 +1,208 @@
+package wiki.creeper.creeperTimeUtil.core;
+
+import java.io.File;
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * 내장 SQLite 파일 저장소 (Spigot/Paper 서버에 포함된 org.sqlite.JDBC 드라이버 사용)
+ *
+ * 커널 상태는 TimeDataFile 형식 그대로 한 행의 BLOB으로, 플레이 시간은 UUID별 한 행으로 보관합니다.
+ * 연결 하나와 준비된 문장(PreparedStatement)을 열어 둔 채 재사용하고, 호출 한 번을 트랜잭션 하나로 묶어 씁니다.
+ */
+final class SqliteStorage implements TimeStorage {
+    private static final String DRIVER = "org.sqlite.JDBC";
+
+    private final File file;
+    private final Logger logger;
+    private Connection connection;
+    private PreparedStatement selectState;
+    private PreparedStatement replaceState;
+    private PreparedStatement selectPlayTime;
+    private PreparedStatement anyPlayTime;
+    private PreparedStatement addPlayTime;
+    private PreparedStatement replacePlayTime;
+
+    SqliteStorage(File file, Logger logger) {
+        this.file = file;
+        this.logger = logger;
+    }
+
+    @Override
+    public String name() {
+        return "SQLite (" + file.getName() + ")";
+    }
+
+    /**
+     * 데이터베이스를 열고 표와 준비된 문장을 만듭니다.
+     * @throws IOException 드라이버가 없거나 열 수 없는 경우
+     */
+    void open() throws IOException {
+        try {
+            Class.forName(DRIVER);
+            file.getAbsoluteFile().getParentFile().mkdirs();
+            connection = DriverManager.getConnection("jdbc:sqlite:" + file.getAbsolutePath());
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("PRAGMA journal_mode=WAL");
+                statement.execute("PRAGMA synchronous=NORMAL");
+                statement.execute("CREATE TABLE IF NOT EXISTS ctu_state ("
+                    + "id INTEGER PRIMARY KEY CHECK (id = 1), saved_at INTEGER NOT NULL, data BLOB NOT NULL)");
+                statement.execute("CREATE TABLE IF NOT EXISTS ctu_playtime ("
+                    + "uuid_msb INTEGER NOT NULL, uuid_lsb INTEGER NOT NULL, play_millis INTEGER NOT NULL, "
+                    + "updated_at INTEGER NOT NULL, PRIMARY KEY (uuid_msb, uuid_lsb)) WITHOUT ROWID");
+            }
+            connection.setAutoCommit(false);
+            selectState = connection.prepareStatement("SELECT data FROM ctu_state WHERE id = 1");
+            replaceState = connection.prepareStatement("INSERT OR REPLACE INTO ctu_state (id, saved_at, data) VALUES (1, ?, ?)");
+            selectPlayTime = connection.prepareStatement(
+                "SELECT play_millis FROM ctu_playtime WHERE uuid_msb = ? AND uuid_lsb = ?");
+            anyPlayTime = connection.prepareStatement("SELECT 1 FROM ctu_playtime LIMIT 1");
+            addPlayTime = connection.prepareStatement(
+                "INSERT INTO ctu_playtime (uuid_msb, uuid_lsb, play_millis, updated_at) VALUES (?, ?, ?, ?) "
+                    + "ON CONFLICT (uuid_msb, uuid_lsb) DO UPDATE SET "
+                    + "play_millis = max(0, play_millis + excluded.play_millis), updated_at = excluded.updated_at");
+            replacePlayTime = connection.prepareStatement(
+                "INSERT OR REPLACE INTO ctu_playtime (uuid_msb, uuid_lsb, play_millis, updated_at) VALUES (?, ?, ?, ?)");
+            connection.commit();
+        } catch (ClassNotFoundException e) {
+            throw new IOException("SQLite 드라이버(" + DRIVER + ")를 찾을 수 없습니다", e);
+        } catch (SQLException e) {
+            close();
+            throw new IOException("SQLite 데이터베이스를 열 수 없습니다: " + file.getName(), e);
+        }
+    }
+
+    @Override
+    public TimeDataFile.LoadResult loadState(DataChannelBuffer io, CooldownStore cooldowns, PlayerCooldowns playerCooldowns,
+                                             GameCooldownStore gameCooldowns, Map<String, Long> gameTimeCooldowns) throws IOException {
+        byte[] data;
+        try {
+            try (ResultSet result = selectState.executeQuery()) {
+                data = result.next() ? result.getBytes(1) : null;
+            }
+            connection.commit();
+        } catch (SQLException e) {
+            rollback();
+            throw new IOException("SQLite에서 시간 데이터를 읽을 수 없습니다", e);
+        }
+        return data != null ? TimeDataFile.decode(data, io, cooldowns, playerCooldowns, gameCooldowns, gameTimeCooldowns) : null;
+    }
+
+    @Override
+    public void saveState(DataChannelBuffer io, TimeDataFile.Snapshot snapshot) throws IOException {
+        byte[] data = TimeDataFile.encode(io, snapshot);
+        try {
+            replaceState.setLong(1, System.currentTimeMillis());
+            replaceState.setBytes(2, data);
+            replaceState.executeUpdate();
+            connection.commit();
+        } catch (SQLException e) {
+            rollback();
+            throw new IOException("SQLite에 시간 데이터를 쓸 수 없습니다", e);
+        }
+    }
+
+    @Override
+    public boolean hasPlayTimes() throws IOException {
+        try {
+            boolean any;
+            try (ResultSet result = anyPlayTime.executeQuery()) {
+                any = result.next();
+            }
+            connection.commit();
+            return any;
+        } catch (SQLException e) {
+            rollback();
+            throw new IOException("SQLite에서 플레이 시간을 읽을 수 없습니다", e);
+        }
+    }
+
+    @Override
+    public long loadPlayTime(UUID player) throws IOException {
+        try {
+            long playMillis;
+            selectPlayTime.setLong(1, player.getMostSignificantBits());
+            selectPlayTime.setLong(2, player.getLeastSignificantBits());
+            try (ResultSet result = selectPlayTime.executeQuery()) {
+                playMillis = result.next() ? result.getLong(1) : 0;
+            }
+            connection.commit();
+            return playMillis;
+        } catch (SQLException e) {
+            rollback();
+            throw new IOException("SQLite에서 플레이 시간을 읽을 수 없습니다: " + player, e);
+        }
+    }
+
+    @Override
+    public void addPlayTimes(Map<UUID, Long> deltaMillis, Set<UUID> released) throws IOException {
+        writePlayTimes(addPlayTime, deltaMillis);
+    }
+
+    @Override
+    public void putPlayTimes(Map<UUID, Long> totalMillis) throws IOException {
+        writePlayTimes(replacePlayTime, totalMillis);
+    }
+
+    // 한 트랜잭션 안에서 일괄 실행합니다
+    private void writePlayTimes(PreparedStatement statement, Map<UUID, Long> values) throws IOException {
+        if (values.isEmpty()) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        try {
+            for (Map.Entry<UUID, Long> entry : values.entrySet()) {
+                statement.setLong(1, entry.getKey().getMostSignificantBits());
+                statement.setLong(2, entry.getKey().getLeastSignificantBits());
+                statement.setLong(3, entry.getValue());
+                statement.setLong(4, now);
+                statement.addBatch();
+            }
+            statement.executeBatch();
+            connection.commit();
+        } catch (SQLException e) {
+            clearBatch(statement);
+            rollback();
+            throw new IOException("SQLite에 플레이 시간을 쓸 수 없습니다", e);
+        }
+    }
+
+    private void clearBatch(PreparedStatement statement) {
+        try {
+            statement.clearBatch();
+        } catch (SQLException e) {
+            // 연결이 끊긴 경우 - 다음 호출에서 다시 실패합니다
+        }
+    }
+
+    private void rollback() {
+        try {
+            connection.rollback();
+        } catch (SQLException e) {
+            logger.log(Level.WARNING, "SQLite 롤백 실패", e);
+        }
+    }
+
+    @Override
+    public void close() {
+        if (connection == null) {
+            return;
+        }
+        try {
+            connection.close(); // 준비된 문장도 함께 닫힙니다
+        } catch (SQLException e) {
+            logger.log(Level.WARNING, "SQLite 연결 닫기 실패", e);
+        }
+        connection = null;
+    }
+}
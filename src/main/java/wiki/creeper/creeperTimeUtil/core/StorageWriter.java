@@ -0,0 +1,230 @@
+package wiki.creeper.creeperTimeUtil.core;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * 저장소 전용 스레드 - TimeStorage의 모든 호출을 한 스레드에서 제출 순서대로 실행합니다.
+ *
+ * 플레이 시간 증가분은 바로 쓰지 않고 모아 두었다가 다음 차례에 한 번의 addPlayTimes(트랜잭션 하나)로 씁니다.
+ * 다른 작업은 제출할 때까지 모인 증가분을 떼어 자기 앞에 붙이므로, 불러오기와 덮어쓰기는 앞서 요청된 증가분만 봅니다.
+ */
+final class StorageWriter {
+    private static final long CLOSE_TIMEOUT_MILLIS = 10_000L;
+
+    private final Logger logger;
+    private volatile boolean playTimeEnabled = true;
+    private TimeStorage storage; // 저장소 스레드 전용 (열기/닫기 제외)
+    private ExecutorService executor;
+
+    // 모아 둔 플레이 시간 증가분 - this 보호
+    private Map<UUID, Long> pendingAdds = new HashMap<>();
+    private Set<UUID> pendingReleases = new HashSet<>();
+    private boolean flushScheduled;
+    private long epoch; // 순서 있는 작업을 제출할 때마다 증가 - 그 전에 예약된 쓰기는 이후의 증가분을 건드리지 않습니다
+
+    StorageWriter(Logger logger) {
+        this.logger = logger;
+    }
+
+    synchronized void open(TimeStorage storage) {
+        this.storage = storage;
+        this.executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "CreeperTimeUtil-Storage");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 플레이 시간 저장 여부. 끄면 불러오기는 0을 돌려주고 쓰기는 무시합니다.
+     */
+    void setPlayTimeEnabled(boolean enabled) {
+        this.playTimeEnabled = enabled;
+    }
+
+    /**
+     * 저장소 스레드에서 작업을 실행하고 끝날 때까지 기다립니다.
+     */
+    <T> T call(StorageCall<T> task) throws IOException {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        if (!executeInOrder(() -> {
+            try {
+                result.complete(task.call(storage));
+            } catch (IOException | RuntimeException e) {
+                result.completeExceptionally(e);
+            }
+        })) {
+            throw new IOException("저장소가 열려 있지 않습니다");
+        }
+        try {
+            return result.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("저장소 작업이 중단되었습니다", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            throw new IOException("저장소 작업 실패", e.getCause());
+        }
+    }
+
+    /**
+     * @return 저장소 스레드에서 완료되는 누적 플레이 시간(ms) - 꺼져 있거나 읽지 못하면 0
+     */
+    CompletableFuture<Long> loadPlayTime(UUID player) {
+        CompletableFuture<Long> result = new CompletableFuture<>();
+        if (!playTimeEnabled || !executeInOrder(() -> {
+            try {
+                result.complete(storage.loadPlayTime(player));
+            } catch (IOException | RuntimeException e) {
+                logger.log(Level.WARNING, "플레이 시간 읽기 실패: " + player, e);
+                result.complete(0L);
+            }
+        })) {
+            result.complete(0L);
+        }
+        return result;
+    }
+
+    /**
+     * 플레이 시간 증가분을 모아 두고, 아직 예약되지 않았으면 쓰기를 예약합니다.
+     * @param release 퇴장한 플레이어면 true
+     */
+    void addPlayTimes(Map<UUID, Long> deltaMillis, boolean release) {
+        if (!playTimeEnabled || deltaMillis.isEmpty()) {
+            return;
+        }
+        synchronized (this) {
+            deltaMillis.forEach((player, delta) -> pendingAdds.merge(player, delta, Long::sum));
+            if (release) {
+                pendingReleases.addAll(deltaMillis.keySet());
+            }
+            if (flushScheduled) {
+                return;
+            }
+            long scheduledEpoch = epoch;
+            flushScheduled = execute(() -> flushPending(scheduledEpoch));
+        }
+    }
+
+    /**
+     * 누적 플레이 시간을 비동기로 덮어씁니다.
+     */
+    void putPlayTimes(Map<UUID, Long> totalMillis) {
+        if (!playTimeEnabled || totalMillis.isEmpty()) {
+            return;
+        }
+        Map<UUID, Long> copy = new HashMap<>(totalMillis);
+        executeInOrder(() -> {
+            try {
+                storage.putPlayTimes(copy);
+            } catch (IOException | RuntimeException e) {
+                logger.log(Level.WARNING, "플레이 시간 쓰기 실패", e);
+            }
+        });
+    }
+
+    /**
+     * 모아 둔 증가분과 대기 중인 작업을 모두 마치고 저장소를 닫습니다.
+     */
+    void close() {
+        ExecutorService closing;
+        synchronized (this) {
+            executeInOrder(() -> { }); // 남은 증가분 쓰기
+            closing = executor;
+            executor = null;
+        }
+        if (closing == null) {
+            return;
+        }
+        closing.shutdown();
+        try {
+            if (!closing.awaitTermination(CLOSE_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)) {
+                logger.warning("저장소 작업이 제때 끝나지 않았습니다");
+                closing.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            closing.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+        storage.close();
+    }
+
+    private synchronized boolean execute(Runnable task) {
+        if (executor == null) {
+            return false;
+        }
+        try {
+            executor.execute(task);
+            return true;
+        } catch (RejectedExecutionException e) {
+            return false;
+        }
+    }
+
+    // 지금까지 모인 증가분을 떼어 task 앞에 붙여 제출합니다
+    private synchronized boolean executeInOrder(Runnable task) {
+        Map<UUID, Long> adds = pendingAdds;
+        Set<UUID> releases = pendingReleases;
+        if (!execute(() -> {
+            writeAdds(adds, releases);
+            task.run();
+        })) {
+            return false;
+        }
+        pendingAdds = new HashMap<>();
+        pendingReleases = new HashSet<>();
+        flushScheduled = false;
+        epoch++;
+        return true;
+    }
+
+    // 저장소 스레드 전용 - 예약한 뒤 순서 있는 작업이 끼어들지 않았으면 모인 증가분을 한 묶음으로 씁니다
+    private void flushPending(long scheduledEpoch) {
+        Map<UUID, Long> adds;
+        Set<UUID> releases;
+        synchronized (this) {
+            if (scheduledEpoch != epoch) {
+                return; // 그 사이 제출된 작업이 이미 가져갔고, 이후의 증가분은 새로 예약되어 있습니다
+            }
+            flushScheduled = false;
+            adds = pendingAdds;
+            releases = pendingReleases;
+            pendingAdds = new HashMap<>();
+            pendingReleases = new HashSet<>();
+        }
+        writeAdds(adds, releases);
+    }
+
+    private void writeAdds(Map<UUID, Long> adds, Set<UUID> releases) {
+        if (adds.isEmpty()) {
+            return;
+        }
+        try {
+            storage.addPlayTimes(adds, releases);
+        } catch (IOException | RuntimeException e) {
+            logger.log(Level.WARNING, "플레이 시간 쓰기 실패 (" + adds.size() + "명)", e);
+        }
+    }
+
+    /**
+     * 저장소 스레드에서 실행할 작업
+     */
+    interface StorageCall<T> {
+        T call(TimeStorage storage) throws IOException;
+    }
+}
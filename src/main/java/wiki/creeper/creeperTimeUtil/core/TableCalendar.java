@@ -0,0 +1,204 @@
+package wiki.creeper.creeperTimeUtil.core;
+
+import java.time.DayOfWeek;
+import java.util.Arrays;
+
+/**
+ * 미리 계산한 누적 일수 표로 변환하는 달력
+ *
+ * 월 길이, 1일차의 요일, 주 시작 요일, 윤년 규칙(N년마다 특정 월에 일수 추가)을 설정할 수 있습니다.
+ * 윤년 주기 안의 연도 시작 일수는 누적 표에서 이진 탐색하고(O(log 주기)),
+ * 연중 일수 → 월 변환은 연도 길이만큼의 표에서 바로 찾습니다(O(1)).
+ */
+public final class TableCalendar implements GameCalendar {
+    private final int monthsPerYear;
+    private final int[] monthLengths;
+    private final int leapEvery;
+    private final int leapMonth;
+    private final int leapDays;
+    private final DayOfWeek firstDayOfWeek;
+    private final DayOfWeek weekStart;
+    private final int weekOffset; // 1일차가 자기 주에서 몇 번째 날인지 (0부터)
+
+    // 누적 표
+    private final int[] normalMonthStarts; // 평년 각 월 시작의 연중 일수(0부터), 길이 monthsPerYear + 1
+    private final int[] leapMonthStarts;
+    private final byte[] normalMonthOfDay; // 평년 연중 일수(0부터) → 월(0부터)
+    private final byte[] leapMonthOfDay;
+    private final int cycleYears;
+    private final long[] cycleYearStarts;  // 윤년 주기 안 각 연도 시작 일수(0부터), 길이 cycleYears + 1
+    private final long daysPerCycle;
+
+    /**
+     * @param monthLengths 각 월의 일수 (길이가 1년의 월 수)
+     * @param firstDayOfWeek 1일차의 요일
+     * @param weekStart 주가 시작되는 요일
+     * @param leapEvery 윤년 주기(년), 0이면 윤년 없음
+     * @param leapMonth 윤년에 일수를 더할 월 (1부터 시작)
+     * @param leapDays 윤년에 더할 일수
+     */
+    public TableCalendar(int[] monthLengths, DayOfWeek firstDayOfWeek, DayOfWeek weekStart,
+                         int leapEvery, int leapMonth, int leapDays) {
+        if (monthLengths.length == 0 || monthLengths.length > Byte.MAX_VALUE) {
+            throw new IllegalArgumentException("월 수는 1-127 사이여야 합니다");
+        }
+        for (int length : monthLengths) {
+            if (length <= 0) {
+                throw new IllegalArgumentException("월의 일수는 0보다 커야 합니다");
+            }
+        }
+        if (leapEvery < 0 || leapDays < 0) {
+            throw new IllegalArgumentException("윤년 설정은 0 이상이어야 합니다");
+        }
+        if (leapEvery > 0 && (leapMonth < 1 || leapMonth > monthLengths.length)) {
+            throw new IllegalArgumentException("윤달은 1-" + monthLengths.length + " 사이여야 합니다");
+        }
+
+        this.monthsPerYear = monthLengths.length;
+        this.monthLengths = monthLengths.clone();
+        this.leapEvery = leapDays > 0 ? leapEvery : 0;
+        this.leapMonth = leapMonth;
+        this.leapDays = leapDays;
+        this.firstDayOfWeek = firstDayOfWeek;
+        this.weekStart = weekStart;
+        this.weekOffset = Math.floorMod(firstDayOfWeek.getValue() - weekStart.getValue(), 7);
+
+        this.normalMonthStarts = monthStarts(false);
+        this.leapMonthStarts = monthStarts(true);
+        this.normalMonthOfDay = monthOfDayTable(normalMonthStarts);
+        this.leapMonthOfDay = monthOfDayTable(leapMonthStarts);
+
+        this.cycleYears = this.leapEvery > 0 ? this.leapEvery : 1;
+        this.cycleYearStarts = new long[cycleYears + 1];
+        for (int i = 0; i < cycleYears; i++) {
+            cycleYearStarts[i + 1] = cycleYearStarts[i] + yearLength(i + 1);
+        }
+        this.daysPerCycle = cycleYearStarts[cycleYears];
+    }
+
+    /**
+     * 기존 고정 달력과 같은 기본 달력을 생성합니다.
+     * @return 30일 × 12개월, 1일차 월요일, 월요일 시작, 윤년 없음
+     */
+    public static TableCalendar standard() {
+        int[] months = new int[12];
+        Arrays.fill(months, 30);
+        return new TableCalendar(months, DayOfWeek.MONDAY, DayOfWeek.MONDAY, 0, 1, 0);
+    }
+
+    private int[] monthStarts(boolean leap) {
+        int[] starts = new int[monthsPerYear + 1];
+        for (int m = 0; m < monthsPerYear; m++) {
+            int length = monthLengths[m] + (leap && m == leapMonth - 1 ? leapDays : 0);
+            starts[m + 1] = starts[m] + length;
+        }
+        return starts;
+    }
+
+    private static byte[] monthOfDayTable(int[] starts) {
+        byte[] table = new byte[starts[starts.length - 1]];
+        for (int m = 0; m < starts.length - 1; m++) {
+            Arrays.fill(table, starts[m], starts[m + 1], (byte) m);
+        }
+        return table;
+    }
+
+    private int yearLength(int year) {
+        return (isLeapYear(year) ? leapMonthStarts : normalMonthStarts)[monthsPerYear];
+    }
+
+    // 연도 첫날의 0부터 시작하는 일수
+    private long yearStart(int year) {
+        int index = year - 1;
+        return (long) (index / cycleYears) * daysPerCycle + cycleYearStarts[index % cycleYears];
+    }
+
+    // 0부터 시작하는 일수 d0 → 년도
+    private int yearOfDayIndex(long d0) {
+        long cycles = Math.floorDiv(d0, daysPerCycle);
+        long rest = d0 - cycles * daysPerCycle;
+        int position = Arrays.binarySearch(cycleYearStarts, 0, cycleYears, rest);
+        if (position < 0) {
+            position = -position - 2; // rest보다 작은 마지막 시작점
+        }
+        return (int) (cycles * cycleYears) + position + 1;
+    }
+
+    // 0부터 시작하는 연중 일수
+    private int dayOfYearIndex(int day, int year) {
+        return (int) ((day - 1) - yearStart(year));
+    }
+
+    @Override
+    public int getMonthsPerYear() {
+        return monthsPerYear;
+    }
+
+    @Override
+    public boolean isLeapYear(int year) {
+        return leapEvery > 0 && year % leapEvery == 0;
+    }
+
+    @Override
+    public int getMonthLength(int year, int month) {
+        int[] starts = isLeapYear(year) ? leapMonthStarts : normalMonthStarts;
+        return starts[month] - starts[month - 1];
+    }
+
+    @Override
+    public int getFirstDayOfMonth(int year, int month) {
+        int[] starts = isLeapYear(year) ? leapMonthStarts : normalMonthStarts;
+        return (int) (yearStart(year) + starts[month - 1]) + 1;
+    }
+
+    @Override
+    public int getYear(int day) {
+        return yearOfDayIndex(day - 1L);
+    }
+
+    @Override
+    public int getMonth(int day) {
+        int year = getYear(day);
+        byte[] table = isLeapYear(year) ? leapMonthOfDay : normalMonthOfDay;
+        return table[dayOfYearIndex(day, year)] + 1;
+    }
+
+    @Override
+    public int getDayOfMonth(int day) {
+        int year = getYear(day);
+        boolean leap = isLeapYear(year);
+        int index = dayOfYearIndex(day, year);
+        int month = (leap ? leapMonthOfDay : normalMonthOfDay)[index];
+        return index - (leap ? leapMonthStarts : normalMonthStarts)[month] + 1;
+    }
+
+    @Override
+    public int getDayOfYear(int day) {
+        return dayOfYearIndex(day, getYear(day)) + 1;
+    }
+
+    @Override
+    public int getMonthsSinceStart(int day) {
+        return (getYear(day) - 1) * monthsPerYear + (getMonth(day) - 1);
+    }
+
+    @Override
+    public DayOfWeek getDayOfWeek(int day) {
+        return firstDayOfWeek.plus(Math.floorMod(day - 1, 7));
+    }
+
+    @Override
+    public DayOfWeek getWeekStart() {
+        return weekStart;
+    }
+
+    @Override
+    public int getWeek(int day) {
+        return Math.floorDiv(day - 1 + weekOffset, 7) + 1;
+    }
+
+    @Override
+    public int getFirstDayOfWeek(int day) {
+        return day - Math.floorMod(day - 1 + weekOffset, 7);
+    }
+}
@@ -0,0 +1,19 @@
+package wiki.creeper.creeperTimeUtil.core;
+
+/**
+ * 서버 틱마다 한 번 System.nanoTime()을 읽어 두는 시계
+ * 자주 불리는 쿨타임 확인은 volatile 필드 하나만 읽으며, 정밀도는 한 틱(50ms)입니다.
+ */
+public final class TickTimeSource implements TimeSource {
+    private volatile long now = System.nanoTime();
+
+    @Override
+    public long nanoTime() {
+        return now;
+    }
+
+    @Override
+    public void tick() {
+        now = System.nanoTime();
+    }
+}
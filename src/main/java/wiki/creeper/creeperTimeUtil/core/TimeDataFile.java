@@ -0,0 +1,546 @@
+package wiki.creeper.creeperTimeUtil.core;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.CRC32;
+
+/**
+ * timedata.dat 읽기/쓰기
+ *
+ * 버전 4 구성 (varint는 7비트 단위 가변 길이 정수):
+ * <pre>
+ * int     MAGIC ("CTUD")
+ * varint  버전
+ * long    저장 시각 (epoch ms) - 아래 남은 시간의 기준
+ * varlong 서버 누적 시간(분)
+ * varlong 저널 세대 - 이 세대보다 앞선 저널 파일의 내용은 모두 이 파일에 반영되어 있습니다
+ * [실시간 쿨타임]   varint 개수, 만료 순으로 (varlong 이전 항목과의 만료 시각 차이(ms), 문자열 키)
+ * [플레이어 쿨타임] varint 종류 수, 종류 이름들,
+ *                   varint 플레이어 수, (long×2 UUID, varint 개수, (varint 종류 번호, varlong 남은 시간(ms)))
+ * [게임 시간 쿨타임] varint 개수, (문자열 키, zigzag varlong 누적 시간 - 시작 시점(분))
+ * [범위별 게임 쿨타임] varint 범위 수, (문자열 범위 이름("" = 서버), varint 개수, (문자열 키, zigzag varlong 만료 시점(분)))
+ * int     앞의 모든 바이트의 CRC32
+ * </pre>
+ * 버전 3은 저널 세대가 없고(0으로 봄), 버전 2는 CRC32도 없고, 버전 1은 범위별 게임 쿨타임 구역도 없는 형식이며 그대로 읽습니다.
+ *
+ * 저장은 먼저 모든 구역을 기본형 배열로 복사해 한 시점의 스냅샷(Snapshot)을 만든 뒤, 재사용 직접 버퍼(DataChannelBuffer)로
+ * 파일 채널에 흘려보냅니다. 파일은 임시 파일에 쓰고 fsync한 뒤 이름을 바꿔 교체하며, 직전 파일은 .bak으로 남깁니다.
+ * 저장 시점에 이미 만료된 쿨타임은 쓰지 않으며, 실시간 쿨타임은 서버가 꺼져 있던 시간만큼 줄어든 채로 불러옵니다.
+ *
+ * MAGIC이 없으면 이전 형식(long 누적 시간, int 개수, (UTF 키, long 시작 값))으로 보고 읽습니다.
+ * 이전 형식은 지속 시간이 없어 실시간 쿨타임을 되살릴 수 없으므로, 누적 시간 이하인 값만 게임 시간 쿨타임 시작 시점으로 옮깁니다.
+ */
+final class TimeDataFile {
+    static final int MAGIC = 0x43545544; // "CTUD"
+    static final int VERSION = 4;
+    static final String TEMP_SUFFIX = ".tmp";
+    static final String BACKUP_SUFFIX = ".bak";
+
+    private TimeDataFile() {
+    }
+
+    /**
+     * 저장소의 현재 상태를 한 시점의 스냅샷으로 복사합니다. 어느 스레드에서 불러도 됩니다.
+     */
+    static Snapshot capture(long totalMinutes, long journalGeneration, CooldownStore cooldowns, PlayerCooldowns playerCooldowns,
+                            GameCooldownStore gameCooldowns, Map<String, Long> gameTimeCooldowns) {
+        return new Snapshot(totalMinutes, journalGeneration, cooldowns, playerCooldowns, gameCooldowns, gameTimeCooldowns);
+    }
+
+    /**
+     * 스냅샷을 임시 파일에 흘려 쓰고 fsync한 뒤 이름을 바꿔 target을 교체합니다. 기존 target은 .bak으로도 남겨 둡니다.
+     * target은 옮기지 않고 하드 링크(안 되면 복사)로 .bak을 만든 뒤 임시 파일을 그 위로 바로 옮기므로,
+     * 어느 단계에서 중단되어도 target은 이전 것이든 새것이든 완전한 파일로 남아 있습니다.
+     */
+    static void writeAtomically(File target, DataChannelBuffer io, Snapshot snapshot) throws IOException {
+        Path path = target.toPath();
+        Path temp = path.resolveSibling(target.getName() + TEMP_SUFFIX);
+        Path backup = path.resolveSibling(target.getName() + BACKUP_SUFFIX);
+        try (FileChannel channel = FileChannel.open(temp,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            write(io, channel, snapshot);
+            channel.force(true);
+        }
+        if (Files.exists(path)) {
+            Files.deleteIfExists(backup);
+            try {
+                Files.createLink(backup, path);
+            } catch (IOException | UnsupportedOperationException e) {
+                // 하드 링크를 지원하지 않는 파일 시스템
+                Files.copy(path, backup, StandardCopyOption.REPLACE_EXISTING);
+            }
+        }
+        Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        syncDirectory(path.toAbsolutePath().getParent());
+    }
+
+    // 이름 변경을 디스크에 남깁니다. 디렉터리를 열 수 없는 플랫폼(Windows)에서는 건너뜁니다
+    private static void syncDirectory(Path directory) {
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException | UnsupportedOperationException e) {
+            // 무시 - 파일 내용은 이미 fsync되었습니다
+        }
+    }
+
+    /**
+     * 파일을 읽어 저장소를 채웁니다. 버전 3 이상은 저장소를 건드리기 전에 CRC32부터 확인합니다.
+     * 체크섬이 없는 이전 형식이 중간에 깨져 있으면 그때까지 채운 항목을 모두 지우고 예외를 던지므로,
+     * 실패한 뒤에는 저장소가 비어 있어 다른 파일에서 다시 불러올 수 있습니다.
+     * @return 서버 누적 시간(분)과 저널 세대
+     * @throws IOException 형식이 잘못되었거나 체크섬이 맞지 않는 경우
+     */
+    static LoadResult read(File source, DataChannelBuffer io, CooldownStore cooldowns, PlayerCooldowns playerCooldowns,
+                     GameCooldownStore gameCooldowns, Map<String, Long> gameTimeCooldowns) throws IOException {
+        try {
+            return readFile(source, io, cooldowns, playerCooldowns, gameCooldowns, gameTimeCooldowns);
+        } catch (IOException | RuntimeException e) {
+            clear(cooldowns, playerCooldowns, gameCooldowns, gameTimeCooldowns);
+            throw e;
+        }
+    }
+
+    private static LoadResult readFile(File source, DataChannelBuffer io, CooldownStore cooldowns, PlayerCooldowns playerCooldowns,
+                                       GameCooldownStore gameCooldowns, Map<String, Long> gameTimeCooldowns) throws IOException {
+        try (FileChannel channel = FileChannel.open(source.toPath(), StandardOpenOption.READ)) {
+            long size = channel.size();
+            // 앞부분(MAGIC, 버전 첫 바이트)만 읽어 형식을 판단합니다
+            ByteBuffer head = ByteBuffer.allocate(5);
+            while (head.hasRemaining() && channel.read(head) >= 0) {
+                // 계속 읽음
+            }
+            head.flip();
+            if (head.remaining() < 4 || head.getInt() != MAGIC) {
+                channel.position(0);
+                return readLegacy(new DataInputStream(new BufferedInputStream(Channels.newInputStream(channel))), gameTimeCooldowns);
+            }
+            if (head.hasRemaining() && head.get() >= 3) {
+                if (size < 8) {
+                    throw new IOException("시간 데이터가 잘렸습니다");
+                }
+                ByteBuffer trailer = ByteBuffer.allocate(4);
+                while (trailer.hasRemaining() && channel.read(trailer, size - 4 + trailer.position()) >= 0) {
+                    // 계속 읽음
+                }
+                channel.position(0);
+                if (io.checksum(channel, size - 4) != trailer.getInt(0)) {
+                    throw new IOException("시간 데이터 체크섬 불일치");
+                }
+            }
+            channel.position(0);
+            return readBody(io, channel, cooldowns, playerCooldowns, gameCooldowns, gameTimeCooldowns);
+        }
+    }
+
+    /**
+     * 스냅샷을 한 번에 바이트 배열(CRC32 포함)로 바꿉니다. 파일이 아닌 곳에 통째로 보관할 때 씁니다.
+     */
+    static byte[] encode(DataChannelBuffer io, Snapshot snapshot) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try {
+            write(io, Channels.newChannel(out), snapshot);
+        } catch (IOException e) {
+            throw new IllegalStateException(e); // ByteArrayOutputStream은 실패하지 않습니다
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * encode로 만든 바이트 배열(또는 파일 내용 전체)을 읽어 저장소를 채웁니다. 실패하면 read와 같이 저장소를 비웁니다.
+     * @return 서버 누적 시간(분)과 저널 세대
+     * @throws IOException 형식이 잘못되었거나 체크섬이 맞지 않는 경우
+     */
+    static LoadResult decode(byte[] data, DataChannelBuffer io, CooldownStore cooldowns, PlayerCooldowns playerCooldowns,
+                       GameCooldownStore gameCooldowns, Map<String, Long> gameTimeCooldowns) throws IOException {
+        try {
+            return decodeBytes(data, io, cooldowns, playerCooldowns, gameCooldowns, gameTimeCooldowns);
+        } catch (IOException | RuntimeException e) {
+            clear(cooldowns, playerCooldowns, gameCooldowns, gameTimeCooldowns);
+            throw e;
+        }
+    }
+
+    // 읽기는 빈 저장소에서 시작하므로, 실패하면 모두 지워 일부만 채워진 상태를 남기지 않습니다
+    private static void clear(CooldownStore cooldowns, PlayerCooldowns playerCooldowns,
+                              GameCooldownStore gameCooldowns, Map<String, Long> gameTimeCooldowns) {
+        cooldowns.clear();
+        playerCooldowns.clearAll();
+        gameCooldowns.clear();
+        gameTimeCooldowns.clear();
+    }
+
+    private static LoadResult decodeBytes(byte[] data, DataChannelBuffer io, CooldownStore cooldowns, PlayerCooldowns playerCooldowns,
+                                          GameCooldownStore gameCooldowns, Map<String, Long> gameTimeCooldowns) throws IOException {
+        ByteBuffer head = ByteBuffer.wrap(data);
+        if (data.length < 4 || head.getInt() != MAGIC) {
+            return readLegacy(new DataInputStream(new ByteArrayInputStream(data)), gameTimeCooldowns);
+        }
+        if (data.length > 4 && data[4] >= 3) {
+            int length = data.length - 4;
+            CRC32 crc = new CRC32();
+            crc.update(data, 0, length);
+            if (length < 4 || (int) crc.getValue() != head.getInt(length)) {
+                throw new IOException("시간 데이터 체크섬 불일치");
+            }
+        }
+        return readBody(io, Channels.newChannel(new ByteArrayInputStream(data)), cooldowns, playerCooldowns, gameCooldowns, gameTimeCooldowns);
+    }
+
+    private static void write(DataChannelBuffer io, WritableByteChannel channel, Snapshot snapshot) throws IOException {
+        io.beginWrite(channel);
+        io.putInt(MAGIC);
+        io.putVarLong(VERSION);
+        io.putLong(snapshot.savedAt);
+        io.putVarLong(snapshot.totalMinutes);
+        io.putVarLong(snapshot.journalGeneration);
+
+        // 실시간 쿨타임 - 만료 순으로 정렬되어 있으므로 이전 항목과의 차이만 씁니다
+        io.putVarLong(snapshot.keyCount);
+        long previous = 0;
+        for (int i = 0; i < snapshot.keyCount; i++) {
+            io.putVarLong(snapshot.remainingMillis[i] - previous);
+            io.putString(snapshot.keys[i]);
+            previous = snapshot.remainingMillis[i];
+        }
+
+        // 플레이어 쿨타임 - 종류는 번호로만 쓰고 이름표를 앞에 둡니다
+        io.putVarLong(snapshot.typeNames.length);
+        for (String name : snapshot.typeNames) {
+            io.putString(name);
+        }
+        io.putVarLong(snapshot.playerCount);
+        int entry = 0;
+        for (int player = 0; player < snapshot.playerCount; player++) {
+            io.putLong(snapshot.playerBits[player * 2]);
+            io.putLong(snapshot.playerBits[player * 2 + 1]);
+            int count = snapshot.playerEntryCounts[player];
+            io.putVarLong(count);
+            for (int end = entry + count; entry < end; entry++) {
+                io.putVarLong(snapshot.playerTypeIds[entry]);
+                io.putVarLong(snapshot.playerRemainingMillis[entry]);
+            }
+        }
+
+        // 게임 시간 쿨타임 시작 시점
+        io.putVarLong(snapshot.gameTimeStarts.size());
+        for (Map.Entry<String, Long> start : snapshot.gameTimeStarts) {
+            io.putString(start.getKey());
+            io.putVarLong(zigzag(snapshot.totalMinutes - start.getValue()));
+        }
+
+        // 범위별 게임 쿨타임 - 만료 시점은 범위 시계의 절대값이므로 그대로 씁니다
+        io.putVarLong(snapshot.gameScopes.size());
+        for (Map.Entry<String, List<Map.Entry<String, Long>>> scope : snapshot.gameScopes) {
+            io.putString(scope.getKey());
+            io.putVarLong(scope.getValue().size());
+            for (Map.Entry<String, Long> deadline : scope.getValue()) {
+                io.putString(deadline.getKey());
+                io.putVarLong(zigzag(deadline.getValue()));
+            }
+        }
+        io.endWrite(true);
+    }
+
+    private static LoadResult readBody(DataChannelBuffer io, ReadableByteChannel channel, CooldownStore cooldowns,
+                                 PlayerCooldowns playerCooldowns, GameCooldownStore gameCooldowns,
+                                 Map<String, Long> gameTimeCooldowns) throws IOException {
+        io.beginRead(channel);
+        try {
+            io.getInt(); // MAGIC - 호출하는 쪽에서 확인했습니다
+            long version = io.getVarLong();
+            if (version < 1 || version > VERSION) {
+                throw new IOException("지원하지 않는 시간 데이터 버전: " + version);
+            }
+            long savedAt = io.getLong();
+            long totalMinutes = io.getVarLong();
+            long journalGeneration = version >= 4 ? io.getVarLong() : 0;
+            // 꺼져 있던 동안 흐른 실제 시간 (시계가 뒤로 간 경우는 0으로 봅니다)
+            // 만료 시점은 모두 같은 순간(nanoAt)에 저장 시각을 겹쳐 계산하므로 읽는 데 걸린 시간이 더해지지 않습니다
+            long offline = Math.max(0, System.currentTimeMillis() - savedAt);
+            long nanoAt = cooldowns.now();
+
+            // 실시간 쿨타임은 모두 읽은 뒤 세그먼트별로 한꺼번에 넣습니다
+            int count = checkedCount(io.getVarLong());
+            String[] keys = new String[count];
+            long[] deadlines = new long[count];
+            int restored = 0;
+            long remaining = 0;
+            for (int i = 0; i < count; i++) {
+                remaining += io.getVarLong();
+                String key = io.getString();
+                if (remaining > offline) {
+                    keys[restored] = key;
+                    deadlines[restored++] = nanoAt + TimeUnit.MILLISECONDS.toNanos(remaining - offline);
+                }
+            }
+            cooldowns.restoreAll(keys, deadlines, restored);
+
+            int typeCount = checkedCount(io.getVarLong());
+            CooldownType[] types = new CooldownType[typeCount];
+            for (int i = 0; i < typeCount; i++) {
+                types[i] = CooldownType.of(io.getString());
+            }
+            long playerCount = io.getVarLong();
+            for (long i = 0; i < playerCount; i++) {
+                UUID player = new UUID(io.getLong(), io.getLong());
+                long entries = io.getVarLong();
+                for (long j = 0; j < entries; j++) {
+                    long typeId = io.getVarLong();
+                    if (typeId >= typeCount) {
+                        throw new IOException("잘못된 쿨타임 종류 번호: " + typeId);
+                    }
+                    long left = io.getVarLong() - offline;
+                    if (left > 0) {
+                        playerCooldowns.restore(player, types[(int) typeId], nanoAt + TimeUnit.MILLISECONDS.toNanos(left), null);
+                    }
+                }
+            }
+
+            long gameCount = io.getVarLong();
+            for (long i = 0; i < gameCount; i++) {
+                String key = io.getString();
+                gameTimeCooldowns.put(key, totalMinutes - unzigzag(io.getVarLong()));
+            }
+
+            if (version >= 2) {
+                long scopeCount = io.getVarLong();
+                for (long i = 0; i < scopeCount; i++) {
+                    String scope = io.getString();
+                    long entries = io.getVarLong();
+                    for (long j = 0; j < entries; j++) {
+                        String key = io.getString();
+                        gameCooldowns.set(scope, key, unzigzag(io.getVarLong()));
+                    }
+                }
+            }
+            return new LoadResult(savedAt, totalMinutes, journalGeneration);
+        } finally {
+            io.endRead();
+        }
+    }
+
+    // 이전 형식: 첫 8바이트는 누적 시간입니다
+    private static LoadResult readLegacy(DataInputStream in, Map<String, Long> gameTimeCooldowns) throws IOException {
+        long totalMinutes = in.readLong();
+        int count = in.readInt();
+        for (int i = 0; i < count; i++) {
+            String id = in.readUTF();
+            long start = in.readLong();
+            if (start <= totalMinutes) {
+                gameTimeCooldowns.put(id, start);
+            }
+        }
+        return new LoadResult(0, totalMinutes, 0);
+    }
+
+    private static int checkedCount(long count) throws IOException {
+        if (count < 0 || count > Integer.MAX_VALUE - 8) {
+            throw new IOException("잘못된 항목 수: " + count);
+        }
+        return (int) count;
+    }
+
+    private static long toMillisCeil(long nanos) {
+        return (nanos + 999_999L) / 1_000_000L;
+    }
+
+    private static long zigzag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static long unzigzag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    /**
+     * 불러온 파일의 저장 시각(epoch ms, 이전 형식은 0), 서버 누적 시간과 저널 세대
+     */
+    static final class LoadResult {
+        final long savedAt;
+        final long totalMinutes;
+        final long journalGeneration;
+
+        private LoadResult(long savedAt, long totalMinutes, long journalGeneration) {
+            this.savedAt = savedAt;
+            this.totalMinutes = totalMinutes;
+            this.journalGeneration = journalGeneration;
+        }
+    }
+
+    /**
+     * 저장할 내용을 한 시점 기준으로 복사해 둔 것 - 만든 뒤에는 저장소를 다시 보지 않습니다.
+     * 실시간/플레이어 쿨타임은 항목 객체 없이 기본형 배열로만 보관합니다.
+     */
+    static final class Snapshot {
+        private final long savedAt;
+        private final long totalMinutes;
+        private final long journalGeneration;
+        // 실시간 쿨타임 - 남은 시간 오름차순
+        private String[] keys;
+        private long[] remainingMillis;
+        private int keyCount;
+        // 플레이어 쿨타임 - 플레이어마다 UUID 두 칸과 항목 수, 항목은 이어서 저장
+        private final String[] typeNames; // 쓰인 번호 중 가장 큰 것까지만
+        private long[] playerBits = new long[32];
+        private int[] playerEntryCounts = new int[16];
+        private int playerCount;
+        private int[] playerTypeIds = new int[16];
+        private long[] playerRemainingMillis = new long[16];
+        private int playerEntries;
+        // 게임 시간 쿨타임
+        private final List<Map.Entry<String, Long>> gameTimeStarts;
+        private final List<Map.Entry<String, List<Map.Entry<String, Long>>>> gameScopes = new ArrayList<>();
+
+        private Snapshot(long totalMinutes, long journalGeneration, CooldownStore cooldowns, PlayerCooldowns playerCooldowns,
+                         GameCooldownStore gameCooldowns, Map<String, Long> gameTimeCooldowns) {
+            // 모든 남은 시간은 저장 시각과 같은 순간(nanoAt)을 기준으로 계산합니다
+            this.savedAt = System.currentTimeMillis();
+            this.totalMinutes = totalMinutes;
+            this.journalGeneration = journalGeneration;
+            long nanoAt = cooldowns.now();
+
+            int expected = Math.max(16, cooldowns.size());
+            keys = new String[expected];
+            remainingMillis = new long[expected];
+            cooldowns.forEachActive(nanoAt, this::addCooldown);
+            sortByRemaining();
+
+            int[] maxTypeId = {-1};
+            playerCooldowns.forEachActive(nanoAt, new PlayerCooldowns.EntryVisitor() {
+                private UUID current;
+
+                @Override
+                public void visit(UUID player, CooldownType type, long remainingNanos) {
+                    // 같은 플레이어의 항목은 연달아 전달됩니다
+                    if (!player.equals(current)) {
+                        current = player;
+                        addPlayer(player);
+                    }
+                    addPlayerEntry(type.getId(), toMillisCeil(remainingNanos));
+                    maxTypeId[0] = Math.max(maxTypeId[0], type.getId());
+                }
+            });
+            // 종류 이름표는 플레이어 쿨타임을 다 훑은 뒤에 만듭니다. 훑는 도중 새 종류가 등록되어 쓰였더라도
+            // 번호는 0부터 빈틈없이 부여되므로, 가장 큰 번호까지의 종류는 이미 모두 등록되어 있습니다
+            typeNames = new String[maxTypeId[0] + 1];
+            for (int id = 0; id < typeNames.length; id++) {
+                typeNames[id] = CooldownType.byId(id).getName();
+            }
+
+            gameTimeStarts = copyEntries(gameTimeCooldowns);
+            for (Map.Entry<String, ConcurrentHashMap<String, Long>> scope : gameCooldowns.scopes().entrySet()) {
+                List<Map.Entry<String, Long>> entries = copyEntries(scope.getValue());
+                if (!entries.isEmpty()) {
+                    gameScopes.add(Map.entry(scope.getKey(), entries));
+                }
+            }
+        }
+
+        // 저장 중에도 바뀌는 맵이므로 한 번 훑어 값까지 고정된 목록으로 옮깁니다.
+        // 파일에 적는 개수는 이 목록의 크기이므로 뒤따르는 항목 수와 항상 맞습니다.
+        private static List<Map.Entry<String, Long>> copyEntries(Map<String, Long> live) {
+            List<Map.Entry<String, Long>> entries = new ArrayList<>();
+            for (Map.Entry<String, Long> entry : live.entrySet()) {
+                entries.add(Map.entry(entry.getKey(), entry.getValue()));
+            }
+            return entries;
+        }
+
+        /**
+         * @return 실시간 쿨타임과 플레이어 쿨타임 항목 수의 합
+         */
+        int size() {
+            return keyCount + playerEntries;
+        }
+
+        private void addCooldown(String key, long remainingNanos) {
+            if (keyCount == keys.length) {
+                keys = Arrays.copyOf(keys, keyCount * 2);
+                remainingMillis = Arrays.copyOf(remainingMillis, keyCount * 2);
+            }
+            keys[keyCount] = key;
+            remainingMillis[keyCount++] = toMillisCeil(remainingNanos);
+        }
+
+        private void addPlayer(UUID player) {
+            if (playerCount == playerEntryCounts.length) {
+                playerEntryCounts = Arrays.copyOf(playerEntryCounts, playerCount * 2);
+                playerBits = Arrays.copyOf(playerBits, playerCount * 4);
+            }
+            playerBits[playerCount * 2] = player.getMostSignificantBits();
+            playerBits[playerCount * 2 + 1] = player.getLeastSignificantBits();
+            playerEntryCounts[playerCount++] = 0;
+        }
+
+        private void addPlayerEntry(int typeId, long millis) {
+            if (playerEntries == playerTypeIds.length) {
+                playerTypeIds = Arrays.copyOf(playerTypeIds, playerEntries * 2);
+                playerRemainingMillis = Arrays.copyOf(playerRemainingMillis, playerEntries * 2);
+            }
+            playerTypeIds[playerEntries] = typeId;
+            playerRemainingMillis[playerEntries++] = millis;
+            playerEntryCounts[playerCount - 1]++;
+        }
+
+        // 남은 시간은 모두 양수이므로 16비트씩 LSD 기수 정렬합니다 - 비교 정렬보다 빠르고 객체를 만들지 않습니다
+        private void sortByRemaining() {
+            long bits = 0;
+            for (int i = 0; i < keyCount; i++) {
+                bits |= remainingMillis[i];
+            }
+            if (keyCount < 2) {
+                return;
+            }
+            long[] values = remainingMillis;
+            String[] names = keys;
+            long[] valueBuffer = new long[values.length];
+            String[] nameBuffer = new String[names.length];
+            int[] offsets = new int[1 << 16];
+            for (int shift = 0; shift < 64 && (bits >>> shift) != 0; shift += 16) {
+                Arrays.fill(offsets, 0);
+                for (int i = 0; i < keyCount; i++) {
+                    offsets[(int) (values[i] >>> shift) & 0xFFFF]++;
+                }
+                int position = 0;
+                for (int digit = 0; digit < offsets.length; digit++) {
+                    int count = offsets[digit];
+                    offsets[digit] = position;
+                    position += count;
+                }
+                for (int i = 0; i < keyCount; i++) {
+                    int target = offsets[(int) (values[i] >>> shift) & 0xFFFF]++;
+                    valueBuffer[target] = values[i];
+                    nameBuffer[target] = names[i];
+                }
+                long[] swapValues = values;
+                values = valueBuffer;
+                valueBuffer = swapValues;
+                String[] swapNames = names;
+                names = nameBuffer;
+                nameBuffer = swapNames;
+            }
+            remainingMillis = values;
+            keys = names;
+        }
+    }
+}
@@ -0,0 +1,554 @@
+package wiki.creeper.creeperTimeUtil.core;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+
+/**
+ * 커널 변경 기록 저널 (timedata.journal.&lt;세대&gt;)
+ *
+ * 시계 진행과 쿨타임 설정/제거를 호출한 스레드에서 대기열에 넣기만 하고, 전용 스레드가 commit-interval마다
+ * 모인 기록을 한 묶음으로 이어 쓰고 fsync합니다(group commit). 쓰기 비용은 전체 항목 수가 아닌 바뀐 양에 비례합니다.
+ * <pre>
+ * int MAGIC ("CTJL")
+ * 묶음 반복: int 본문 길이, int 본문 CRC32, 본문 (varint 기록 수, 기록들)
+ * </pre>
+ * 쿨타임 만료 시각은 서버가 꺼져 있던 시간도 흐르도록 epoch ms로 기록하며, 시계 기록에는 기록한 시각(epoch ms)을 함께 남깁니다.
+ *
+ * 저장(timedata.dat)은 rotate()로 새 세대를 연 뒤 그 세대 번호와 함께 스냅샷을 쓰고, 성공하면 이전 세대 파일을 지웁니다.
+ * 불러올 때는 스냅샷의 세대부터 저널을 재생하며, 각 파일에서 길이나 CRC가 맞지 않는 묶음(쓰다 끊긴 꼬리)을 만나면 그 파일을 멈춥니다.
+ * 기록은 모두 덮어쓰기이므로 스냅샷에 이미 반영된 기록을 다시 재생해도 결과가 같습니다.
+ */
+final class TimeJournal {
+    static final String FILE_PREFIX = "timedata.journal.";
+    private static final int MAGIC = 0x43544A4C; // "CTJL"
+    private static final int BATCH_HEADER_BYTES = 8;
+    private static final int BUFFER_CAPACITY = 64 * 1024;
+    private static final long CLOSE_TIMEOUT_MILLIS = 5000L;
+
+    // 기록 종류
+    private static final int CLOCK = 1;
+    private static final int SET = 2;
+    private static final int REMOVE = 3;
+    private static final int PLAYER_SET = 4;
+    private static final int PLAYER_REMOVE = 5;
+    private static final int PLAYER_CLEAR = 6;
+    private static final int TYPE_CLEAR = 7;
+    private static final int GAME_SET = 8;
+    private static final int GAME_REMOVE = 9;
+    private static final int LEGACY_SET = 10;
+
+    private final File directory;
+    private final Logger logger;
+    private final ConcurrentLinkedQueue<Record> pending = new ConcurrentLinkedQueue<>();
+    private final DataChannelBuffer io = new DataChannelBuffer(BUFFER_CAPACITY); // 쓰기 스레드 전용
+    private final AtomicBoolean compactionRequested = new AtomicBoolean(false);
+
+    private volatile boolean enabled = true;
+    private volatile long commitIntervalMillis = 100L;
+    private volatile long compactBytes = 16L * 1024 * 1024;
+    private Runnable compactor = () -> { };
+
+    private volatile boolean open;
+    private ScheduledExecutorService writer;
+    private FileChannel channel; // 쓰기 스레드 전용 (열기/닫기 제외)
+    private long generation; // 지금 쓰는 세대 - rotate/open/close에서만 바뀝니다
+
+    TimeJournal(File directory, Logger logger) {
+        this.directory = directory;
+        this.logger = logger;
+    }
+
+    /**
+     * 저널 설정. enabled와 commitIntervalMillis는 open() 때 적용되고, compactBytes는 바로 적용됩니다.
+     */
+    void configure(boolean enabled, long commitIntervalMillis, long compactBytes) {
+        this.enabled = enabled;
+        this.commitIntervalMillis = Math.max(1L, commitIntervalMillis);
+        this.compactBytes = Math.max(1L, compactBytes);
+    }
+
+    /**
+     * 저널이 compactBytes를 넘었을 때 한 번 불릴 작업(보통 비동기 전체 저장). 다음 rotate() 뒤에 다시 불릴 수 있습니다.
+     */
+    void setCompactor(Runnable compactor) {
+        this.compactor = compactor;
+    }
+
+    boolean isEnabled() {
+        return open && enabled;
+    }
+
+    // ===== 기록 (어느 스레드에서나) =====
+
+    void clock(long totalMinutes) {
+        append(new Record(CLOCK, null, null, System.currentTimeMillis(), 0, totalMinutes)); // msb 자리에 기록 시각
+    }
+
+    void set(String key, long deadlineEpochMillis) {
+        append(new Record(SET, key, null, 0, 0, deadlineEpochMillis));
+    }
+
+    void remove(String key) {
+        append(new Record(REMOVE, key, null, 0, 0, 0));
+    }
+
+    void setPlayer(UUID player, CooldownType type, long deadlineEpochMillis) {
+        append(new Record(PLAYER_SET, type.getName(), null,
+            player.getMostSignificantBits(), player.getLeastSignificantBits(), deadlineEpochMillis));
+    }
+
+    void removePlayer(UUID player, CooldownType type) {
+        append(new Record(PLAYER_REMOVE, type.getName(), null,
+            player.getMostSignificantBits(), player.getLeastSignificantBits(), 0));
+    }
+
+    void clearPlayer(UUID player) {
+        append(new Record(PLAYER_CLEAR, null, null, player.getMostSignificantBits(), player.getLeastSignificantBits(), 0));
+    }
+
+    void clearType(CooldownType type) {
+        append(new Record(TYPE_CLEAR, type.getName(), null, 0, 0, 0));
+    }
+
+    void setGame(String scope, String key, long deadlineMinutes) {
+        append(new Record(GAME_SET, scope, key, 0, 0, deadlineMinutes));
+    }
+
+    void removeGame(String scope, String key) {
+        append(new Record(GAME_REMOVE, scope, key, 0, 0, 0));
+    }
+
+    void setLegacy(String key, long startMinutes) {
+        append(new Record(LEGACY_SET, key, null, 0, 0, startMinutes));
+    }
+
+    private void append(Record record) {
+        if (open && enabled) {
+            pending.add(record);
+        }
+    }
+
+    // ===== 세대 관리 =====
+
+    /**
+     * 불러온 스냅샷 다음부터 쓸 새 세대 파일을 열고 쓰기 스레드를 시작합니다.
+     * 기존 파일에는 덧붙이지 않으므로, 끊긴 꼬리가 있는 파일 뒤에 새 기록이 붙지 않습니다.
+     */
+    synchronized void open(long nextGeneration) {
+        generation = Math.max(nextGeneration, generation);
+        open = true;
+        if (!enabled) {
+            return;
+        }
+        directory.mkdirs();
+        try {
+            channel = openGeneration(generation);
+        } catch (IOException e) {
+            logger.log(Level.SEVERE, "저널 파일을 열 수 없어 저널을 끕니다", e);
+            enabled = false;
+            return;
+        }
+        writer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "CreeperTimeUtil-Journal");
+            thread.setDaemon(true);
+            return thread;
+        });
+        writer.scheduleWithFixedDelay(this::commit, commitIntervalMillis, commitIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 대기 중인 기록을 지금 세대에 마저 쓰고 다음 세대로 넘어갑니다.
+     * @return 새 세대 번호 - 이후의 스냅샷은 이 번호보다 앞선 세대를 모두 반영합니다
+     */
+    synchronized long rotate() throws IOException {
+        if (writer == null) {
+            compactionRequested.set(false);
+            return ++generation;
+        }
+        try {
+            writer.submit(() -> {
+                commit();
+                FileChannel next = openGeneration(generation + 1);
+                channel.close();
+                channel = next;
+                generation++;
+                compactionRequested.set(false);
+                return null;
+            }).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("저널 세대 전환이 중단되었습니다", e);
+        } catch (ExecutionException e) {
+            throw new IOException("저널 세대 전환 실패", e.getCause());
+        }
+        return generation;
+    }
+
+    /**
+     * generation보다 앞선 세대 파일을 지웁니다. 그 세대까지 반영한 스냅샷을 쓴 뒤에만 부릅니다.
+     */
+    void deleteBefore(long generation) {
+        for (long existing : listGenerations()) {
+            if (existing < generation) {
+                fileOf(existing).delete();
+            }
+        }
+    }
+
+    /**
+     * 남은 기록을 쓰고 쓰기 스레드를 멈춥니다.
+     */
+    synchronized void close() {
+        open = false;
+        if (writer == null) {
+            return;
+        }
+        writer.shutdown();
+        try {
+            if (!writer.awaitTermination(CLOSE_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)) {
+                writer.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            writer.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+        writer = null;
+        commit(); // 쓰기 스레드가 멈췄으므로 여기서 마지막 묶음을 씁니다
+        try {
+            channel.close();
+        } catch (IOException e) {
+            logger.log(Level.WARNING, "저널 파일 닫기 실패", e);
+        }
+        channel = null;
+    }
+
+    private FileChannel openGeneration(long generation) throws IOException {
+        FileChannel next = FileChannel.open(fileOf(generation).toPath(),
+            StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+        ByteBuffer magic = ByteBuffer.allocate(4).putInt(0, MAGIC);
+        while (magic.hasRemaining()) {
+            next.write(magic);
+        }
+        return next;
+    }
+
+    private File fileOf(long generation) {
+        return new File(directory, FILE_PREFIX + generation);
+    }
+
+    // 디렉터리에 있는 저널 파일의 세대 번호 (오름차순)
+    private List<Long> listGenerations() {
+        List<Long> generations = new ArrayList<>();
+        File[] files = directory.listFiles((dir, name) -> name.startsWith(FILE_PREFIX));
+        if (files == null) {
+            return generations;
+        }
+        for (File file : files) {
+            try {
+                generations.add(Long.parseLong(file.getName().substring(FILE_PREFIX.length())));
+            } catch (NumberFormatException e) {
+                // 저널 파일이 아님
+            }
+        }
+        Collections.sort(generations);
+        return generations;
+    }
+
+    // ===== 쓰기 스레드 =====
+
+    // 모인 기록을 한 묶음으로 쓰고 fsync합니다. 실패하면 전체 저장으로 빠진 기록을 메웁니다
+    private void commit() {
+        if (pending.isEmpty() || channel == null) {
+            return;
+        }
+        List<Record> batch = new ArrayList<>();
+        for (Record record; (record = pending.poll()) != null; ) {
+            batch.add(record);
+        }
+        try {
+            byte[] body = encode(batch);
+            CRC32 crc = new CRC32();
+            crc.update(body, 0, body.length);
+            ByteBuffer header = ByteBuffer.allocate(BATCH_HEADER_BYTES).putInt(body.length).putInt((int) crc.getValue());
+            header.flip();
+            ByteBuffer[] buffers = {header, ByteBuffer.wrap(body)};
+            while (buffers[1].hasRemaining()) {
+                channel.write(buffers);
+            }
+            channel.force(false);
+            if (channel.size() >= compactBytes) {
+                requestCompaction();
+            }
+        } catch (IOException e) {
+            logger.log(Level.SEVERE, "저널 쓰기 실패 - 전체 저장으로 대신합니다", e);
+            requestCompaction();
+        }
+    }
+
+    private void requestCompaction() {
+        if (!open || !compactionRequested.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            compactor.run();
+        } catch (RuntimeException e) {
+            compactionRequested.set(false);
+            logger.log(Level.WARNING, "저널 압축 요청 실패", e);
+        }
+    }
+
+    private byte[] encode(List<Record> batch) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(batch.size() * 32);
+        io.beginWrite(Channels.newChannel(out));
+        io.putVarLong(batch.size());
+        for (Record record : batch) {
+            io.putVarLong(record.type);
+            switch (record.type) {
+                case CLOCK:
+                    io.putVarLong(zigzag(record.value));
+                    io.putLong(record.msb);
+                    break;
+                case SET:
+                    io.putString(record.first);
+                    io.putLong(record.value);
+                    break;
+                case REMOVE:
+                case TYPE_CLEAR:
+                    io.putString(record.first);
+                    break;
+                case PLAYER_SET:
+                    io.putLong(record.msb);
+                    io.putLong(record.lsb);
+                    io.putString(record.first);
+                    io.putLong(record.value);
+                    break;
+                case PLAYER_REMOVE:
+                    io.putLong(record.msb);
+                    io.putLong(record.lsb);
+                    io.putString(record.first);
+                    break;
+                case PLAYER_CLEAR:
+                    io.putLong(record.msb);
+                    io.putLong(record.lsb);
+                    break;
+                case GAME_SET:
+                    io.putString(record.first);
+                    io.putString(record.second);
+                    io.putVarLong(zigzag(record.value));
+                    break;
+                case GAME_REMOVE:
+                    io.putString(record.first);
+                    io.putString(record.second);
+                    break;
+                case LEGACY_SET:
+                    io.putString(record.first);
+                    io.putVarLong(zigzag(record.value));
+                    break;
+                default:
+                    throw new IllegalStateException("알 수 없는 저널 기록: " + record.type);
+            }
+        }
+        io.endWrite(false);
+        return out.toByteArray();
+    }
+
+    // ===== 재생 =====
+
+    /**
+     * fromGeneration 이상인 세대 파일을 순서대로 저장소에 재생합니다. open() 전에 부릅니다.
+     * 이미 지난 만료 시각의 쿨타임은 제거로 처리합니다.
+     * @return 마지막 시계 기록, 없으면 null
+     */
+    ClockRecord replay(long fromGeneration, CooldownStore cooldowns, PlayerCooldowns playerCooldowns,
+                       GameCooldownStore gameCooldowns, Map<String, Long> gameTimeCooldowns) {
+        ClockRecord clock = null;
+        int batches = 0;
+        for (long fileGeneration : listGenerations()) {
+            generation = Math.max(generation, fileGeneration + 1);
+            if (fileGeneration < fromGeneration) {
+                continue;
+            }
+            File file = fileOf(fileGeneration);
+            byte[] data;
+            try {
+                data = Files.readAllBytes(file.toPath());
+            } catch (IOException e) {
+                logger.log(Level.SEVERE, "저널 읽기 실패: " + file.getName(), e);
+                continue;
+            }
+            ByteBuffer buffer = ByteBuffer.wrap(data);
+            if (buffer.remaining() < 4 || buffer.getInt() != MAGIC) {
+                logger.warning("저널 형식이 아닙니다: " + file.getName());
+                continue;
+            }
+            while (buffer.remaining() >= BATCH_HEADER_BYTES) {
+                int length = buffer.getInt();
+                int checksum = buffer.getInt();
+                if (length < 0 || length > buffer.remaining()) {
+                    break;
+                }
+                CRC32 crc = new CRC32();
+                crc.update(data, buffer.position(), length);
+                if ((int) crc.getValue() != checksum) {
+                    break;
+                }
+                try {
+                    clock = apply(data, buffer.position(), length, clock,
+                        cooldowns, playerCooldowns, gameCooldowns, gameTimeCooldowns);
+                } catch (IOException e) {
+                    logger.log(Level.WARNING, "저널 묶음을 읽을 수 없습니다: " + file.getName(), e);
+                    break;
+                }
+                buffer.position(buffer.position() + length);
+                batches++;
+            }
+            if (buffer.hasRemaining()) {
+                logger.warning(String.format("저널 %s의 끝 %d바이트가 완전하지 않아 버렸습니다", file.getName(), buffer.remaining()));
+            }
+        }
+        if (batches > 0) {
+            logger.info("저널 재생 완료: 묶음 " + batches + "개");
+        }
+        return clock;
+    }
+
+    private ClockRecord apply(byte[] data, int offset, int length, ClockRecord clock, CooldownStore cooldowns,
+                              PlayerCooldowns playerCooldowns, GameCooldownStore gameCooldowns,
+                              Map<String, Long> gameTimeCooldowns) throws IOException {
+        long nowMillis = System.currentTimeMillis();
+        io.beginRead(Channels.newChannel(new ByteArrayInputStream(data, offset, length)));
+        try {
+            long count = io.getVarLong();
+            for (long i = 0; i < count; i++) {
+                int type = (int) io.getVarLong();
+                switch (type) {
+                    case CLOCK: {
+                        long totalMinutes = unzigzag(io.getVarLong());
+                        clock = new ClockRecord(totalMinutes, io.getLong());
+                        break;
+                    }
+                    case SET: {
+                        String key = io.getString();
+                        long remainingMillis = io.getLong() - nowMillis;
+                        if (remainingMillis > 0) {
+                            cooldowns.set(key, TimeUnit.MILLISECONDS.toNanos(remainingMillis), null);
+                        } else {
+                            cooldowns.remove(key);
+                        }
+                        break;
+                    }
+                    case REMOVE: {
+                        String key = io.getString();
+                        cooldowns.remove(key);
+                        gameTimeCooldowns.remove(key);
+                        break;
+                    }
+                    case PLAYER_SET: {
+                        UUID player = new UUID(io.getLong(), io.getLong());
+                        CooldownType cooldownType = CooldownType.of(io.getString());
+                        long remainingMillis = io.getLong() - nowMillis;
+                        if (remainingMillis > 0) {
+                            playerCooldowns.set(player, cooldownType, TimeUnit.MILLISECONDS.toNanos(remainingMillis), null);
+                        } else {
+                            playerCooldowns.remove(player, cooldownType);
+                        }
+                        break;
+                    }
+                    case PLAYER_REMOVE: {
+                        UUID player = new UUID(io.getLong(), io.getLong());
+                        playerCooldowns.remove(player, CooldownType.of(io.getString()));
+                        break;
+                    }
+                    case PLAYER_CLEAR:
+                        playerCooldowns.clear(new UUID(io.getLong(), io.getLong()));
+                        break;
+                    case TYPE_CLEAR:
+                        playerCooldowns.clearType(CooldownType.of(io.getString()));
+                        break;
+                    case GAME_SET: {
+                        String scope = io.getString();
+                        String key = io.getString();
+                        gameCooldowns.set(scope, key, unzigzag(io.getVarLong()));
+                        break;
+                    }
+                    case GAME_REMOVE: {
+                        String scope = io.getString();
+                        gameCooldowns.remove(scope, io.getString());
+                        break;
+                    }
+                    case LEGACY_SET: {
+                        String key = io.getString();
+                        gameTimeCooldowns.put(key, unzigzag(io.getVarLong()));
+                        break;
+                    }
+                    default:
+                        throw new IOException("알 수 없는 저널 기록: " + type);
+                }
+            }
+        } finally {
+            io.endRead();
+        }
+        return clock;
+    }
+
+    private static long zigzag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static long unzigzag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    /**
+     * 재생한 시계 기록 - 서버 누적 시간(분)과 기록한 시각(epoch ms)
+     */
+    static final class ClockRecord {
+        final long totalMinutes;
+        final long writtenAt;
+
+        private ClockRecord(long totalMinutes, long writtenAt) {
+            this.totalMinutes = totalMinutes;
+            this.writtenAt = writtenAt;
+        }
+    }
+
+    // 대기열에 들어가는 변경 기록 하나 - 종류마다 쓰는 필드만 채웁니다
+    private static final class Record {
+        private final int type;
+        private final String first;
+        private final String second;
+        private final long msb;
+        private final long lsb;
+        private final long value;
+
+        private Record(int type, String first, String second, long msb, long lsb, long value) {
+            this.type = type;
+            this.first = first;
+            this.second = second;
+            this.msb = msb;
+            this.lsb = lsb;
+            this.value = value;
+        }
+    }
+}
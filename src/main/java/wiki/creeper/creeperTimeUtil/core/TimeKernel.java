@@ -2,42 +2,108 @@ package wiki.creeper.creeperTimeUtil.core;
 
 import org.bukkit.Bukkit;
 import org.bukkit.World;
+import org.bukkit.event.HandlerList;
 import org.bukkit.plugin.java.JavaPlugin;
 import org.bukkit.scheduler.BukkitRunnable;
 import org.bukkit.scheduler.BukkitTask;
 import wiki.creeper.creeperTimeUtil.events.*;
 
 import java.io.*;
-import java.util.HashMap;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
 import java.util.logging.Level;
 
 public class TimeKernel {
     private static TimeKernel instance;
     private final JavaPlugin plugin;
     
+    // totalMinutes는 clockLock 아래에서만 갱신하고, 읽는 쪽은 발행된 snapshot만 봅니다
+    private final Object clockLock = new Object();
     private long totalMinutes = 0;
-    private int lastHour = -1;
-    private int lastDay = -1;
-    private int lastWeek = -1;
-    private int lastMonth = -1;
-    private ServerTimeOfDayEvent.TimeOfDay lastTimeOfDay = null;
+    private volatile GameCalendar calendar = GameCalendar.DEFAULT;
+    private volatile ClockSnapshot snapshot = ClockSnapshot.of(0, GameCalendar.DEFAULT);
     
+    // 커널 → 메인 스레드 우편함: 대기 중인 drain 작업은 최대 하나이며, 한 번에 밀린 분을 모두 처리합니다
+    private final AtomicBoolean drainScheduled = new AtomicBoolean(false);
+    private final List<TimeJump> pendingJumps = new ArrayList<>(); // clockLock 보호
+    private long dispatchedMinutes = 0; // 이벤트가 발생된 마지막 분 - 메인 스레드 전용
+    private BoundaryTracker boundaries = new BoundaryTracker(GameCalendar.DEFAULT, 0); // dispatchedMinutes 이후의 다음 경계 - 메인 스레드 전용
+    private final GameTimeScheduler scheduler;
+    private final TimeSubscriptions subscriptions;
+    
+    // 크게 건너뛴 구간의 이벤트 처리 방식
+    private volatile BoundaryWalker.Coalesce catchUpMode = BoundaryWalker.Coalesce.FIRE_ALL;
+    private volatile long catchUpThreshold = 1440L;
+    
+    // 시계 구동 방식 - 어느 쪽이든 이벤트 발생은 메인 스레드로 넘깁니다
+    private ClockDriver driver = ClockDriver.BUKKIT;
+    private long driverPeriodNanos = DEFAULT_DRIVER_PERIOD_NANOS;
     private BukkitTask timerTask;
-    private final Map<String, Long> cooldowns = new ConcurrentHashMap<>();
-    private final Map<String, Long> cooldownDurations = new ConcurrentHashMap<>();
+    private ScheduledExecutorService driverExecutor;
+    private BukkitTask expiryTask; // 쿨타임 만료 정리 - 메인 스레드에서 매 틱
+    // 쿨타임/속도 제한/접속 시간은 모두 timeSource 하나를 기준으로 잽니다
+    private final TimeSource timeSource;
+    private final CooldownStore cooldowns; // 실시간 쿨타임 - 키마다 만료 시점 하나
+    private final PlayerCooldowns playerCooldowns; // 플레이어 쿨타임 - (UUID, 종류 번호)별 만료 시점
+    private final RateLimiter rateLimiter; // 키별 토큰 버킷
+    private final Map<String, Long> gameTimeCooldowns = new ConcurrentHashMap<>(); // 게임 시간 쿨타임 시작 시점(분)
+    private final GameCooldownStore gameCooldowns = new GameCooldownStore(); // 게임 시간 쿨타임 - 범위별 만료 시점(게임 분)
+    private long gameCooldownSweptAt; // 마지막으로 게임 시간 쿨타임을 정리한 서버 시간(분) - 메인 스레드 전용
+    private final Object saveLock = new Object(); // 자동 저장(비동기)과 종료 시 저장이 겹치지 않게 합니다
+    private final DataChannelBuffer ioBuffer = new DataChannelBuffer(DataChannelBuffer.DEFAULT_CAPACITY); // 저장/불러오기 공용 - saveLock 보호
+    private final TimeJournal journal; // 저장 사이의 변경 기록 - 저장할 때마다 새 세대로 넘어갑니다
+    private final AtomicBoolean compactionScheduled = new AtomicBoolean(false);
+    private long journaledMinutes = Long.MIN_VALUE; // 저널과 체크포인트에 마지막으로 기록한 서버 시간(분) - 메인 스레드 전용
+    private final ClockCheckpoint checkpoint; // 분마다 갱신하는 메모리 매핑 시계 체크포인트
+    private final StorageWriter storage; // 커널 상태/플레이 시간 저장소 - 모든 호출을 전용 스레드 하나에서 실행합니다
+    private StorageType storageType = StorageType.FILE;
+    private String sqliteFileName = DEFAULT_SQLITE_FILE_NAME;
     
-    private static final long TICKS_PER_SECOND = 20L;
     private static final long DEFAULT_REAL_SECONDS_PER_MINECRAFT_MINUTE = 17L;
-    private static final String DATA_FILE_NAME = "timedata.dat";
+    private static final long CLOCK_POLL_INTERVAL_TICKS = 1L;
+    private static final long DEFAULT_DRIVER_PERIOD_NANOS = 5_000_000L; // 5ms
+    private static final long DRIVER_SHUTDOWN_TIMEOUT_MILLIS = 1000L;
+    private static final String DEFAULT_SQLITE_FILE_NAME = "timedata.db";
+    private static final long GAME_COOLDOWN_SWEEP_MINUTES = 60L;
+    
+    private volatile double timeSpeed = 1.0; // 시간 속도 배율 (1.0 = 기본속도)
+    private volatile boolean timePaused = false; // 시간 일시정지 여부
+    private volatile boolean clockStateRecovered; // 비정상 종료 체크포인트에서 속도/일시정지 상태를 이어받았는지
     
-    private double timeSpeed = 1.0; // 시간 속도 배율 (1.0 = 기본속도)
-    private boolean timePaused = false; // 시간 일시정지 여부
-    private long realSecondsPerMinute = DEFAULT_REAL_SECONDS_PER_MINECRAFT_MINUTE;
+    // 게임 시간은 단조 시계 기준점에서 계산하고, 타이머는 경계 감지와 따라잡기만 담당합니다
+    private final AnchoredClock clock = new AnchoredClock(DEFAULT_REAL_SECONDS_PER_MINECRAFT_MINUTE * 1_000_000_000L);
     
     public TimeKernel(JavaPlugin plugin) {
+        this(plugin, TimeSource.MONOTONIC);
+    }
+    
+    public TimeKernel(JavaPlugin plugin, TimeSource timeSource) {
         this.plugin = plugin;
+        this.timeSource = timeSource;
+        this.cooldowns = new CooldownStore(timeSource);
+        this.playerCooldowns = new PlayerCooldowns(timeSource);
+        this.rateLimiter = new RateLimiter(timeSource);
+        this.journal = new TimeJournal(plugin.getDataFolder(), plugin.getLogger());
+        this.journal.setCompactor(this::scheduleCompaction);
+        this.checkpoint = new ClockCheckpoint(new File(plugin.getDataFolder(), ClockCheckpoint.FILE_NAME));
+        this.storage = new StorageWriter(plugin.getLogger());
+        this.scheduler = new GameTimeScheduler(0, (task, e) ->
+            plugin.getLogger().log(Level.WARNING, "게임 시간 예약 작업 실행 중 오류가 발생했습니다", e));
+        this.subscriptions = new TimeSubscriptions((listener, e) ->
+            plugin.getLogger().log(Level.WARNING, "시간 구독 콜백 실행 중 오류가 발생했습니다", e));
         instance = this;
     }
     
@@ -46,92 +112,272 @@ public class TimeKernel {
     }
     
     public void start() {
+        openStorage();
         loadTimeData();
+        synchronized (clockLock) {
+            clock.set(totalMinutes);
+            publish(totalMinutes);
+            dispatchedMinutes = totalMinutes;
+            boundaries.reset(dispatchedMinutes);
+            scheduler.advanceTo(dispatchedMinutes);
+        }
+        journaledMinutes = totalMinutes;
         startTimer();
-        updateLastValues();
+        expiryTask = Bukkit.getScheduler().runTaskTimer(plugin, this::tick, 1L, 1L);
     }
     
     public void stop() {
-        if (timerTask != null) {
-            timerTask.cancel();
+        stopTimer();
+        if (expiryTask != null) {
+            expiryTask.cancel();
+            expiryTask = null;
         }
         saveTimeData();
+        journal.close();
+        checkpoint.writeClean(snapshot.getTotalMinutes(), timeSpeed, timePaused);
+        checkpoint.close();
+        storage.close();
     }
     
+    // 타이머는 속도와 무관하게 한 번만 만들어지며, 속도 변경/일시정지는 시계의 기준점만 바꿉니다
     private void startTimer() {
-        updateTimerInterval();
+        switch (driver) {
+            case EXECUTOR:
+                driverExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                    Thread thread = new Thread(runnable, "CreeperTimeUtil-Clock");
+                    thread.setDaemon(true);
+                    thread.setPriority(Thread.MAX_PRIORITY);
+                    return thread;
+                });
+                driverExecutor.scheduleAtFixedRate(this::pollClock, driverPeriodNanos, driverPeriodNanos, TimeUnit.NANOSECONDS);
+                break;
+            default:
+                timerTask = new BukkitRunnable() {
+                    @Override
+                    public void run() {
+                        catchUp();
+                    }
+                }.runTaskTimerAsynchronously(plugin, CLOCK_POLL_INTERVAL_TICKS, CLOCK_POLL_INTERVAL_TICKS);
+                break;
+        }
     }
     
-    private void updateTimerInterval() {
+    // 실행 중인 드라이버를 멈추고, 전용 스레드라면 진행 중인 폴링이 끝날 때까지 기다립니다
+    private void stopTimer() {
         if (timerTask != null) {
             timerTask.cancel();
+            timerTask = null;
         }
-        
-        if (timePaused) {
-            return;
+        if (driverExecutor != null) {
+            driverExecutor.shutdownNow();
+            try {
+                if (!driverExecutor.awaitTermination(DRIVER_SHUTDOWN_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)) {
+                    plugin.getLogger().warning("시계 드라이버 스레드가 제때 종료되지 않았습니다");
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            driverExecutor = null;
         }
-        
-        timerTask = new BukkitRunnable() {
-            @Override
-            public void run() {
-                incrementMinute();
+    }
+    
+    // 예외가 나면 ScheduledExecutorService가 이후 실행을 모두 취소하므로 여기서 잡아 기록합니다
+    private void pollClock() {
+        try {
+            catchUp();
+        } catch (RuntimeException e) {
+            plugin.getLogger().log(Level.WARNING, "시계 드라이버 실행 중 오류가 발생했습니다", e);
+        }
+    }
+    
+    // 기준점 시계가 가리키는 시간까지 밀린 분을 모두 진행합니다
+    private void catchUp() {
+        synchronized (clockLock) {
+            long target = clock.currentMinutes();
+            if (target <= totalMinutes) {
+                return;
             }
-        }.runTaskTimerAsynchronously(plugin, TICKS_PER_SECOND * realSecondsPerMinute, 
-                                             TICKS_PER_SECOND * realSecondsPerMinute);
+            totalMinutes = target;
+            publish(totalMinutes);
+        }
+        signalDrain();
     }
     
-    private void incrementMinute() {
-        totalMinutes++;
+    // 대기 중인 drain 작업이 없을 때만 새로 예약합니다
+    private void signalDrain() {
+        if (drainScheduled.compareAndSet(false, true)) {
+            Bukkit.getScheduler().runTask(plugin, this::drain);
+        }
+    }
+    
+    /**
+     * 마지막 drain 이후 쌓인 시간 변화를 한 번에 처리합니다. 메인 스레드 전용.
+     * setTime으로 건너뛴 지점이 있으면 그 앞뒤 구간을 나눠 순서대로 발생시킵니다.
+     */
+    private void drain() {
+        // 상태를 읽기 전에 플래그를 내려야 그 사이 들어온 신호가 유실되지 않습니다
+        drainScheduled.set(false);
         
-        // Fire minute change event
-        Bukkit.getScheduler().runTask(plugin, () -> {
-            ServerMinuteChangeEvent minuteEvent = new ServerMinuteChangeEvent(totalMinutes);
-            Bukkit.getPluginManager().callEvent(minuteEvent);
-            
-            // Update visual time
-            updateVisualTime();
+        List<TimeJump> jumps;
+        ClockSnapshot latest;
+        synchronized (clockLock) {
+            jumps = pendingJumps.isEmpty() ? Collections.emptyList() : new ArrayList<>(pendingJumps);
+            pendingJumps.clear();
+            latest = snapshot;
+        }
+        
+        for (TimeJump jump : jumps) {
+            if (jump.oldTotalMinutes > dispatchedMinutes) {
+                dispatchRange(dispatchedMinutes, ClockSnapshot.of(jump.oldTotalMinutes, calendar), true);
+            }
             
-            // Check for hour change
-            int currentHour = getHour();
-            if (currentHour != lastHour) {
-                lastHour = currentHour;
-                ServerHourChangeEvent hourEvent = new ServerHourChangeEvent(currentHour, getDay());
-                Bukkit.getPluginManager().callEvent(hourEvent);
+            // Fire time change event
+            if (hasListeners(ServerTimeChangeEvent.getHandlerList())) {
+                ServerTimeChangeEvent timeChangeEvent = new ServerTimeChangeEvent(
+                    jump.oldTotalMinutes, jump.target.getTotalMinutes(), jump.day, jump.hour, jump.minute
+                );
+                Bukkit.getPluginManager().callEvent(timeChangeEvent);
             }
             
-            // Check for day change
-            int currentDay = getDay();
-            if (currentDay != lastDay) {
-                lastDay = currentDay;
-                ServerDayChangeEvent dayEvent = new ServerDayChangeEvent(currentDay);
-                Bukkit.getPluginManager().callEvent(dayEvent);
-                
-                // Check for week change (every Monday)
-                if (dayEvent.getDayOfWeek() == 1) {
-                    int currentWeek = dayEvent.getWeek();
-                    if (currentWeek != lastWeek) {
-                        lastWeek = currentWeek;
-                        ServerWeekChangeEvent weekEvent = new ServerWeekChangeEvent(currentWeek, currentDay);
-                        Bukkit.getPluginManager().callEvent(weekEvent);
-                    }
+            // 앞으로 건너뛴 경우 지나친 정시/일/주/월 이벤트를 모두 발생시키고 월드 시간을 맞춥니다
+            dispatchRange(jump.oldTotalMinutes, jump.target, false);
+            dispatchedMinutes = jump.target.getTotalMinutes();
+        }
+        
+        if (latest.getTotalMinutes() > dispatchedMinutes) {
+            dispatchRange(dispatchedMinutes, latest, true);
+            dispatchedMinutes = latest.getTotalMinutes();
+        }
+    }
+    
+    // 새 시간을 불변 스냅샷으로 만들어 모든 스레드에 발행합니다 (volatile 쓰기)
+    private ClockSnapshot publish(long minutes) {
+        ClockSnapshot published = ClockSnapshot.of(minutes, calendar);
+        snapshot = published;
+        return published;
+    }
+    
+    /**
+     * from(제외)부터 current(포함)까지 지나친 분/경계 이벤트를 발생시킵니다. 메인 스레드 전용.
+     * 건너뛴 구간이 catchUpThreshold보다 크면 catchUpMode에 따라 이벤트를 합칩니다.
+     */
+    private void dispatchRange(long from, ClockSnapshot current, boolean fireMinutes) {
+        long to = current.getTotalMinutes();
+        GameCalendar calendar = this.calendar;
+        BoundaryWalker.Coalesce mode = (to - from) > catchUpThreshold ? catchUpMode : BoundaryWalker.Coalesce.FIRE_ALL;
+        
+        switch (mode) {
+            case FIRE_LAST:
+                fireLast(from, to, calendar, fireMinutes);
+                break;
+            case SUMMARY:
+                if (!hasListeners(ServerTimeSkipEvent.getHandlerList())) {
+                    break;
                 }
-                
-                // Check for month change (every 30 days)
-                int currentMonth = getMonth();
-                if (currentMonth != lastMonth) {
-                    lastMonth = currentMonth;
-                    int currentYear = getYear();
-                    ServerMonthChangeEvent monthEvent = new ServerMonthChangeEvent(currentMonth, currentYear);
-                    Bukkit.getPluginManager().callEvent(monthEvent);
+                Bukkit.getPluginManager().callEvent(new ServerTimeSkipEvent(from, to,
+                    BoundaryWalker.count(from, to, BoundaryWalker.MINUTES_PER_HOUR),
+                    BoundaryWalker.count(from, to, BoundaryWalker.MINUTES_PER_DAY),
+                    BoundaryWalker.countWeeks(from, to, calendar),
+                    BoundaryWalker.countMonths(from, to, calendar),
+                    BoundaryWalker.countTimeOfDay(from, to)));
+                break;
+            default:
+                if (fireMinutes) {
+                    fireEachMinute(from, to);
+                } else {
+                    BoundaryWalker.walk(from, to, calendar, this::fireBoundaries);
                 }
+                break;
+        }
+        
+        // 분 단위로 따라온 경우가 아니면 도착 지점 기준으로 다음 경계와 예약 작업을 맞춥니다
+        if (mode != BoundaryWalker.Coalesce.FIRE_ALL || !fireMinutes) {
+            boundaries.reset(to);
+            scheduler.advanceTo(to);
+        }
+        
+        // Update visual time
+        updateVisualTime(current);
+    }
+    
+    // 평소 경로: 경계가 아닌 분은 미리 계산된 다음 경계와 한 번 비교하는 것으로 끝납니다
+    private void fireEachMinute(long from, long to) {
+        boolean minuteEventListened = hasListeners(ServerMinuteChangeEvent.getHandlerList());
+        for (long minute = from + 1; minute <= to; minute++) {
+            fireMinute(minute, minuteEventListened);
+            if (minute >= boundaries.next()) {
+                fireBoundaries(minute, boundaries.advance(minute));
             }
-            
-            // Check for time of day changes
-            checkTimeOfDay(currentHour);
-        });
+            scheduler.advanceTo(minute);
+        }
+    }
+    
+    private void fireLast(long from, long to, GameCalendar calendar, boolean fireMinutes) {
+        if (fireMinutes) {
+            fireMinute(to, hasListeners(ServerMinuteChangeEvent.getHandlerList()));
+        }
+        fireIfPresent(BoundaryWalker.last(from, to, BoundaryWalker.MINUTES_PER_HOUR), BoundaryWalker.HOUR);
+        fireIfPresent(BoundaryWalker.last(from, to, BoundaryWalker.MINUTES_PER_DAY), BoundaryWalker.DAY);
+        fireIfPresent(BoundaryWalker.lastWeek(from, to, calendar), BoundaryWalker.WEEK);
+        fireIfPresent(BoundaryWalker.lastMonth(from, to, calendar), BoundaryWalker.MONTH);
+        fireIfPresent(BoundaryWalker.lastTimeOfDay(from, to), BoundaryWalker.TIME_OF_DAY);
+    }
+    
+    private void fireMinute(long minute, boolean eventListened) {
+        if (eventListened) {
+            Bukkit.getPluginManager().callEvent(new ServerMinuteChangeEvent(minute));
+        }
+        if (subscriptions.hasMinuteListeners(minute)) {
+            subscriptions.fireMinute(ClockSnapshot.of(minute, calendar));
+        }
+    }
+    
+    private void fireIfPresent(long minute, int kind) {
+        if (minute >= 0) {
+            fireBoundaries(minute, kind);
+        }
+    }
+    
+    // 한 시점에 겹친 경계 이벤트를 정시 → 일 → 주 → 월 → 시간대 순서로 발생시킵니다
+    // 리스너가 없는 이벤트는 객체를 만들지도 않고, 받을 곳이 하나도 없으면 스냅샷도 만들지 않습니다
+    private void fireBoundaries(long minute, int kinds) {
+        boolean hourListened = (kinds & BoundaryWalker.HOUR) != 0 && hasListeners(ServerHourChangeEvent.getHandlerList());
+        boolean dayListened = (kinds & BoundaryWalker.DAY) != 0 && hasListeners(ServerDayChangeEvent.getHandlerList());
+        boolean weekListened = (kinds & BoundaryWalker.WEEK) != 0 && hasListeners(ServerWeekChangeEvent.getHandlerList());
+        boolean monthListened = (kinds & BoundaryWalker.MONTH) != 0 && hasListeners(ServerMonthChangeEvent.getHandlerList());
+        boolean timeOfDayListened = (kinds & BoundaryWalker.TIME_OF_DAY) != 0 && hasListeners(ServerTimeOfDayEvent.getHandlerList());
+        boolean subscribed = subscriptions.hasBoundaryListeners(kinds);
+        if (!hourListened && !dayListened && !weekListened && !monthListened && !timeOfDayListened && !subscribed) {
+            return;
+        }
+        ClockSnapshot at = ClockSnapshot.of(minute, calendar);
+        
+        if (hourListened) {
+            Bukkit.getPluginManager().callEvent(new ServerHourChangeEvent(at.getHour(), at.getDay()));
+        }
+        if (dayListened) {
+            Bukkit.getPluginManager().callEvent(new ServerDayChangeEvent(at.getDay()));
+        }
+        if (weekListened) {
+            Bukkit.getPluginManager().callEvent(new ServerWeekChangeEvent(at.getWeek(), at.getDay()));
+        }
+        if (monthListened) {
+            Bukkit.getPluginManager().callEvent(new ServerMonthChangeEvent(at.getMonth(), at.getYear()));
+        }
+        if (timeOfDayListened) {
+            Bukkit.getPluginManager().callEvent(new ServerTimeOfDayEvent(at.getTimeOfDay(), at.getDay()));
+        }
+        
+        if (subscribed) {
+            subscriptions.fireBoundaries(at, kinds);
+        }
     }
     
-    private void updateVisualTime() {
+    private static boolean hasListeners(HandlerList handlers) {
+        return handlers.getRegisteredListeners().length > 0;
+    }
+    
+    private void updateVisualTime(ClockSnapshot current) {
         // Update each world based on its timezone
         for (World world : Bukkit.getWorlds()) {
             if (world.getEnvironment() == World.Environment.NORMAL) {
@@ -142,7 +388,7 @@ public class TimeKernel {
                     wiki.creeper.creeperTimeUtil.api.WorldTimeZoneAPI.updateWorldVisualTime(world);
                 } else {
                     // Use server time
-                    long minutesInDay = totalMinutes % 1440;
+                    long minutesInDay = current.getTotalMinutes() % 1440;
                     long ticks = (minutesInDay * 24000) / 1440;
                     world.setTime(ticks);
                 }
@@ -150,121 +396,446 @@ public class TimeKernel {
         }
     }
     
-    private void updateLastValues() {
-        lastHour = getHour();
-        lastDay = getDay();
-        lastWeek = getWeek();
-        lastMonth = getMonth();
+    /**
+     * 크게 건너뛴 구간의 이벤트 처리 방식을 설정합니다.
+     * @param mode 처리 방식
+     * @param thresholdMinutes 이 값(분)보다 크게 건너뛸 때만 mode를 적용합니다
+     */
+    public void setCatchUpMode(BoundaryWalker.Coalesce mode, long thresholdMinutes) {
+        this.catchUpMode = mode;
+        this.catchUpThreshold = Math.max(0, thresholdMinutes);
     }
     
-    private void checkTimeOfDay(int hour) {
-        ServerTimeOfDayEvent.TimeOfDay currentTimeOfDay = null;
-        
-        // Determine current time of day
-        if (hour == 0) currentTimeOfDay = ServerTimeOfDayEvent.TimeOfDay.MIDNIGHT;
-        else if (hour == 5) currentTimeOfDay = ServerTimeOfDayEvent.TimeOfDay.DAWN;
-        else if (hour == 6) currentTimeOfDay = ServerTimeOfDayEvent.TimeOfDay.MORNING;
-        else if (hour == 12) currentTimeOfDay = ServerTimeOfDayEvent.TimeOfDay.NOON;
-        else if (hour == 18) currentTimeOfDay = ServerTimeOfDayEvent.TimeOfDay.DUSK;
-        else if (hour == 22) currentTimeOfDay = ServerTimeOfDayEvent.TimeOfDay.NIGHT;
-        
-        // Fire event if time of day changed
-        if (currentTimeOfDay != null && currentTimeOfDay != lastTimeOfDay) {
-            lastTimeOfDay = currentTimeOfDay;
-            ServerTimeOfDayEvent timeOfDayEvent = new ServerTimeOfDayEvent(currentTimeOfDay, getDay());
-            Bukkit.getPluginManager().callEvent(timeOfDayEvent);
+    public BoundaryWalker.Coalesce getCatchUpMode() {
+        return catchUpMode;
+    }
+    
+    /**
+     * 시계 구동 방식을 설정합니다. 이미 시작된 경우 새 방식으로 다시 시작합니다.
+     * EXECUTOR는 Bukkit 틱(50ms)과 무관한 전용 스레드에서 periodNanos마다 시계를 확인하므로,
+     * 메인 스레드가 GC나 긴 틱으로 멈춰 있어도 게임 시간 발행은 제때 이루어집니다.
+     * @param driver 구동 방식
+     * @param periodNanos EXECUTOR의 확인 주기(나노초), BUKKIT에서는 무시됩니다
+     */
+    public void setClockDriver(ClockDriver driver, long periodNanos) {
+        if (periodNanos <= 0) {
+            throw new IllegalArgumentException("드라이버 주기는 0보다 커야 합니다");
+        }
+        boolean running = timerTask != null || driverExecutor != null;
+        if (running) {
+            stopTimer();
+        }
+        this.driver = driver;
+        this.driverPeriodNanos = periodNanos;
+        if (running) {
+            startTimer();
+        }
+    }
+    
+    public ClockDriver getClockDriver() {
+        return driver;
+    }
+    
+    /**
+     * 서버 달력을 교체합니다. 메인 스레드에서 호출해야 합니다.
+     * 현재 시간의 스냅샷을 새 달력으로 다시 발행하고 다음 주/월 경계를 다시 계산합니다.
+     * @param calendar 새 달력
+     */
+    public void setCalendar(GameCalendar calendar) {
+        if (calendar == null) {
+            throw new IllegalArgumentException("달력은 null일 수 없습니다");
+        }
+        synchronized (clockLock) {
+            this.calendar = calendar;
+            publish(totalMinutes);
         }
+        boundaries = new BoundaryTracker(calendar, dispatchedMinutes);
+    }
+    
+    public GameCalendar getCalendar() {
+        return calendar;
+    }
+    
+    // 게임 시간 기준 작업 예약 - 작업은 메인 스레드에서 해당 분의 이벤트가 끝난 뒤 실행됩니다
+    public GameTask scheduleAt(long totalMinutes, Runnable task) {
+        return scheduler.schedule(task, totalMinutes, 0);
+    }
+    
+    public GameTask scheduleEvery(long firstRunMinutes, long periodMinutes, Runnable task) {
+        if (periodMinutes <= 0) {
+            throw new IllegalArgumentException("반복 주기는 0보다 커야 합니다");
+        }
+        return scheduler.schedule(task, firstRunMinutes, periodMinutes);
+    }
+    
+    public int getScheduledTaskCount() {
+        return scheduler.size();
+    }
+    
+    // 경량 시간 구독 - Bukkit 이벤트 버스를 거치지 않고 해당 키의 구독자만 호출합니다
+    public TimeSubscription onMinuteOfHour(int minute, TimeListener listener) {
+        return subscriptions.onMinuteOfHour(minute, listener);
+    }
+    
+    public TimeSubscription onHour(int hour, TimeListener listener) {
+        return subscriptions.onHour(hour, listener);
+    }
+    
+    public TimeSubscription onEveryHour(TimeListener listener) {
+        return subscriptions.onEveryHour(listener);
+    }
+    
+    public TimeSubscription onTimeOfDay(ServerTimeOfDayEvent.TimeOfDay timeOfDay, TimeListener listener) {
+        return subscriptions.onTimeOfDay(timeOfDay, listener);
+    }
+    
+    public TimeSubscription onDay(TimeListener listener) {
+        return subscriptions.onDay(listener);
+    }
+    
+    public TimeSubscription onWeek(TimeListener listener) {
+        return subscriptions.onWeek(listener);
+    }
+    
+    public TimeSubscription onMonth(TimeListener listener) {
+        return subscriptions.onMonth(listener);
+    }
+    
+    // Time calculation methods - 모두 발행된 스냅샷 하나만 읽습니다
+    public ClockSnapshot getSnapshot() {
+        return snapshot;
     }
     
-    // Time calculation methods
     public long getTotalMinutes() {
-        return totalMinutes;
+        return snapshot.getTotalMinutes();
     }
     
     public int getDay() {
-        return (int) (totalMinutes / 1440) + 1; // Day starts at 1
+        return snapshot.getDay();
     }
     
     public int getHour() {
-        long minutesInDay = totalMinutes % 1440;
-        return (int) (minutesInDay / 60);
+        return snapshot.getHour();
     }
     
     public int getMinute() {
-        return (int) (totalMinutes % 60);
+        return snapshot.getMinute();
     }
     
     public String getFormattedTime() {
-        return String.format("%d일차 %02d:%02d", getDay(), getHour(), getMinute());
+        return snapshot.getFormattedTime();
     }
     
     public int getWeek() {
-        return ((getDay() - 1) / 7) + 1;
+        return snapshot.getWeek();
     }
     
     public int getMonth() {
-        return ((getDay() - 1) / 30) + 1;
+        return snapshot.getMonth();
     }
     
     public int getYear() {
-        return ((getDay() - 1) / 360) + 1;
+        return snapshot.getYear();
     }
     
-    // Cooldown management - New methods with duration
-    public void setCooldown(String uniqueId, long durationInSeconds) {
-        cooldowns.put(uniqueId, System.currentTimeMillis());
-        cooldownDurations.put(uniqueId, durationInSeconds * 1000L); // Convert to milliseconds
+    // 매 틱 메인 스레드에서 시간 소스를 갱신한 뒤 만료된 쿨타임을 정리합니다
+    private void tick() {
+        timeSource.tick();
+        recordClock();
+        sweepCooldowns();
+        sweepGameCooldowns();
     }
     
-    public boolean isCooldownOver(String uniqueId) {
-        Long startTime = cooldowns.get(uniqueId);
-        Long duration = cooldownDurations.get(uniqueId);
-        if (startTime == null || duration == null) {
-            return true;
+    // 게임 분이 바뀌었거나 setTime으로 건너뛰었으면 시계 값을 저널과 체크포인트에 남깁니다
+    private void recordClock() {
+        long now = snapshot.getTotalMinutes();
+        if (now != journaledMinutes) {
+            journaledMinutes = now;
+            journal.clock(now);
+            checkpoint.write(now, timeSpeed, timePaused);
         }
-        return (System.currentTimeMillis() - startTime) >= duration;
     }
     
-    public long getRemainingCooldownSeconds(String uniqueId) {
-        Long startTime = cooldowns.get(uniqueId);
-        Long duration = cooldownDurations.get(uniqueId);
-        if (startTime == null || duration == null) {
-            return 0;
+    private void writeCheckpoint() {
+        checkpoint.write(snapshot.getTotalMinutes(), timeSpeed, timePaused);
+    }
+    
+    // 만료된 게임 시간 쿨타임은 확인 결과에 영향이 없으므로 서버 시간으로 한 시간마다만 정리합니다
+    private void sweepGameCooldowns() {
+        long now = snapshot.getTotalMinutes();
+        if (Math.abs(now - gameCooldownSweptAt) < GAME_COOLDOWN_SWEEP_MINUTES) {
+            return;
         }
-        
-        long elapsed = System.currentTimeMillis() - startTime;
-        if (elapsed >= duration) {
-            return 0;
+        gameCooldownSweptAt = now;
+        gameCooldowns.sweep(scope -> scopeMinutes(scope, now));
+    }
+    
+    /**
+     * 이번 틱까지 만료된 쿨타임을 한꺼번에 정리하고 만료 콜백과 CooldownExpireEvent를 발생시킵니다. 메인 스레드 전용.
+     * 만료된 쿨타임이 없으면 두 저장소의 힙 맨 앞만 확인하고 끝납니다.
+     */
+    private void sweepCooldowns() {
+        boolean listened = hasListeners(CooldownExpireEvent.getHandlerList());
+        cooldowns.sweep((key, onExpire) -> {
+            runExpiryCallback(onExpire);
+            if (listened) {
+                Bukkit.getPluginManager().callEvent(new CooldownExpireEvent(key));
+            }
+        });
+        playerCooldowns.sweep((player, type, onExpire) -> {
+            runExpiryCallback(onExpire);
+            if (listened) {
+                Bukkit.getPluginManager().callEvent(new CooldownExpireEvent(player, type));
+            }
+        });
+        rateLimiter.sweep();
+    }
+    
+    private void runExpiryCallback(Runnable onExpire) {
+        if (onExpire == null) {
+            return;
         }
-        
-        return (duration - elapsed) / 1000L; // Convert back to seconds
+        try {
+            onExpire.run();
+        } catch (RuntimeException e) {
+            plugin.getLogger().log(Level.WARNING, "쿨타임 만료 콜백 실행 중 오류가 발생했습니다", e);
+        }
+    }
+    
+    // Cooldown management - 만료 시점 하나만 보관하며, 만료된 항목은 메인 스레드에서 매 틱 정리합니다
+    public void setCooldown(String uniqueId, long durationInSeconds) {
+        setCooldown(uniqueId, durationInSeconds, null);
+    }
+    
+    public void setCooldown(String uniqueId, long durationInSeconds, Runnable onExpire) {
+        cooldowns.set(uniqueId, TimeUnit.SECONDS.toNanos(durationInSeconds), onExpire);
+        journal.set(uniqueId, deadlineMillis(durationInSeconds));
+    }
+    
+    public boolean isCooldownOver(String uniqueId) {
+        return cooldowns.isOver(uniqueId);
+    }
+    
+    public long getRemainingCooldownSeconds(String uniqueId) {
+        return TimeUnit.NANOSECONDS.toSeconds(cooldowns.remainingNanos(uniqueId));
     }
     
     public void removeCooldown(String uniqueId) {
         cooldowns.remove(uniqueId);
-        cooldownDurations.remove(uniqueId);
+        gameTimeCooldowns.remove(uniqueId);
+        journal.remove(uniqueId);
+    }
+    
+    // 일괄 처리 - 저장소를 한 번 훑으며 시계도 한 번만 읽습니다
+    public void setCooldowns(Collection<String> uniqueIds, long durationInSeconds) {
+        cooldowns.setAll(uniqueIds, TimeUnit.SECONDS.toNanos(durationInSeconds));
+        if (journal.isEnabled()) {
+            long deadline = deadlineMillis(durationInSeconds);
+            for (String uniqueId : uniqueIds) {
+                journal.set(uniqueId, deadline);
+            }
+        }
+    }
+    
+    public BitSet getCooldownsOver(Iterable<String> uniqueIds) {
+        return cooldowns.overAll(uniqueIds);
+    }
+    
+    public void removeCooldowns(Collection<String> uniqueIds) {
+        cooldowns.removeAll(uniqueIds);
+        if (journal.isEnabled()) {
+            for (String uniqueId : uniqueIds) {
+                journal.remove(uniqueId);
+            }
+        }
+    }
+    
+    public int getActiveCooldownCount() {
+        return cooldowns.size();
+    }
+    
+    /**
+     * 실시간 쿨타임 최대 개수를 설정합니다. 넘치면 가장 먼저 만료될 쿨타임부터 밀려납니다.
+     * @param maxEntries 최대 개수, 0이면 무제한
+     */
+    public void setMaxCooldowns(int maxEntries) {
+        cooldowns.setMaxEntries(maxEntries);
+    }
+    
+    public CooldownStats getCooldownStats() {
+        return cooldowns.stats();
+    }
+    
+    public TimeSource getTimeSource() {
+        return timeSource;
+    }
+    
+    // 저널에는 서버가 꺼져 있던 시간도 흐르도록 만료 시각을 epoch ms로 남깁니다
+    private static long deadlineMillis(long durationInSeconds) {
+        return System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(durationInSeconds);
+    }
+    
+    // Rate limiting - 키마다 AtomicLong 하나, 잠금 없이 CAS로 갱신합니다
+    public boolean tryAcquire(String key, double permitsPerSecond, int burst) {
+        return rateLimiter.tryAcquire(key, permitsPerSecond, burst);
+    }
+    
+    public void resetRateLimit(String key) {
+        rateLimiter.reset(key);
+    }
+    
+    // Player cooldowns - 확인 경로에서 문자열을 만들지 않습니다
+    public void setPlayerCooldown(UUID player, CooldownType type, long durationInSeconds) {
+        setPlayerCooldown(player, type, durationInSeconds, null);
+    }
+    
+    public void setPlayerCooldown(UUID player, CooldownType type, long durationInSeconds, Runnable onExpire) {
+        playerCooldowns.set(player, type, TimeUnit.SECONDS.toNanos(durationInSeconds), onExpire);
+        journal.setPlayer(player, type, deadlineMillis(durationInSeconds));
+    }
+    
+    public boolean isPlayerCooldownOver(UUID player, CooldownType type) {
+        return playerCooldowns.isOver(player, type);
+    }
+    
+    public long getRemainingPlayerCooldownSeconds(UUID player, CooldownType type) {
+        return TimeUnit.NANOSECONDS.toSeconds(playerCooldowns.remainingNanos(player, type));
+    }
+    
+    public void removePlayerCooldown(UUID player, CooldownType type) {
+        playerCooldowns.remove(player, type);
+        journal.removePlayer(player, type);
+    }
+    
+    public <T> int setPlayerCooldowns(Iterable<T> players, Function<? super T, UUID> idOf, CooldownType type, long durationInSeconds) {
+        int count = playerCooldowns.setAll(players, idOf, type, TimeUnit.SECONDS.toNanos(durationInSeconds));
+        if (journal.isEnabled()) {
+            long deadline = deadlineMillis(durationInSeconds);
+            for (T player : players) {
+                journal.setPlayer(idOf.apply(player), type, deadline);
+            }
+        }
+        return count;
+    }
+    
+    public <T> BitSet getPlayerCooldownsOver(Iterable<T> players, Function<? super T, UUID> idOf, CooldownType type) {
+        return playerCooldowns.overAll(players, idOf, type);
+    }
+    
+    public int clearCooldownType(CooldownType type) {
+        int cleared = playerCooldowns.clearType(type);
+        journal.clearType(type);
+        return cleared;
+    }
+    
+    public void clearPlayerCooldowns(UUID player) {
+        playerCooldowns.clear(player);
+        journal.clearPlayer(player);
+    }
+    
+    public Map<CooldownType, Long> getActivePlayerCooldowns(UUID player) {
+        Map<CooldownType, Long> seconds = new LinkedHashMap<>();
+        playerCooldowns.active(player).forEach((type, nanos) -> seconds.put(type, TimeUnit.NANOSECONDS.toSeconds(nanos)));
+        return seconds;
+    }
+    
+    public void onPlayerJoin(UUID player) {
+        playerCooldowns.attach(player);
+    }
+    
+    public void onPlayerQuit(UUID player) {
+        playerCooldowns.release(player);
+    }
+    
+    // Player play time - 파일 작업은 모두 전용 스레드에서 순서대로 처리됩니다
+    
+    /**
+     * 저장된 누적 플레이 시간을 비동기로 읽습니다.
+     * @return 누적 플레이 시간(ms) - 저장소가 꺼져 있거나 기록이 없으면 0
+     */
+    public CompletableFuture<Long> loadPlayTime(UUID player) {
+        return storage.loadPlayTime(player);
+    }
+    
+    /**
+     * 저장된 누적 플레이 시간에 늘어난 시간을 비동기로 더합니다.
+     * @param deltaMillis 플레이어별로 더할 시간(ms)
+     * @param release 퇴장한 플레이어면 true
+     */
+    public void addPlayTimes(Map<UUID, Long> deltaMillis, boolean release) {
+        storage.addPlayTimes(deltaMillis, release);
+    }
+    
+    /**
+     * 저장된 누적 플레이 시간을 비동기로 덮어씁니다.
+     * @param totalMillis 플레이어별 누적 플레이 시간(ms)
+     */
+    public void setPlayTimes(Map<UUID, Long> totalMillis) {
+        storage.putPlayTimes(totalMillis);
+    }
+    
+    public void setPlayTimeStorageEnabled(boolean enabled) {
+        storage.setPlayTimeEnabled(enabled);
+    }
+    
+    // Game-time cooldowns - 만료 시점을 범위 시계의 절대 분으로 저장하고 발행된 시계 값과 정수 비교합니다
+    // worldName이 null이면 서버 시계, 아니면 WorldTimeZoneAPI의 오프셋/속도를 적용한 월드 시계 기준입니다
+    public void setGameCooldown(String worldName, String key, long durationInMinutes) {
+        String scope = scopeOf(worldName);
+        long deadline = scopeMinutes(scope, snapshot.getTotalMinutes()) + durationInMinutes;
+        gameCooldowns.set(scope, key, deadline);
+        journal.setGame(scope, key, deadline);
+    }
+    
+    public boolean isGameCooldownOver(String worldName, String key) {
+        String scope = scopeOf(worldName);
+        return gameCooldowns.isOver(scope, key, scopeMinutes(scope, snapshot.getTotalMinutes()));
+    }
+    
+    public long getRemainingGameCooldownMinutes(String worldName, String key) {
+        String scope = scopeOf(worldName);
+        return gameCooldowns.remaining(scope, key, scopeMinutes(scope, snapshot.getTotalMinutes()));
+    }
+    
+    public void removeGameCooldown(String worldName, String key) {
+        String scope = scopeOf(worldName);
+        gameCooldowns.remove(scope, key);
+        journal.removeGame(scope, key);
+    }
+    
+    private static String scopeOf(String worldName) {
+        return worldName != null ? worldName : GameCooldownStore.SERVER_SCOPE;
+    }
+    
+    private static long scopeMinutes(String scope, long serverMinutes) {
+        if (scope.isEmpty()) {
+            return serverMinutes;
+        }
+        return wiki.creeper.creeperTimeUtil.api.WorldTimeZoneAPI.getWorldTotalMinutes(scope, serverMinutes);
     }
     
     // Legacy cooldown methods (game time based)
     public void setGameTimeCooldown(String uniqueId) {
-        cooldowns.put(uniqueId, totalMinutes);
+        long start = getTotalMinutes();
+        gameTimeCooldowns.put(uniqueId, start);
+        journal.setLegacy(uniqueId, start);
     }
     
     public boolean isGameTimeCooldownOver(String uniqueId, long durationInMinutes) {
-        Long startTime = cooldowns.get(uniqueId);
+        Long startTime = gameTimeCooldowns.get(uniqueId);
         if (startTime == null) {
             return true;
         }
-        return (totalMinutes - startTime) >= durationInMinutes;
+        return (getTotalMinutes() - startTime) >= durationInMinutes;
     }
     
     public long getRemainingGameTimeCooldownMinutes(String uniqueId, long totalDurationInMinutes) {
-        Long startTime = cooldowns.get(uniqueId);
+        Long startTime = gameTimeCooldowns.get(uniqueId);
         if (startTime == null) {
             return 0;
         }
         
-        long elapsed = totalMinutes - startTime;
+        long elapsed = getTotalMinutes() - startTime;
         if (elapsed >= totalDurationInMinutes) {
             return 0;
         }
@@ -273,63 +844,176 @@ public class TimeKernel {
     }
     
     // Data persistence
-    private void loadTimeData() {
-        File dataFile = new File(plugin.getDataFolder(), DATA_FILE_NAME);
-        if (!dataFile.exists()) {
-            totalMinutes = 0;
-            return;
+    // 설정한 저장소를 엽니다. SQLite를 열 수 없으면 파일 저장소로 대신합니다
+    private void openStorage() {
+        TimeStorage opened = null;
+        if (storageType == StorageType.SQLITE) {
+            SqliteStorage sqlite = new SqliteStorage(new File(plugin.getDataFolder(), sqliteFileName), plugin.getLogger());
+            try {
+                sqlite.open();
+                opened = sqlite;
+            } catch (IOException e) {
+                plugin.getLogger().log(Level.SEVERE, "SQLite 저장소를 열 수 없어 파일 저장소를 사용합니다", e);
+            }
         }
-        
-        try (DataInputStream dis = new DataInputStream(new FileInputStream(dataFile))) {
-            totalMinutes = dis.readLong();
-            
-            // Load cooldowns
-            int cooldownCount = dis.readInt();
-            for (int i = 0; i < cooldownCount; i++) {
-                String id = dis.readUTF();
-                long time = dis.readLong();
-                cooldowns.put(id, time);
+        if (opened == null) {
+            opened = new FlatFileStorage(plugin.getDataFolder(), plugin.getLogger());
+        }
+        storage.open(opened);
+        plugin.getLogger().info("저장소: " + opened.name());
+    }
+    
+    private void loadTimeData() {
+        long journalGeneration = 0;
+        long clockWrittenAt = Long.MIN_VALUE; // 지금 totalMinutes를 기록한 시각 - 가장 최근 것을 씁니다
+        totalMinutes = 0;
+        try {
+            synchronized (saveLock) {
+                TimeDataFile.LoadResult loaded = storage.call(store -> {
+                    TimeDataFile.LoadResult result = store.loadState(ioBuffer, cooldowns, playerCooldowns, gameCooldowns, gameTimeCooldowns);
+                    importFlatFilePlayTimes(store);
+                    return result != null ? result : importFlatFileState(store);
+                });
+                if (loaded != null) {
+                    totalMinutes = loaded.totalMinutes;
+                    journalGeneration = loaded.journalGeneration;
+                    clockWrittenAt = loaded.savedAt;
+                }
             }
-            
-            plugin.getLogger().info("시간 데이터 로드 완료: " + getFormattedTime());
         } catch (IOException e) {
             plugin.getLogger().log(Level.SEVERE, "시간 데이터 로드 실패", e);
-            totalMinutes = 0;
         }
-    }
-    
-    private void saveTimeData() {
-        File dataFile = new File(plugin.getDataFolder(), DATA_FILE_NAME);
         
-        // Ensure data folder exists
-        if (!plugin.getDataFolder().exists()) {
-            plugin.getDataFolder().mkdirs();
+        // 마지막 저장 이후의 변경을 저널에서 재생한 뒤, 다음 세대 파일에 이어서 기록합니다
+        TimeJournal.ClockRecord replayed = journal.replay(journalGeneration, cooldowns, playerCooldowns, gameCooldowns, gameTimeCooldowns);
+        if (replayed != null && replayed.writtenAt >= clockWrittenAt) {
+            totalMinutes = replayed.totalMinutes;
+            clockWrittenAt = replayed.writtenAt;
         }
+        journal.open(journalGeneration);
         
-        try (DataOutputStream dos = new DataOutputStream(new FileOutputStream(dataFile))) {
-            dos.writeLong(totalMinutes);
-            
-            // Save cooldowns
-            dos.writeInt(cooldowns.size());
-            for (Map.Entry<String, Long> entry : cooldowns.entrySet()) {
-                dos.writeUTF(entry.getKey());
-                dos.writeLong(entry.getValue());
+        // 저장/저널보다 체크포인트가 더 최근이면 그 시계 값을 씁니다.
+        // 속도/일시정지 상태는 비정상 종료였을 때만 이어받고, 정상 종료 뒤에는 설정(time.default-speed)을 따릅니다
+        try {
+            ClockCheckpoint.State state = checkpoint.open();
+            if (state != null) {
+                if (state.writtenAt > clockWrittenAt) {
+                    totalMinutes = state.totalMinutes;
+                    plugin.getLogger().info("시계 체크포인트에서 시간을 복구했습니다");
+                }
+                if (!state.clean) {
+                    clock.setSpeedMicros(AnchoredClock.toSpeedMicros(state.speed));
+                    timeSpeed = state.speed;
+                    if (state.paused) {
+                        clock.pause();
+                        timePaused = true;
+                    }
+                    clockStateRecovered = true;
+                    plugin.getLogger().info("비정상 종료 전의 시간 속도/일시정지 상태를 이어받았습니다");
+                }
             }
-            
-            plugin.getLogger().info("시간 데이터 저장 완료: " + getFormattedTime());
-        } catch (IOException e) {
-            plugin.getLogger().log(Level.SEVERE, "시간 데이터 저장 실패", e);
+        } catch (IOException | IllegalArgumentException e) {
+            plugin.getLogger().log(Level.WARNING, "시계 체크포인트를 열 수 없습니다", e);
+        }
+        publish(totalMinutes);
+        plugin.getLogger().info(String.format("시간 데이터 로드 완료: %s (쿨타임 %d개, 플레이어 %d명)",
+            getFormattedTime(), cooldowns.size(), playerCooldowns.playerCount()));
+    }
+    
+    // 파일 저장소가 아닌 저장소가 비어 있으면, 전에 쓰던 timedata.dat을 한 번 가져옵니다 (다음 저장 때 새 저장소에 쓰임)
+    private TimeDataFile.LoadResult importFlatFileState(TimeStorage store) throws IOException {
+        if (store instanceof FlatFileStorage) {
+            return null;
+        }
+        FlatFileStorage previous = new FlatFileStorage(plugin.getDataFolder(), plugin.getLogger());
+        try {
+            if (!previous.hasState()) {
+                return null;
+            }
+            plugin.getLogger().info("기존 timedata.dat을 " + store.name() + " 저장소로 가져옵니다");
+            return previous.loadState(ioBuffer, cooldowns, playerCooldowns, gameCooldowns, gameTimeCooldowns);
+        } finally {
+            previous.close();
+        }
+    }
+    
+    // 파일 저장소가 아닌 저장소에 플레이 시간 기록이 하나도 없으면, 전에 쓰던 playtime/ 샤드를 한 번 옮겨 씁니다
+    // 옮긴 뒤에는 기록이 생기므로 다음 시작부터는 다시 가져오지 않습니다
+    private void importFlatFilePlayTimes(TimeStorage store) throws IOException {
+        if (store instanceof FlatFileStorage || store.hasPlayTimes()) {
+            return;
+        }
+        FlatFileStorage previous = new FlatFileStorage(plugin.getDataFolder(), plugin.getLogger());
+        try {
+            if (!previous.hasPlayTimes()) {
+                return;
+            }
+            Map<UUID, Long> playTimes = previous.loadAllPlayTimes();
+            store.putPlayTimes(playTimes);
+            plugin.getLogger().info("기존 playtime/ 파일에서 플레이어 " + playTimes.size() + "명의 플레이 시간을 " + store.name() + " 저장소로 가져왔습니다");
+        } finally {
+            previous.close();
+        }
+    }
+    
+    // 스냅샷을 기본형 배열로 복사한 뒤 저장소 스레드에서 통째로 교체합니다. 저장은 한 번에 하나씩만 하므로 늦게 만든 스냅샷이 항상 나중에 쓰입니다
+    // 저장 직전에 저널을 새 세대로 넘기고, 저장에 성공하면 스냅샷에 반영된 이전 세대 저널을 지웁니다 (압축)
+    private void saveTimeData() {
+        synchronized (saveLock) {
+            try {
+                long journalGeneration = journal.rotate();
+                TimeDataFile.Snapshot snapshot = TimeDataFile.capture(getTotalMinutes(), journalGeneration,
+                    cooldowns, playerCooldowns, gameCooldowns, gameTimeCooldowns);
+                storage.call(store -> {
+                    store.saveState(ioBuffer, snapshot);
+                    return null;
+                });
+                journal.deleteBefore(journalGeneration);
+                
+                plugin.getLogger().info("시간 데이터 저장 완료: " + getFormattedTime());
+            } catch (IOException e) {
+                plugin.getLogger().log(Level.SEVERE, "시간 데이터 저장 실패", e);
+            }
+        }
+    }
+    
+    // 저널이 설정한 크기를 넘으면 비동기로 전체 저장을 한 번 돌려 저널을 비웁니다
+    private void scheduleCompaction() {
+        if (!compactionScheduled.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            Bukkit.getScheduler().runTaskAsynchronously(plugin, () -> {
+                try {
+                    saveTimeData();
+                } finally {
+                    compactionScheduled.set(false);
+                }
+            });
+        } catch (RuntimeException e) {
+            compactionScheduled.set(false);
+            throw e;
         }
     }
     
+    /**
+     * 저널 설정. enabled와 commit 간격은 start() 전에 설정해야 적용됩니다.
+     * @param enabled 저널 사용 여부 - 끄면 자동 저장 사이의 변경은 서버가 비정상 종료될 때 사라집니다
+     * @param commitIntervalMillis 모인 변경을 한 번에 쓰고 fsync하는 간격(ms)
+     * @param compactBytes 저널이 이 크기를 넘으면 전체 저장으로 압축합니다
+     */
+    public void setJournalOptions(boolean enabled, long commitIntervalMillis, long compactBytes) {
+        journal.configure(enabled, commitIntervalMillis, compactBytes);
+    }
+    
     // 시간 제어 메소드
     public void setTimeSpeed(double speed) {
         if (speed <= 0) {
             throw new IllegalArgumentException("시간 속도는 0보다 커야 합니다");
         }
+        clock.setSpeedMicros(AnchoredClock.toSpeedMicros(speed));
         this.timeSpeed = speed;
-        this.realSecondsPerMinute = (long) (DEFAULT_REAL_SECONDS_PER_MINECRAFT_MINUTE / speed);
-        updateTimerInterval();
+        writeCheckpoint();
     }
     
     public double getTimeSpeed() {
@@ -338,18 +1022,31 @@ public class TimeKernel {
     
     public void pauseTime() {
         this.timePaused = true;
-        updateTimerInterval();
+        clock.pause();
+        writeCheckpoint();
     }
     
     public void resumeTime() {
         this.timePaused = false;
-        updateTimerInterval();
+        clock.resume();
+        writeCheckpoint();
     }
     
     public boolean isTimePaused() {
         return timePaused;
     }
     
+    /**
+     * 비정상 종료 전의 시간 속도/일시정지 상태를 체크포인트에서 이어받았는지 확인하고 표시를 지웁니다.
+     * 처음 true를 받은 쪽만 설정의 기본 속도 적용을 건너뛰며, 이후의 설정 다시 불러오기에는 기본 속도가 다시 적용됩니다.
+     * 메인 스레드에서만 호출합니다.
+     */
+    public boolean consumeClockStateRecovered() {
+        boolean recovered = clockStateRecovered;
+        clockStateRecovered = false;
+        return recovered;
+    }
+    
     public void setTime(int day, int hour, int minute) {
         if (day < 1) {
             throw new IllegalArgumentException("일차는 1 이상이어야 합니다");
@@ -361,64 +1058,64 @@ public class TimeKernel {
             throw new IllegalArgumentException("분은 0-59 사이여야 합니다");
         }
         
-        long oldTotalMinutes = this.totalMinutes;
-        this.totalMinutes = ((day - 1) * 1440L) + (hour * 60L) + minute;
-        
-        // Fire time change event
-        Bukkit.getScheduler().runTask(plugin, () -> {
-            ServerTimeChangeEvent timeChangeEvent = new ServerTimeChangeEvent(
-                oldTotalMinutes, totalMinutes, day, hour, minute
-            );
-            Bukkit.getPluginManager().callEvent(timeChangeEvent);
-            
-            // Update world visual time to match new custom time
-            updateVisualTime();
-            
-            // Check for any time-based events that need to fire
-            checkAndFireTimeEvents();
-        });
-        
-        updateLastValues();
+        synchronized (clockLock) {
+            long oldTotalMinutes = this.totalMinutes;
+            this.totalMinutes = ((day - 1) * 1440L) + (hour * 60L) + minute;
+            clock.set(totalMinutes);
+            pendingJumps.add(new TimeJump(oldTotalMinutes, publish(totalMinutes), day, hour, minute));
+        }
+        signalDrain();
     }
     
-    // 시간 변경 시 필요한 이벤트 체크 및 발생
-    private void checkAndFireTimeEvents() {
-        int currentHour = getHour();
-        int currentDay = getDay();
-        int currentWeek = getWeek();
-        int currentMonth = getMonth();
-        
-        // Check for hour change
-        if (currentHour != lastHour) {
-            lastHour = currentHour;
-            ServerHourChangeEvent hourEvent = new ServerHourChangeEvent(currentHour, currentDay);
-            Bukkit.getPluginManager().callEvent(hourEvent);
-        }
-        
-        // Check for day change
-        if (currentDay != lastDay) {
-            lastDay = currentDay;
-            ServerDayChangeEvent dayEvent = new ServerDayChangeEvent(currentDay);
-            Bukkit.getPluginManager().callEvent(dayEvent);
-            
-            // Check for week change
-            if (dayEvent.getDayOfWeek() == 1 && currentWeek != lastWeek) {
-                lastWeek = currentWeek;
-                ServerWeekChangeEvent weekEvent = new ServerWeekChangeEvent(currentWeek, currentDay);
-                Bukkit.getPluginManager().callEvent(weekEvent);
-            }
-        }
+    /**
+     * 커널 상태와 플레이 시간을 보관할 저장소. start() 전에 설정해야 적용됩니다.
+     * @param type 저장소 종류
+     * @param sqliteFileName SQLITE일 때 데이터 폴더 안의 데이터베이스 파일 이름
+     */
+    public void setStorageType(StorageType type, String sqliteFileName) {
+        this.storageType = type;
+        this.sqliteFileName = sqliteFileName;
+    }
+    
+    public StorageType getStorageType() {
+        return storageType;
+    }
+    
+    /**
+     * 데이터 저장소 종류
+     */
+    public enum StorageType {
+        /** 데이터 폴더의 timedata.dat과 playtime/ 샤드 파일 */
+        FILE,
+        /** 데이터 폴더의 SQLite 데이터베이스 파일 (서버에 포함된 드라이버 사용) */
+        SQLITE
+    }
+    
+    /**
+     * 게임 시계를 진행시키는 방식
+     */
+    public enum ClockDriver {
+        /** Bukkit 비동기 스케줄러에서 매 틱(50ms)마다 확인 */
+        BUKKIT,
+        /** 전용 ScheduledExecutorService 스레드에서 설정한 주기(나노초)마다 확인 */
+        EXECUTOR
+    }
+    
+    // setTime으로 건너뛴 지점 - drain에서 ServerTimeChangeEvent와 함께 처리됩니다
+    private static final class TimeJump {
+        private final long oldTotalMinutes;
+        private final ClockSnapshot target;
+        private final int day;
+        private final int hour;
+        private final int minute;
         
-        // Check for month change
-        if (currentMonth != lastMonth) {
-            lastMonth = currentMonth;
-            int currentYear = getYear();
-            ServerMonthChangeEvent monthEvent = new ServerMonthChangeEvent(currentMonth, currentYear);
-            Bukkit.getPluginManager().callEvent(monthEvent);
+        private TimeJump(long oldTotalMinutes, ClockSnapshot target, int day, int hour, int minute) {
+            this.oldTotalMinutes = oldTotalMinutes;
+            this.target = target;
+            this.day = day;
+            this.hour = hour;
+            this.minute = minute;
         }
-        
-        // Check for time of day changes
-        checkTimeOfDay(currentHour);
     }
     
     // 공개 메소드 - 자동 저장용
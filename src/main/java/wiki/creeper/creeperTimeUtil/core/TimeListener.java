@@ -0,0 +1,14 @@
+package wiki.creeper.creeperTimeUtil.core;
+
+/**
+ * ServerClockAPI.onHour / onTimeOfDay 등으로 등록하는 시간 구독 콜백
+ * Bukkit 이벤트 버스를 거치지 않고 메인 스레드에서 직접 호출됩니다.
+ */
+@FunctionalInterface
+public interface TimeListener {
+    /**
+     * 구독한 시점에 도달했을 때 호출됩니다.
+     * @param at 도달한 시점의 시간 스냅샷
+     */
+    void onTime(ClockSnapshot at);
+}
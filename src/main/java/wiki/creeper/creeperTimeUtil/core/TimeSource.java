@@ -0,0 +1,25 @@
+package wiki.creeper.creeperTimeUtil.core;
+
+/**
+ * 쿨타임, 속도 제한, 플레이어 접속 시간 계산에 쓰는 단조 시계
+ * 값 자체는 의미가 없고 두 값의 차이만 경과 시간(나노초)을 뜻합니다. 벽시계(NTP 보정 등)가 바뀌어도 영향을 받지 않습니다.
+ */
+public interface TimeSource {
+
+    /**
+     * 매번 System.nanoTime()을 읽는 정밀한 시계
+     */
+    TimeSource MONOTONIC = System::nanoTime;
+
+    /**
+     * 현재 시점을 반환합니다.
+     * @return 나노초 단위 시점
+     */
+    long nanoTime();
+
+    /**
+     * 서버 틱마다 메인 스레드에서 한 번 호출됩니다. 틱 단위로 값을 캐시하는 구현만 사용합니다.
+     */
+    default void tick() {
+    }
+}
@@ -0,0 +1,57 @@
+package wiki.creeper.creeperTimeUtil.core;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 커널 상태(서버 시계, 쿨타임)와 플레이어 플레이 시간을 보관하는 저장소
+ *
+ * 구현은 스레드 안전할 필요가 없습니다. 모든 메소드는 StorageWriter의 저장소 스레드 하나에서만 불립니다.
+ * 저널(timedata.journal.*)과 시계 체크포인트는 저장소와 상관없이 데이터 폴더의 로컬 파일로 남습니다.
+ */
+interface TimeStorage {
+
+    /**
+     * 저장소 이름 (로그용)
+     */
+    String name();
+
+    /**
+     * 저장된 커널 상태로 저장소들을 채웁니다.
+     * @return 불러온 상태의 저장 시각/누적 시간/저널 세대, 저장된 상태가 없으면 null
+     * @throws IOException 저장된 상태를 읽을 수 없는 경우
+     */
+    TimeDataFile.LoadResult loadState(DataChannelBuffer io, CooldownStore cooldowns, PlayerCooldowns playerCooldowns,
+                                      GameCooldownStore gameCooldowns, Map<String, Long> gameTimeCooldowns) throws IOException;
+
+    /**
+     * 커널 상태 스냅샷을 통째로 교체합니다. 실패하면 직전 상태가 그대로 남아야 합니다.
+     */
+    void saveState(DataChannelBuffer io, TimeDataFile.Snapshot snapshot) throws IOException;
+
+    /**
+     * @return 플레이 시간 기록이 하나라도 있으면 true
+     */
+    boolean hasPlayTimes() throws IOException;
+
+    /**
+     * @return 누적 플레이 시간(ms), 기록이 없으면 0
+     */
+    long loadPlayTime(UUID player) throws IOException;
+
+    /**
+     * 누적 플레이 시간에 늘어난 시간을 더합니다. 한 번의 호출은 하나의 묶음(트랜잭션)으로 씁니다.
+     * @param deltaMillis 플레이어별로 더할 시간(ms)
+     * @param released 퇴장한 플레이어 - 구현이 들고 있는 캐시를 비워도 됩니다
+     */
+    void addPlayTimes(Map<UUID, Long> deltaMillis, Set<UUID> released) throws IOException;
+
+    /**
+     * 누적 플레이 시간을 주어진 값으로 덮어씁니다.
+     */
+    void putPlayTimes(Map<UUID, Long> totalMillis) throws IOException;
+
+    void close();
+}
@@ -0,0 +1,22 @@
+package wiki.creeper.creeperTimeUtil.core;
+
+/**
+ * 시간 구독 핸들
+ * unsubscribe()를 호출하면 더 이상 콜백이 호출되지 않습니다.
+ */
+public final class TimeSubscription {
+    private final TimeSubscriptions.Bucket bucket;
+    private final TimeListener listener;
+
+    TimeSubscription(TimeSubscriptions.Bucket bucket, TimeListener listener) {
+        this.bucket = bucket;
+        this.listener = listener;
+    }
+
+    /**
+     * 구독을 해제합니다.
+     */
+    public void unsubscribe() {
+        bucket.remove(listener);
+    }
+}
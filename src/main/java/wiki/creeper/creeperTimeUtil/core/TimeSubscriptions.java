@@ -0,0 +1,169 @@
+package wiki.creeper.creeperTimeUtil.core;
+
+import wiki.creeper.creeperTimeUtil.events.ServerTimeOfDayEvent;
+
+import java.util.function.BiConsumer;
+
+/**
+ * 키(시각, 시간대 등)별 배열에 구독자를 보관하는 경량 구독 관리자
+ * 구독자 배열은 등록/해제 시에만 복사되며(copy-on-write), 발생 시에는
+ * 해당 키의 배열 하나만 읽으므로 관심 없는 구독자는 호출되지 않습니다.
+ */
+final class TimeSubscriptions {
+    private static final TimeListener[] EMPTY = new TimeListener[0];
+
+    private final Bucket[] byMinuteOfHour = buckets(60);
+    private final Bucket[] byHour = buckets(24);
+    private final Bucket[] byTimeOfDay = buckets(ServerTimeOfDayEvent.TimeOfDay.values().length);
+    private final Bucket everyHour = new Bucket();
+    private final Bucket everyDay = new Bucket();
+    private final Bucket everyWeek = new Bucket();
+    private final Bucket everyMonth = new Bucket();
+
+    private final BiConsumer<TimeListener, RuntimeException> errorHandler;
+
+    TimeSubscriptions(BiConsumer<TimeListener, RuntimeException> errorHandler) {
+        this.errorHandler = errorHandler;
+    }
+
+    TimeSubscription onMinuteOfHour(int minute, TimeListener listener) {
+        if (minute < 0 || minute > 59) {
+            throw new IllegalArgumentException("분은 0-59 사이여야 합니다");
+        }
+        return byMinuteOfHour[minute].add(listener);
+    }
+
+    TimeSubscription onHour(int hour, TimeListener listener) {
+        if (hour < 0 || hour > 23) {
+            throw new IllegalArgumentException("시간은 0-23 사이여야 합니다");
+        }
+        return byHour[hour].add(listener);
+    }
+
+    TimeSubscription onTimeOfDay(ServerTimeOfDayEvent.TimeOfDay timeOfDay, TimeListener listener) {
+        return byTimeOfDay[timeOfDay.ordinal()].add(listener);
+    }
+
+    TimeSubscription onEveryHour(TimeListener listener) {
+        return everyHour.add(listener);
+    }
+
+    TimeSubscription onDay(TimeListener listener) {
+        return everyDay.add(listener);
+    }
+
+    TimeSubscription onWeek(TimeListener listener) {
+        return everyWeek.add(listener);
+    }
+
+    TimeSubscription onMonth(TimeListener listener) {
+        return everyMonth.add(listener);
+    }
+
+    /**
+     * 해당 분을 구독한 콜백이 있는지 확인합니다. 없으면 스냅샷 생성도 생략할 수 있습니다.
+     */
+    boolean hasMinuteListeners(long minute) {
+        return byMinuteOfHour[(int) Math.floorMod(minute, 60L)].listeners.length > 0;
+    }
+
+    void fireMinute(ClockSnapshot at) {
+        fire(byMinuteOfHour[at.getMinute()], at);
+    }
+
+    /**
+     * 주어진 경계 종류 중 하나라도 구독한 콜백이 있는지 확인합니다.
+     * 시각/시간대별 구독은 스냅샷 없이는 어느 칸인지 모르므로, 그 종류의 칸 중 하나라도 차 있으면 있다고 봅니다.
+     */
+    boolean hasBoundaryListeners(int kinds) {
+        if ((kinds & BoundaryWalker.HOUR) != 0 && (!everyHour.isEmpty() || anyListeners(byHour))) {
+            return true;
+        }
+        if ((kinds & BoundaryWalker.DAY) != 0 && !everyDay.isEmpty()) {
+            return true;
+        }
+        if ((kinds & BoundaryWalker.WEEK) != 0 && !everyWeek.isEmpty()) {
+            return true;
+        }
+        if ((kinds & BoundaryWalker.MONTH) != 0 && !everyMonth.isEmpty()) {
+            return true;
+        }
+        return (kinds & BoundaryWalker.TIME_OF_DAY) != 0 && anyListeners(byTimeOfDay);
+    }
+
+    // 정시 → 일 → 주 → 월 → 시간대 순서로, Bukkit 이벤트와 같은 순서를 따릅니다
+    void fireBoundaries(ClockSnapshot at, int kinds) {
+        if ((kinds & BoundaryWalker.HOUR) != 0) {
+            fire(everyHour, at);
+            fire(byHour[at.getHour()], at);
+        }
+        if ((kinds & BoundaryWalker.DAY) != 0) {
+            fire(everyDay, at);
+        }
+        if ((kinds & BoundaryWalker.WEEK) != 0) {
+            fire(everyWeek, at);
+        }
+        if ((kinds & BoundaryWalker.MONTH) != 0) {
+            fire(everyMonth, at);
+        }
+        if ((kinds & BoundaryWalker.TIME_OF_DAY) != 0) {
+            fire(byTimeOfDay[at.getTimeOfDay().ordinal()], at);
+        }
+    }
+
+    private void fire(Bucket bucket, ClockSnapshot at) {
+        for (TimeListener listener : bucket.listeners) {
+            try {
+                listener.onTime(at);
+            } catch (RuntimeException e) {
+                errorHandler.accept(listener, e);
+            }
+        }
+    }
+
+    private static boolean anyListeners(Bucket[] buckets) {
+        for (Bucket bucket : buckets) {
+            if (!bucket.isEmpty()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static Bucket[] buckets(int count) {
+        Bucket[] buckets = new Bucket[count];
+        for (int i = 0; i < count; i++) {
+            buckets[i] = new Bucket();
+        }
+        return buckets;
+    }
+
+    static final class Bucket {
+        private volatile TimeListener[] listeners = EMPTY;
+
+        boolean isEmpty() {
+            return listeners.length == 0;
+        }
+
+        synchronized TimeSubscription add(TimeListener listener) {
+            TimeListener[] updated = new TimeListener[listeners.length + 1];
+            System.arraycopy(listeners, 0, updated, 0, listeners.length);
+            updated[listeners.length] = listener;
+            listeners = updated;
+            return new TimeSubscription(this, listener);
+        }
+
+        synchronized void remove(TimeListener listener) {
+            TimeListener[] current = listeners;
+            for (int i = 0; i < current.length; i++) {
+                if (current[i] == listener) {
+                    TimeListener[] updated = new TimeListener[current.length - 1];
+                    System.arraycopy(current, 0, updated, 0, i);
+                    System.arraycopy(current, i + 1, updated, i, current.length - i - 1);
+                    listeners = updated;
+                    return;
+                }
+            }
+        }
+    }
+}
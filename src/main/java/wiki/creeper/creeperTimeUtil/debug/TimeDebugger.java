@@ -138,6 +138,11 @@ public class TimeDebugger {
         });
         status.add("");
         
+        // 쿨타임 저장소
+        status.add("[ 쿨타임 저장소 ]");
+        status.add("실시간 쿨타임: " + ServerClockAPI.getCooldownStats());
+        status.add("");
+        
         // 메모리 사용량
         Runtime runtime = Runtime.getRuntime();
         long usedMemory = (runtime.totalMemory() - runtime.freeMemory()) / 1024 / 1024;
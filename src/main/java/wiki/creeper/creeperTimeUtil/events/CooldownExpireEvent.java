@@ -0,0 +1,91 @@
+package wiki.creeper.creeperTimeUtil.events;
+
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+import org.bukkit.event.Event;
+import org.bukkit.event.HandlerList;
+import wiki.creeper.creeperTimeUtil.core.CooldownType;
+
+import java.util.UUID;
+
+/**
+ * 쿨타임이 자연 만료되었을 때 발생하는 이벤트
+ * 메인 스레드에서 매 틱 한 번씩 만료된 쿨타임을 모아 발생시킵니다.
+ * 제거되거나 다시 설정된 쿨타임에 대해서는 발생하지 않습니다.
+ */
+public class CooldownExpireEvent extends Event {
+    private static final HandlerList HANDLERS = new HandlerList();
+    private final String key;
+    private final UUID playerId;
+    private final CooldownType type;
+    
+    /**
+     * 서버 쿨타임(ServerClockAPI.setCooldown) 만료
+     * @param key 쿨타임 ID
+     */
+    public CooldownExpireEvent(String key) {
+        this.key = key;
+        this.playerId = null;
+        this.type = null;
+    }
+    
+    /**
+     * 플레이어 쿨타임(PlayerTimeAPI.setPlayerCooldown) 만료
+     * @param playerId 플레이어 UUID
+     * @param type 쿨타임 종류
+     */
+    public CooldownExpireEvent(UUID playerId, CooldownType type) {
+        this.key = type.getName();
+        this.playerId = playerId;
+        this.type = type;
+    }
+    
+    /**
+     * 만료된 쿨타임의 키를 반환합니다.
+     * @return 서버 쿨타임이면 쿨타임 ID, 플레이어 쿨타임이면 쿨타임 종류 이름
+     */
+    public String getKey() {
+        return key;
+    }
+    
+    /**
+     * 플레이어 쿨타임인지 확인합니다.
+     * @return 플레이어 쿨타임이면 true
+     */
+    public boolean isPlayerCooldown() {
+        return playerId != null;
+    }
+    
+    /**
+     * 쿨타임 주인의 UUID를 반환합니다.
+     * @return 플레이어 UUID, 서버 쿨타임이면 null
+     */
+    public UUID getPlayerId() {
+        return playerId;
+    }
+    
+    /**
+     * 쿨타임 주인을 반환합니다.
+     * @return 접속 중인 플레이어, 서버 쿨타임이거나 접속 중이 아니면 null
+     */
+    public Player getPlayer() {
+        return playerId != null ? Bukkit.getPlayer(playerId) : null;
+    }
+    
+    /**
+     * 플레이어 쿨타임의 종류를 반환합니다.
+     * @return 쿨타임 종류, 서버 쿨타임이면 null
+     */
+    public CooldownType getType() {
+        return type;
+    }
+    
+    @Override
+    public HandlerList getHandlers() {
+        return HANDLERS;
+    }
+    
+    public static HandlerList getHandlerList() {
+        return HANDLERS;
+    }
+}
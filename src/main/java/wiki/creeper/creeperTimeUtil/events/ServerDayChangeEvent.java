@@ -2,6 +2,7 @@ package wiki.creeper.creeperTimeUtil.events;
 
 import org.bukkit.event.Event;
 import org.bukkit.event.HandlerList;
+import wiki.creeper.creeperTimeUtil.core.GameCalendar;
 
 /**
  * 서버의 날짜가 바뀔 때마다 발생하는 이벤트
@@ -44,7 +45,7 @@ public class ServerDayChangeEvent extends Event {
      * @return 주차 (1부터 시작)
      */
     public int getWeek() {
-        return ((newDay - 1) / 7) + 1;
+        return GameCalendar.current().getWeek(newDay);
     }
     
     /**
@@ -52,8 +53,7 @@ public class ServerDayChangeEvent extends Event {
      * @return 요일 (1=월요일, 7=일요일)
      */
     public int getDayOfWeek() {
-        int dayInWeek = ((newDay - 1) % 7) + 1;
-        return dayInWeek;
+        return GameCalendar.current().getDayOfWeek(newDay).getValue();
     }
     
     @Override
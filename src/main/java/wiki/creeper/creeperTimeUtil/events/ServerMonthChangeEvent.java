@@ -2,10 +2,11 @@ package wiki.creeper.creeperTimeUtil.events;
 
 import org.bukkit.event.Event;
 import org.bukkit.event.HandlerList;
+import wiki.creeper.creeperTimeUtil.core.GameCalendar;
 
 /**
  * 서버의 월이 바뀔 때마다 발생하는 이벤트
- * 30일마다 발생합니다.
+ * 서버 달력(GameCalendar) 기준으로 매월 1일 0시에 발생합니다.
  */
 public class ServerMonthChangeEvent extends Event {
     private static final HandlerList HANDLERS = new HandlerList();
@@ -31,7 +32,7 @@ public class ServerMonthChangeEvent extends Event {
      */
     public int getPreviousMonth() {
         if (newMonth == 1) {
-            return 12;
+            return GameCalendar.current().getMonthsPerYear();
         }
         return newMonth - 1;
     }
@@ -49,7 +50,7 @@ public class ServerMonthChangeEvent extends Event {
      * @return 이번 달 1일의 일차
      */
     public int getFirstDayOfMonth() {
-        return ((year - 1) * 360) + ((newMonth - 1) * 30) + 1;
+        return GameCalendar.current().getFirstDayOfMonth(year, newMonth);
     }
     
     /**
@@ -57,7 +58,7 @@ public class ServerMonthChangeEvent extends Event {
      * @return 이번 달 마지막날의 일차
      */
     public int getLastDayOfMonth() {
-        return getFirstDayOfMonth() + 29;
+        return getFirstDayOfMonth() + GameCalendar.current().getMonthLength(year, newMonth) - 1;
     }
     
     /**
@@ -65,15 +66,15 @@ public class ServerMonthChangeEvent extends Event {
      * @return 경과 개월수 (0부터 시작)
      */
     public int getMonthsSinceStart() {
-        return ((year - 1) * 12) + (newMonth - 1);
+        return ((year - 1) * GameCalendar.current().getMonthsPerYear()) + (newMonth - 1);
     }
     
     /**
-     * 현재 분기를 반환합니다.
+     * 현재 분기를 반환합니다. 1년을 월 수 기준으로 4등분합니다.
      * @return 분기 (1-4)
      */
     public int getQuarter() {
-        return ((newMonth - 1) / 3) + 1;
+        return ((newMonth - 1) * 4 / GameCalendar.current().getMonthsPerYear()) + 1;
     }
     
     /**
@@ -81,7 +82,7 @@ public class ServerMonthChangeEvent extends Event {
      * @return 계절 (봄, 여름, 가을, 겨울)
      */
     public String getSeason() {
-        switch ((newMonth - 1) / 3) {
+        switch (getQuarter() - 1) {
             case 0: return "봄";
             case 1: return "여름";
             case 2: return "가을";
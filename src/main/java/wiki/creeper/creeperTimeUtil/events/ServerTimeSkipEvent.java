@@ -0,0 +1,104 @@
+package wiki.creeper.creeperTimeUtil.events;
+
+import org.bukkit.event.Event;
+import org.bukkit.event.HandlerList;
+
+/**
+ * 서버 시간이 크게 건너뛰었을 때 개별 이벤트 대신 한 번만 발생하는 요약 이벤트
+ * config.yml의 time.catch-up.mode가 SUMMARY일 때, 건너뛴 시간이 기준값을 넘으면 발생합니다.
+ */
+public class ServerTimeSkipEvent extends Event {
+    private static final HandlerList HANDLERS = new HandlerList();
+    private final long fromTotalMinutes;
+    private final long toTotalMinutes;
+    private final long hoursPassed;
+    private final long daysPassed;
+    private final long weeksPassed;
+    private final long monthsPassed;
+    private final long timesOfDayPassed;
+
+    public ServerTimeSkipEvent(long fromTotalMinutes, long toTotalMinutes, long hoursPassed, long daysPassed,
+                               long weeksPassed, long monthsPassed, long timesOfDayPassed) {
+        this.fromTotalMinutes = fromTotalMinutes;
+        this.toTotalMinutes = toTotalMinutes;
+        this.hoursPassed = hoursPassed;
+        this.daysPassed = daysPassed;
+        this.weeksPassed = weeksPassed;
+        this.monthsPassed = monthsPassed;
+        this.timesOfDayPassed = timesOfDayPassed;
+    }
+
+    /**
+     * 건너뛰기 전 총 시간(분)을 반환합니다.
+     * @return 건너뛰기 전 총 시간(분)
+     */
+    public long getFromTotalMinutes() {
+        return fromTotalMinutes;
+    }
+
+    /**
+     * 건너뛴 후 총 시간(분)을 반환합니다.
+     * @return 건너뛴 후 총 시간(분)
+     */
+    public long getToTotalMinutes() {
+        return toTotalMinutes;
+    }
+
+    /**
+     * 건너뛴 시간(분)을 반환합니다.
+     * @return 건너뛴 시간(분)
+     */
+    public long getMinutesPassed() {
+        return toTotalMinutes - fromTotalMinutes;
+    }
+
+    /**
+     * 지나친 정시의 개수를 반환합니다.
+     * @return 정시 개수
+     */
+    public long getHoursPassed() {
+        return hoursPassed;
+    }
+
+    /**
+     * 지나친 날짜 변경의 개수를 반환합니다.
+     * 일일 보상 등은 이 값만큼 지급하면 됩니다.
+     * @return 날짜 변경 개수
+     */
+    public long getDaysPassed() {
+        return daysPassed;
+    }
+
+    /**
+     * 지나친 주 변경의 개수를 반환합니다.
+     * @return 주 변경 개수
+     */
+    public long getWeeksPassed() {
+        return weeksPassed;
+    }
+
+    /**
+     * 지나친 월 변경의 개수를 반환합니다.
+     * @return 월 변경 개수
+     */
+    public long getMonthsPassed() {
+        return monthsPassed;
+    }
+
+    /**
+     * 지나친 시간대(새벽, 아침 등) 시작의 개수를 반환합니다.
+     * @return 시간대 시작 개수
+     */
+    public long getTimesOfDayPassed() {
+        return timesOfDayPassed;
+    }
+
+    @Override
+    public HandlerList getHandlers() {
+        return HANDLERS;
+    }
+
+    public static HandlerList getHandlerList() {
+        return HANDLERS;
+    }
+}
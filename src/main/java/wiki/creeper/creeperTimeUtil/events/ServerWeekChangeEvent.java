@@ -5,7 +5,7 @@ import org.bukkit.event.HandlerList;
 
 /**
  * 서버의 주차가 바뀔 때마다 발생하는 이벤트
- * 매주 월요일 0시에 발생합니다.
+ * 서버 달력(GameCalendar)의 주 시작 요일 0시에 발생합니다. 기본값은 월요일입니다.
  */
 public class ServerWeekChangeEvent extends Event {
     private static final HandlerList HANDLERS = new HandlerList();
@@ -34,16 +34,16 @@ public class ServerWeekChangeEvent extends Event {
     }
     
     /**
-     * 이번 주의 첫날(월요일)이 몇 일차인지 반환합니다.
-     * @return 이번 주 월요일의 일차
+     * 이번 주의 첫날(주 시작 요일)이 몇 일차인지 반환합니다.
+     * @return 이번 주 첫날의 일차
      */
     public int getFirstDayOfWeek() {
         return firstDayOfWeek;
     }
     
     /**
-     * 이번 주의 마지막날(일요일)이 몇 일차인지 반환합니다.
-     * @return 이번 주 일요일의 일차
+     * 이번 주의 마지막날이 몇 일차인지 반환합니다.
+     * @return 이번 주 마지막날의 일차
      */
     public int getLastDayOfWeek() {
         return firstDayOfWeek + 6;
@@ -10,6 +10,10 @@ import wiki.creeper.creeperTimeUtil.CreeperTimeUtil;
 import wiki.creeper.creeperTimeUtil.manager.ActionBarManager;
 import wiki.creeper.creeperTimeUtil.api.ServerClockAPI;
 import wiki.creeper.creeperTimeUtil.api.WorldTimeZoneAPI;
+import wiki.creeper.creeperTimeUtil.core.ClockSnapshot;
+
+import java.time.format.TextStyle;
+import java.util.Locale;
 
 public class ActionBarTask extends BukkitRunnable {
     private final CreeperTimeUtil plugin;
@@ -47,10 +51,11 @@ public class ActionBarTask extends BukkitRunnable {
     }
     
     private String replacePlaceholders(String message, Player player) {
-        // 현재 시간 가져오기
-        int day = ServerClockAPI.getDay();
-        int hour = ServerClockAPI.getHour();
-        int minute = ServerClockAPI.getMinute();
+        // 현재 시간 가져오기 (한 시점의 스냅샷 기준)
+        ClockSnapshot now = ServerClockAPI.getSnapshot();
+        int day = now.getDay();
+        int hour = now.getHour();
+        int minute = now.getMinute();
         
         // 기본 플레이스홀더 처리
         message = message.replace("%creepertimeutil_day%", String.valueOf(day));
@@ -69,11 +74,10 @@ public class ActionBarTask extends BukkitRunnable {
         message = message.replace("%creepertimeutil_period%", period);
         message = message.replace("%creepertimeutil_formatted_time_12h%", String.format("%d:%02d %s", hour12, minute, period));
         
-        // 요일, 월, 연도
-        String[] dayNames = {"Sunday", "Monday", "Tuesday", "Wednesday", "Thursday", "Friday", "Saturday"};
-        message = message.replace("%creepertimeutil_day_name%", dayNames[day % 7]);
-        message = message.replace("%creepertimeutil_month%", String.valueOf((day / 30) + 1));
-        message = message.replace("%creepertimeutil_year%", String.valueOf((day / 365) + 1));
+        // 요일, 월, 연도 (서버 달력 기준)
+        message = message.replace("%creepertimeutil_day_name%", now.getDayOfWeek().getDisplayName(TextStyle.FULL, Locale.ENGLISH));
+        message = message.replace("%creepertimeutil_month%", String.valueOf(now.getMonth()));
+        message = message.replace("%creepertimeutil_year%", String.valueOf(now.getYear()));
         
         // 월드별 시간
         if (player.getWorld() != null && WorldTimeZoneAPI.isWorldTimeZoneEnabled(player.getWorld().getName())) {
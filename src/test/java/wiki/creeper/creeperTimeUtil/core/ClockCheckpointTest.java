@@ -0,0 +1,91 @@
+package wiki.creeper.creeperTimeUtil.core;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 시계 체크포인트 칸 선택 테스트 - 순번이 큰 온전한 칸, 손상된 칸 건너뛰기, 정상 종료 표시
+ */
+class ClockCheckpointTest {
+    private static final int HEADER_BYTES = 8;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void freshFileHasNoState() throws IOException {
+        ClockCheckpoint checkpoint = new ClockCheckpoint(file());
+        assertNull(checkpoint.open());
+        checkpoint.close();
+    }
+
+    @Test
+    void newestSlotWins() throws IOException {
+        ClockCheckpoint checkpoint = new ClockCheckpoint(file());
+        checkpoint.open();
+        checkpoint.write(100, 1.0, false);
+        checkpoint.write(101, 2.0, true);
+        checkpoint.write(102, 3.0, false);
+        checkpoint.close();
+
+        ClockCheckpoint.State state = new ClockCheckpoint(file()).open();
+        assertEquals(3, state.sequence);
+        assertEquals(102, state.totalMinutes);
+        assertEquals(3.0, state.speed);
+        assertFalse(state.paused);
+        assertFalse(state.clean);
+    }
+
+    @Test
+    void tornSlotFallsBackToOtherSlot() throws IOException {
+        ClockCheckpoint checkpoint = new ClockCheckpoint(file());
+        checkpoint.open();
+        checkpoint.write(100, 1.0, true);  // 순번 1 - 홀수 순번은 둘째 칸
+        checkpoint.write(101, 2.0, false); // 순번 2 - 짝수 순번은 첫째 칸
+        checkpoint.close();
+        try (RandomAccessFile raw = new RandomAccessFile(file(), "rw")) {
+            raw.seek(HEADER_BYTES + 16); // 첫째 칸(순번 2)의 누적 시간 - CRC가 맞지 않게 됩니다
+            raw.writeLong(999);
+        }
+
+        ClockCheckpoint.State state = new ClockCheckpoint(file()).open();
+        assertEquals(1, state.sequence);
+        assertEquals(100, state.totalMinutes);
+        assertTrue(state.paused);
+    }
+
+    @Test
+    void cleanFlagMarksOnlyTheShutdownSlot() throws IOException {
+        ClockCheckpoint checkpoint = new ClockCheckpoint(file());
+        checkpoint.open();
+        checkpoint.write(100, 1.0, false);
+        checkpoint.writeClean(101, 1.5, true);
+        checkpoint.close();
+
+        ClockCheckpoint reopened = new ClockCheckpoint(file());
+        ClockCheckpoint.State state = reopened.open();
+        assertTrue(state.clean);
+        assertTrue(state.paused);
+        assertEquals(1.5, state.speed);
+
+        reopened.write(102, 1.5, false); // 다시 시작한 뒤의 분 기록은 정상 종료 칸이 아닙니다
+        reopened.close();
+        state = new ClockCheckpoint(file()).open();
+        assertEquals(3, state.sequence);
+        assertFalse(state.clean);
+    }
+
+    private File file() {
+        return directory.resolve(ClockCheckpoint.FILE_NAME).toFile();
+    }
+}
@@ -0,0 +1,142 @@
+package wiki.creeper.creeperTimeUtil.core;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 실시간 쿨타임 저장소 테스트 - 선형 탐사 삭제(뒤 항목 당기기)와 상한 초과 시 밀어내기
+ */
+class CooldownStoreTest {
+    private final ManualTimeSource time = new ManualTimeSource(TimeUnit.HOURS.toNanos(1));
+    private final CooldownStore store = new CooldownStore(time);
+
+    @Test
+    void removingFromCollisionChainKeepsOtherKeysFindable() {
+        // "Aa"와 "BB"는 hashCode가 같으므로, 이 둘을 이어 붙인 키는 모두 같은 세그먼트의 같은 자리에서 탐사를 시작합니다
+        List<String> keys = collidingKeys(6);
+        for (int i = 0; i < keys.size(); i++) {
+            store.set(keys.get(i), TimeUnit.MINUTES.toNanos(i + 1), null);
+        }
+        List<String> removed = new ArrayList<>();
+        for (int i = 1; i < keys.size(); i += 3) {
+            store.remove(keys.get(i));
+            removed.add(keys.get(i));
+        }
+
+        for (int i = 0; i < keys.size(); i++) {
+            String key = keys.get(i);
+            if (removed.contains(key)) {
+                assertEquals(0, store.remainingNanos(key), key);
+            } else {
+                assertEquals(TimeUnit.MINUTES.toNanos(i + 1), store.remainingNanos(key), key);
+            }
+        }
+        assertEquals(keys.size() - removed.size(), store.size());
+    }
+
+    @Test
+    void randomInsertsAndRemovesMatchModel() {
+        Random random = new Random(7);
+        Map<String, Long> model = new HashMap<>();
+        for (int i = 0; i < 50_000; i++) {
+            String key = "key:" + random.nextInt(5_000);
+            if (random.nextInt(3) == 0) {
+                store.remove(key);
+                model.remove(key);
+            } else {
+                long duration = TimeUnit.SECONDS.toNanos(1 + random.nextInt(1_000));
+                store.set(key, duration, null);
+                model.put(key, duration);
+            }
+        }
+        assertEquals(model.size(), store.size());
+        for (int i = 0; i < 5_000; i++) {
+            String key = "key:" + i;
+            assertEquals((long) model.getOrDefault(key, 0L), store.remainingNanos(key), key);
+        }
+    }
+
+    @Test
+    void overflowEvictsGloballySoonestEntry() {
+        store.setMaxEntries(3);
+        store.set("a", TimeUnit.MINUTES.toNanos(30), null);
+        store.set("b", TimeUnit.MINUTES.toNanos(10), null);
+        store.set("c", TimeUnit.MINUTES.toNanos(20), null);
+        store.set("d", TimeUnit.MINUTES.toNanos(40), null);
+
+        assertEquals(3, store.size());
+        assertEquals(0, store.remainingNanos("b"));
+        assertTrue(store.remainingNanos("a") > 0 && store.remainingNanos("c") > 0 && store.remainingNanos("d") > 0);
+
+        store.set("e", TimeUnit.MINUTES.toNanos(1), null); // 가장 먼저 만료되므로 넣자마자 밀려납니다
+        assertEquals(0, store.remainingNanos("e"));
+        assertEquals(2, store.stats().getEvictions());
+    }
+
+    @Test
+    void capKeepsLatestDeadlinesAcrossSegments() {
+        store.setMaxEntries(100);
+        for (int i = 0; i < 1_000; i++) {
+            store.set("key:" + i, TimeUnit.SECONDS.toNanos(i + 1), null);
+        }
+        assertEquals(100, store.size());
+        for (int i = 0; i < 1_000; i++) {
+            assertEquals(i >= 900, store.remainingNanos("key:" + i) > 0, "key:" + i);
+        }
+    }
+
+    @Test
+    void shrinkingCapEvictsImmediately() {
+        for (int i = 0; i < 10; i++) {
+            store.set("key:" + i, TimeUnit.SECONDS.toNanos(i + 1), null);
+        }
+        store.setMaxEntries(4);
+        assertEquals(4, store.size());
+        assertEquals(0, store.remainingNanos("key:5"));
+        assertTrue(store.remainingNanos("key:6") > 0);
+    }
+
+    @Test
+    void evictedEntriesDoNotFireExpiryCallbacks() {
+        int[] fired = new int[1];
+        store.setMaxEntries(1);
+        store.set("soon", TimeUnit.SECONDS.toNanos(1), () -> fired[0]++);
+        store.set("late", TimeUnit.SECONDS.toNanos(2), () -> fired[0]++);
+        time.advance(3, TimeUnit.SECONDS);
+
+        List<String> expired = new ArrayList<>();
+        store.sweep((key, callback) -> {
+            expired.add(key);
+            if (callback != null) {
+                callback.run();
+            }
+        });
+        assertEquals(Collections.singletonList("late"), expired);
+        assertEquals(1, fired[0]);
+    }
+
+    // "Aa"/"BB"를 count번 이어 붙인 2^count개의 키
+    private static List<String> collidingKeys(int count) {
+        List<String> keys = new ArrayList<>();
+        keys.add("");
+        for (int i = 0; i < count; i++) {
+            List<String> next = new ArrayList<>();
+            for (String key : keys) {
+                next.add(key + "Aa");
+                next.add(key + "BB");
+            }
+            keys = next;
+        }
+        return keys;
+    }
+}
@@ -0,0 +1,206 @@
+package wiki.creeper.creeperTimeUtil.core;
+
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * timedata.dat 저장/불러오기 성능 측정
+ *
+ * 테스트 클래스 경로에서 서버 없이 실행합니다 (Bukkit 클래스를 쓰지 않음):
+ * <pre>
+ * java -cp target/classes:target/test-classes wiki.creeper.creeperTimeUtil.core.PersistenceBenchmark [쿨타임 수] [반복 횟수]
+ * </pre>
+ * 비교 기준은 버퍼 없는 DataOutputStream으로 같은 항목(모든 구역)을 값마다 writeUTF/writeLong 한 뒤 fsync하는 방식이며,
+ * 이어서 스냅샷 복사, 채널 스트리밍 쓰기(fsync 포함), 채널 읽기, 바이트 배열 일괄 변환을 잽니다.
+ * 읽기와 일괄 복원 결과는 매 회 원래 저장소와 비교하며, 다르면 IllegalStateException으로 멈춥니다 (비교 시간은 측정에서 뺍니다).
+ */
+final class PersistenceBenchmark {
+    private static final int DEFAULT_ENTRIES = 1_000_000;
+    private static final int DEFAULT_ROUNDS = 5;
+    private static final int PLAYERS_PER_ENTRIES = 10; // 쿨타임 10개당 플레이어 1명
+    private static final int GAME_ENTRIES_PER_ENTRIES = 100; // 쿨타임 100개당 게임 시간 쿨타임 1개
+    private static final long TOTAL_MINUTES = 1_440L * 400;
+
+    private PersistenceBenchmark() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        int entries = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_ENTRIES;
+        int rounds = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_ROUNDS;
+
+        CooldownStore cooldowns = new CooldownStore(TimeSource.MONOTONIC);
+        PlayerCooldowns playerCooldowns = new PlayerCooldowns(TimeSource.MONOTONIC);
+        GameCooldownStore gameCooldowns = new GameCooldownStore();
+        Map<String, Long> gameTimeCooldowns = new HashMap<>();
+        Random random = new Random(42);
+        for (int i = 0; i < entries; i++) {
+            cooldowns.set("player:" + i + ":item", TimeUnit.SECONDS.toNanos(60 + random.nextInt(86_400)), null);
+        }
+        CooldownType[] types = {CooldownType.of("benchmark-skill"), CooldownType.of("benchmark-chat")};
+        for (int i = 0; i < entries / PLAYERS_PER_ENTRIES; i++) {
+            UUID player = new UUID(random.nextLong(), random.nextLong());
+            for (CooldownType type : types) {
+                playerCooldowns.set(player, type, TimeUnit.MINUTES.toNanos(5), null);
+            }
+        }
+        for (int i = 0; i < entries / GAME_ENTRIES_PER_ENTRIES; i++) {
+            gameTimeCooldowns.put("quest:" + i, TOTAL_MINUTES - random.nextInt(10_000));
+            gameCooldowns.set(i % 2 == 0 ? GameCooldownStore.SERVER_SCOPE : "world_nether", "boss:" + i,
+                TOTAL_MINUTES + 1 + random.nextInt(10_000));
+        }
+
+        File directory = Files.createTempDirectory("ctu-benchmark").toFile();
+        File target = new File(directory, "timedata.dat");
+        DataChannelBuffer io = new DataChannelBuffer(DataChannelBuffer.DEFAULT_CAPACITY);
+        System.out.printf("쿨타임 %,d개, 플레이어 %,d명, 게임 시간 쿨타임 %,d개, %d회 반복%n", entries,
+            entries / PLAYERS_PER_ENTRIES, entries / GAME_ENTRIES_PER_ENTRIES * 2, rounds);
+
+        File baseline = new File(directory, "baseline.dat");
+        long start = System.nanoTime();
+        writeUnbuffered(baseline, cooldowns, playerCooldowns, gameCooldowns, gameTimeCooldowns);
+        System.out.printf("기준 (버퍼 없는 DataOutputStream, 모든 구역, fsync 포함): %,d ms (%,d 바이트)%n",
+            elapsedMillis(start), baseline.length());
+
+        for (int round = 1; round <= rounds; round++) {
+            start = System.nanoTime();
+            TimeDataFile.Snapshot snapshot = TimeDataFile.capture(TOTAL_MINUTES, 0, cooldowns, playerCooldowns, gameCooldowns, gameTimeCooldowns);
+            long captured = System.nanoTime();
+            TimeDataFile.writeAtomically(target, io, snapshot);
+            long written = System.nanoTime();
+            Stores fromFile = new Stores();
+            TimeDataFile.LoadResult readResult = TimeDataFile.read(target, io, fromFile.cooldowns, fromFile.playerCooldowns,
+                fromFile.gameCooldowns, fromFile.gameTimeCooldowns);
+            long read = System.nanoTime();
+            byte[] bulk = TimeDataFile.encode(io, snapshot);
+            long encoded = System.nanoTime();
+            Stores fromBytes = new Stores();
+            TimeDataFile.LoadResult decodeResult = TimeDataFile.decode(bulk, io, fromBytes.cooldowns, fromBytes.playerCooldowns,
+                fromBytes.gameCooldowns, fromBytes.gameTimeCooldowns);
+            long decoded = System.nanoTime();
+
+            System.out.printf("#%d 스냅샷 %,d ms, 쓰기+fsync %,d ms (%.1f MB/s), 읽기 %,d ms, 일괄 변환 %,d ms / 복원 %,d ms (%,d 바이트)%n",
+                round, toMillis(captured - start), toMillis(written - captured),
+                target.length() / 1_048_576.0 / Math.max(1e-9, (written - captured) / 1e9),
+                toMillis(read - written), toMillis(encoded - read), toMillis(decoded - encoded), bulk.length);
+
+            verify("읽기", readResult, fromFile, cooldowns, playerCooldowns, gameCooldowns, gameTimeCooldowns);
+            verify("일괄 복원", decodeResult, fromBytes, cooldowns, playerCooldowns, gameCooldowns, gameTimeCooldowns);
+        }
+
+        for (File file : directory.listFiles()) {
+            file.delete();
+        }
+        directory.delete();
+    }
+
+    // 값마다 시스템 호출이 일어나는 기존 방식 - 새 형식과 같은 구역을 모두 쓰고 fsync까지 합니다
+    // 측정 중에는 만료되는 항목이 없으므로 먼저 센 개수와 뒤따르는 항목 수가 같습니다
+    private static void writeUnbuffered(File file, CooldownStore cooldowns, PlayerCooldowns playerCooldowns,
+                                        GameCooldownStore gameCooldowns, Map<String, Long> gameTimeCooldowns) throws IOException {
+        try (FileOutputStream stream = new FileOutputStream(file);
+             DataOutputStream out = new DataOutputStream(stream)) {
+            long now = cooldowns.now();
+            out.writeLong(TOTAL_MINUTES);
+            out.writeInt(cooldowns.size());
+            cooldowns.forEachActive(now, (key, remainingNanos) -> {
+                try {
+                    out.writeUTF(key);
+                    out.writeLong(remainingNanos);
+                } catch (IOException e) {
+                    throw new IllegalStateException(e);
+                }
+            });
+
+            int[] playerEntries = new int[1];
+            playerCooldowns.forEachActive(now, (player, type, remainingNanos) -> playerEntries[0]++);
+            out.writeInt(playerEntries[0]);
+            playerCooldowns.forEachActive(now, (player, type, remainingNanos) -> {
+                try {
+                    out.writeLong(player.getMostSignificantBits());
+                    out.writeLong(player.getLeastSignificantBits());
+                    out.writeUTF(type.getName());
+                    out.writeLong(remainingNanos);
+                } catch (IOException e) {
+                    throw new IllegalStateException(e);
+                }
+            });
+
+            out.writeInt(gameTimeCooldowns.size());
+            for (Map.Entry<String, Long> start : gameTimeCooldowns.entrySet()) {
+                out.writeUTF(start.getKey());
+                out.writeLong(start.getValue());
+            }
+            Map<String, ConcurrentHashMap<String, Long>> scopes = gameCooldowns.scopes();
+            out.writeInt(scopes.size());
+            for (Map.Entry<String, ConcurrentHashMap<String, Long>> scope : scopes.entrySet()) {
+                out.writeUTF(scope.getKey());
+                out.writeInt(scope.getValue().size());
+                for (Map.Entry<String, Long> deadline : scope.getValue().entrySet()) {
+                    out.writeUTF(deadline.getKey());
+                    out.writeLong(deadline.getValue());
+                }
+            }
+            out.flush();
+            stream.getFD().sync();
+        }
+    }
+
+    // 불러온 저장소가 원래 저장소와 같은 항목을 담는지 확인합니다.
+    // 남은 시간은 저장 단위(ms 올림)와 저장 뒤 흐른 시간만큼만 차이 날 수 있습니다
+    private static void verify(String label, TimeDataFile.LoadResult result, Stores loaded, CooldownStore cooldowns,
+                               PlayerCooldowns playerCooldowns, GameCooldownStore gameCooldowns,
+                               Map<String, Long> gameTimeCooldowns) {
+        check(result.totalMinutes == TOTAL_MINUTES, label, "서버 누적 시간");
+        check(loaded.cooldowns.size() == cooldowns.size(), label, "실시간 쿨타임 수");
+        long now = cooldowns.now();
+        long tolerance = TimeUnit.SECONDS.toNanos(60);
+        cooldowns.forEachActive(now, (key, remainingNanos) -> {
+            long restored = loaded.cooldowns.remainingNanos(key);
+            check(restored > 0 && Math.abs(restored - remainingNanos) <= tolerance, label, "실시간 쿨타임 " + key);
+        });
+        int[] playerEntries = new int[2];
+        playerCooldowns.forEachActive(now, (player, type, remainingNanos) -> {
+            playerEntries[0]++;
+            long restored = loaded.playerCooldowns.remainingNanos(player, type);
+            check(restored > 0 && Math.abs(restored - remainingNanos) <= tolerance, label, "플레이어 쿨타임 " + player);
+        });
+        loaded.playerCooldowns.forEachActive(now, (player, type, remainingNanos) -> playerEntries[1]++);
+        check(playerEntries[0] == playerEntries[1], label, "플레이어 쿨타임 수");
+        check(loaded.gameTimeCooldowns.equals(gameTimeCooldowns), label, "게임 시간 쿨타임");
+        Map<String, ConcurrentHashMap<String, Long>> scopes = gameCooldowns.scopes();
+        check(loaded.gameCooldowns.size() == gameCooldowns.size(), label, "범위별 게임 쿨타임 수");
+        for (Map.Entry<String, ConcurrentHashMap<String, Long>> scope : scopes.entrySet()) {
+            check(scope.getValue().equals(loaded.gameCooldowns.scopes().get(scope.getKey())), label, "범위 " + scope.getKey());
+        }
+    }
+
+    private static void check(boolean condition, String label, String what) {
+        if (!condition) {
+            throw new IllegalStateException(label + " 결과가 원본과 다릅니다: " + what);
+        }
+    }
+
+    private static long elapsedMillis(long start) {
+        return toMillis(System.nanoTime() - start);
+    }
+
+    private static long toMillis(long nanos) {
+        return TimeUnit.NANOSECONDS.toMillis(nanos);
+    }
+
+    private static final class Stores {
+        private final CooldownStore cooldowns = new CooldownStore(TimeSource.MONOTONIC);
+        private final PlayerCooldowns playerCooldowns = new PlayerCooldowns(TimeSource.MONOTONIC);
+        private final GameCooldownStore gameCooldowns = new GameCooldownStore();
+        private final Map<String, Long> gameTimeCooldowns = new HashMap<>();
+    }
+}
@@ -0,0 +1,141 @@
+package wiki.creeper.creeperTimeUtil.core;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 플레이 시간 샤드 파일 테스트 - 더하기/덮어쓰기, 퇴장 시 위치 캐시 비우기, 같은 샤드 일괄 추가, 손상된 레코드
+ */
+class PlayerTimeShardsTest {
+    private static final Logger LOGGER = Logger.getLogger(PlayerTimeShardsTest.class.getName());
+    private static final int HEADER_BYTES = 8;
+    private static final int RECORD_BYTES = 32;
+    private static final UUID PLAYER = new UUID(11, 12);
+
+    @TempDir
+    Path directory;
+
+    private PlayerTimeShards shards;
+
+    @AfterEach
+    void close() {
+        if (shards != null) {
+            shards.close();
+        }
+    }
+
+    @Test
+    void addAccumulatesAndPutOverwritesAcrossReopen() throws IOException {
+        shards = reopen();
+        assertFalse(shards.exists());
+        assertEquals(0, shards.read(PLAYER));
+        shards.update(Map.of(PLAYER, 1_000L), true, Collections.emptySet());
+        shards.update(Map.of(PLAYER, 500L), true, Collections.emptySet());
+
+        shards = reopen();
+        assertTrue(shards.exists());
+        assertEquals(1_500, shards.read(PLAYER));
+        shards.update(Map.of(PLAYER, 200L), false, Collections.emptySet());
+
+        shards = reopen();
+        assertEquals(200, shards.read(PLAYER));
+        shards.update(Map.of(PLAYER, -1_000L), true, Collections.emptySet()); // 0 아래로는 내려가지 않습니다
+
+        shards = reopen();
+        assertEquals(0, shards.read(PLAYER));
+    }
+
+    @Test
+    void releasedPlayerIsFoundAgainWithoutDuplicateRecord() throws IOException {
+        shards = reopen();
+        shards.read(PLAYER); // 접속 - 레코드가 아직 없음
+        shards.update(Map.of(PLAYER, 1_000L), true, Collections.emptySet());
+        long size = totalBytes();
+
+        shards.update(Map.of(PLAYER, 100L), true, Set.of(PLAYER)); // 퇴장 - 위치를 잊습니다
+        shards.update(Map.of(PLAYER, 10L), true, Collections.emptySet()); // 다시 찾아 같은 레코드에 더합니다
+        assertEquals(size, totalBytes());
+        assertEquals(1_110, shards.read(PLAYER));
+
+        shards = reopen();
+        assertEquals(1_110, shards.read(PLAYER));
+        assertEquals(Map.of(PLAYER, 1_110L), shards.readAll());
+    }
+
+    @Test
+    void manyNewPlayersInOneBatchGetTheirOwnRecords() throws IOException {
+        // 샤드가 256개이므로 1,000명이면 같은 샤드에 여러 명이 한 번에 새로 들어갑니다
+        Map<UUID, Long> values = new HashMap<>();
+        for (int i = 0; i < 1_000; i++) {
+            values.put(new UUID(i, ~i), (long) i + 1);
+        }
+        shards = reopen();
+        shards.update(values, true, values.keySet());
+
+        shards = reopen();
+        assertEquals(values, shards.readAll());
+        for (Map.Entry<UUID, Long> value : values.entrySet()) {
+            assertEquals((long) value.getValue(), shards.read(value.getKey()));
+        }
+        File[] files = shardDirectory().listFiles();
+        assertEquals(files.length * (long) HEADER_BYTES + values.size() * (long) RECORD_BYTES, totalBytes());
+    }
+
+    @Test
+    void corruptRecordReadsAsZeroAndIsRewrittenOnUpdate() throws IOException {
+        shards = reopen();
+        shards.update(Map.of(PLAYER, 1_000L), true, Set.of(PLAYER));
+        shards.close();
+        File[] files = shardDirectory().listFiles();
+        assertEquals(1, files.length);
+        try (RandomAccessFile raw = new RandomAccessFile(files[0], "rw")) {
+            raw.seek(HEADER_BYTES + 16); // 첫 레코드의 플레이 시간 - CRC가 맞지 않게 됩니다
+            raw.writeLong(123_456);
+        }
+
+        shards = reopen();
+        assertEquals(0, shards.read(PLAYER));
+        assertTrue(shards.readAll().isEmpty());
+        shards.update(Map.of(PLAYER, 500L), true, Collections.emptySet()); // 손상된 값은 더하지 않고 덮어씁니다
+
+        shards = reopen();
+        assertEquals(500, shards.read(PLAYER));
+        assertEquals(HEADER_BYTES + RECORD_BYTES, files[0].length());
+    }
+
+    private PlayerTimeShards reopen() {
+        if (shards != null) {
+            shards.close();
+        }
+        shards = new PlayerTimeShards(shardDirectory(), LOGGER);
+        return shards;
+    }
+
+    private File shardDirectory() {
+        return directory.resolve(PlayerTimeShards.DIRECTORY_NAME).toFile();
+    }
+
+    private long totalBytes() {
+        long total = 0;
+        for (File file : shardDirectory().listFiles()) {
+            total += file.length();
+        }
+        return total;
+    }
+}
@@ -0,0 +1,96 @@
+package wiki.creeper.creeperTimeUtil.core;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * GCRA 속도 제한 테스트 (ManualTimeSource로 시간을 직접 진행)
+ */
+class RateLimiterTest {
+    private final ManualTimeSource time = new ManualTimeSource(TimeUnit.HOURS.toNanos(1));
+    private final RateLimiter limiter = new RateLimiter(time);
+
+    @Test
+    void burstIsAllowedAtOnce() {
+        for (int i = 0; i < 10; i++) {
+            assertTrue(limiter.tryAcquire("chat", 1, 10), "요청 " + i);
+        }
+        assertFalse(limiter.tryAcquire("chat", 1, 10));
+    }
+
+    @Test
+    void tokensRefillAtTheConfiguredRate() {
+        assertTrue(limiter.tryAcquire("chat", 2, 1));
+        assertFalse(limiter.tryAcquire("chat", 2, 1));
+        time.advance(499, TimeUnit.MILLISECONDS);
+        assertFalse(limiter.tryAcquire("chat", 2, 1));
+        time.advance(1, TimeUnit.MILLISECONDS);
+        assertTrue(limiter.tryAcquire("chat", 2, 1));
+    }
+
+    @Test
+    void sustainedRateDoesNotExceedPermitsPerSecond() {
+        int allowed = 0;
+        for (int i = 0; i < 10_000; i++) {
+            if (limiter.tryAcquire("chat", 3, 1)) {
+                allowed++;
+            }
+            time.advance(1, TimeUnit.MILLISECONDS);
+        }
+        assertEquals(30, allowed);
+    }
+
+    @Test
+    void nonIntegralRateRoundsIntervalUp() {
+        int allowed = 0;
+        for (int i = 0; i < 1_000; i++) {
+            if (limiter.tryAcquire("chat", 3.5, 1)) {
+                allowed++;
+            }
+            time.advance(10, TimeUnit.MILLISECONDS);
+        }
+        assertTrue(allowed <= 35, "허용 " + allowed);
+    }
+
+    @Test
+    void tinyRateAndHugeBurstDoNotOverflow() {
+        // 간격과 burst × 간격이 long 최댓값에서 멈추므로, 넘쳐서 다시 허용되는 일이 없어야 합니다
+        assertTrue(limiter.tryAcquire("slow", 1e-12, Integer.MAX_VALUE));
+        assertFalse(limiter.tryAcquire("slow", 1e-12, Integer.MAX_VALUE));
+        time.advance(365, TimeUnit.DAYS);
+        assertFalse(limiter.tryAcquire("slow", 1e-12, Integer.MAX_VALUE));
+    }
+
+    @Test
+    void keysAreIndependentAndResetRefills() {
+        assertTrue(limiter.tryAcquire("a", 1, 1));
+        assertTrue(limiter.tryAcquire("b", 1, 1));
+        assertFalse(limiter.tryAcquire("a", 1, 1));
+        limiter.reset("a");
+        assertTrue(limiter.tryAcquire("a", 1, 1));
+    }
+
+    @Test
+    void sweepDropsOnlyFullBuckets() {
+        limiter.tryAcquire("idle", 1, 1);
+        limiter.tryAcquire("busy", 1, 10);
+        for (int i = 0; i < 9; i++) {
+            limiter.tryAcquire("busy", 1, 10);
+        }
+        time.advance(2, TimeUnit.SECONDS);
+        limiter.sweep();
+        assertEquals(1, limiter.size());
+    }
+
+    @Test
+    void invalidArgumentsAreRejected() {
+        assertThrows(IllegalArgumentException.class, () -> limiter.tryAcquire("chat", 0, 1));
+        assertThrows(IllegalArgumentException.class, () -> limiter.tryAcquire("chat", 1, 0));
+    }
+}
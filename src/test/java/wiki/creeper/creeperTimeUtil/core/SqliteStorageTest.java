@@ -0,0 +1,163 @@
+package wiki.creeper.creeperTimeUtil.core;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * SqliteStorage 왕복 테스트 (테스트 범위의 sqlite-jdbc 드라이버 사용)
+ */
+class SqliteStorageTest {
+    private static final Logger LOGGER = Logger.getLogger(SqliteStorageTest.class.getName());
+    private static final UUID ALICE = new UUID(1, 2);
+    private static final UUID BOB = new UUID(3, 4);
+
+    @TempDir
+    Path directory;
+
+    private final DataChannelBuffer io = new DataChannelBuffer(DataChannelBuffer.DEFAULT_CAPACITY);
+    private SqliteStorage storage;
+
+    @BeforeEach
+    void open() throws IOException {
+        storage = reopen();
+    }
+
+    @AfterEach
+    void close() {
+        storage.close();
+    }
+
+    @Test
+    void emptyDatabaseHasNoState() throws IOException {
+        assertNull(storage.loadState(io, new CooldownStore(TimeSource.MONOTONIC), new PlayerCooldowns(TimeSource.MONOTONIC),
+            new GameCooldownStore(), new HashMap<>()));
+        assertFalse(storage.hasPlayTimes());
+        assertEquals(0, storage.loadPlayTime(ALICE));
+    }
+
+    @Test
+    void stateRoundTrips() throws IOException {
+        CooldownStore cooldowns = new CooldownStore(TimeSource.MONOTONIC);
+        PlayerCooldowns playerCooldowns = new PlayerCooldowns(TimeSource.MONOTONIC);
+        GameCooldownStore gameCooldowns = new GameCooldownStore();
+        Map<String, Long> gameTimeCooldowns = new HashMap<>();
+        CooldownType skill = CooldownType.of("sqlite-test-skill");
+        cooldowns.set("item", TimeUnit.MINUTES.toNanos(10), null);
+        playerCooldowns.set(ALICE, skill, TimeUnit.MINUTES.toNanos(5), null);
+        gameCooldowns.set(GameCooldownStore.SERVER_SCOPE, "boss", 1_500);
+        gameTimeCooldowns.put("quest", 1_200L);
+
+        storage.saveState(io, TimeDataFile.capture(1_440, 7, cooldowns, playerCooldowns, gameCooldowns, gameTimeCooldowns));
+        storage.close();
+        storage = reopen(); // 다시 연 연결에서도 보여야 합니다 (커밋 확인)
+
+        CooldownStore loadedCooldowns = new CooldownStore(TimeSource.MONOTONIC);
+        PlayerCooldowns loadedPlayerCooldowns = new PlayerCooldowns(TimeSource.MONOTONIC);
+        GameCooldownStore loadedGameCooldowns = new GameCooldownStore();
+        Map<String, Long> loadedGameTimeCooldowns = new HashMap<>();
+        TimeDataFile.LoadResult result = storage.loadState(io, loadedCooldowns, loadedPlayerCooldowns,
+            loadedGameCooldowns, loadedGameTimeCooldowns);
+
+        assertNotNull(result);
+        assertEquals(1_440, result.totalMinutes);
+        assertEquals(7, result.journalGeneration);
+        assertTrue(loadedCooldowns.remainingNanos("item") > TimeUnit.MINUTES.toNanos(9));
+        assertTrue(loadedPlayerCooldowns.remainingNanos(ALICE, skill) > TimeUnit.MINUTES.toNanos(4));
+        assertEquals(Map.of("boss", 1_500L), loadedGameCooldowns.scopes().get(GameCooldownStore.SERVER_SCOPE));
+        assertEquals(Map.of("quest", 1_200L), loadedGameTimeCooldowns);
+    }
+
+    @Test
+    void saveStateReplacesPreviousState() throws IOException {
+        CooldownStore cooldowns = new CooldownStore(TimeSource.MONOTONIC);
+        cooldowns.set("old", TimeUnit.MINUTES.toNanos(10), null);
+        storage.saveState(io, capture(100, cooldowns));
+        cooldowns.remove("old");
+        cooldowns.set("new", TimeUnit.MINUTES.toNanos(10), null);
+        storage.saveState(io, capture(200, cooldowns));
+
+        CooldownStore loaded = new CooldownStore(TimeSource.MONOTONIC);
+        TimeDataFile.LoadResult result = storage.loadState(io, loaded, new PlayerCooldowns(TimeSource.MONOTONIC),
+            new GameCooldownStore(), new HashMap<>());
+        assertEquals(200, result.totalMinutes);
+        assertEquals(1, loaded.size());
+        assertEquals(0, loaded.remainingNanos("old"));
+    }
+
+    @Test
+    void addPlayTimesAccumulatesAndClampsAtZero() throws IOException {
+        storage.addPlayTimes(Map.of(ALICE, 1_000L, BOB, 500L), Collections.emptySet());
+        storage.addPlayTimes(Map.of(ALICE, 250L), Set.of(ALICE));
+        storage.addPlayTimes(Map.of(BOB, -800L), Collections.emptySet());
+
+        assertTrue(storage.hasPlayTimes());
+        assertEquals(1_250, storage.loadPlayTime(ALICE));
+        assertEquals(0, storage.loadPlayTime(BOB));
+
+        // 퇴장 처리(released) 뒤에도 다음 접속에서 누적이 이어집니다
+        storage.addPlayTimes(Map.of(ALICE, 50L), Collections.emptySet());
+        assertEquals(1_300, storage.loadPlayTime(ALICE));
+    }
+
+    @Test
+    void putPlayTimesOverwrites() throws IOException {
+        storage.addPlayTimes(Map.of(ALICE, 1_000L), Collections.emptySet());
+        storage.putPlayTimes(Map.of(ALICE, 10L, BOB, 20L));
+        storage.close();
+        storage = reopen();
+
+        assertEquals(10, storage.loadPlayTime(ALICE));
+        assertEquals(20, storage.loadPlayTime(BOB));
+    }
+
+    @Test
+    void flatFilePlayTimesMoveIntoSqlite() throws IOException {
+        File dataFolder = directory.resolve("flat").toFile();
+        FlatFileStorage flat = new FlatFileStorage(dataFolder, LOGGER);
+        Map<UUID, Long> players = new HashMap<>();
+        for (int i = 0; i < 1_000; i++) {
+            players.put(new UUID(i, i * 31L), (long) i * 1_000);
+        }
+        flat.addPlayTimes(players, players.keySet());
+        flat.close();
+
+        FlatFileStorage previous = new FlatFileStorage(dataFolder, LOGGER);
+        assertTrue(previous.hasPlayTimes());
+        storage.putPlayTimes(previous.loadAllPlayTimes());
+        previous.close();
+
+        for (Map.Entry<UUID, Long> player : players.entrySet()) {
+            assertEquals((long) player.getValue(), storage.loadPlayTime(player.getKey()));
+        }
+    }
+
+    private SqliteStorage reopen() throws IOException {
+        SqliteStorage opened = new SqliteStorage(directory.resolve("timedata.db").toFile(), LOGGER);
+        opened.open();
+        return opened;
+    }
+
+    private static TimeDataFile.Snapshot capture(long totalMinutes, CooldownStore cooldowns) {
+        return TimeDataFile.capture(totalMinutes, 0, cooldowns, new PlayerCooldowns(TimeSource.MONOTONIC),
+            new GameCooldownStore(), new HashMap<>());
+    }
+}
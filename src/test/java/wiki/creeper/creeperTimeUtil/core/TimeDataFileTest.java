@@ -0,0 +1,201 @@
+package wiki.creeper.creeperTimeUtil.core;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * timedata.dat 형식 왕복 테스트 - 현재 버전(4)과 이전 버전(1~3, MAGIC 없는 형식) 읽기
+ */
+class TimeDataFileTest {
+    private static final long TOTAL_MINUTES = 10_000;
+    private static final long GENERATION = 42;
+    private static final UUID PLAYER = new UUID(5, 6);
+    private static final CooldownType SKILL = CooldownType.of("data-file-test-skill");
+
+    @TempDir
+    Path directory;
+
+    private final DataChannelBuffer io = new DataChannelBuffer(DataChannelBuffer.DEFAULT_CAPACITY);
+    private final CooldownStore cooldowns = new CooldownStore(TimeSource.MONOTONIC);
+    private final PlayerCooldowns playerCooldowns = new PlayerCooldowns(TimeSource.MONOTONIC);
+    private final GameCooldownStore gameCooldowns = new GameCooldownStore();
+    private final Map<String, Long> gameTimeCooldowns = new HashMap<>();
+
+    @Test
+    void currentVersionRoundTripsThroughFile() throws IOException {
+        CooldownStore sourceCooldowns = new CooldownStore(TimeSource.MONOTONIC);
+        PlayerCooldowns sourcePlayerCooldowns = new PlayerCooldowns(TimeSource.MONOTONIC);
+        GameCooldownStore sourceGameCooldowns = new GameCooldownStore();
+        Map<String, Long> sourceGameTimeCooldowns = new HashMap<>();
+        sourceCooldowns.set("item", TimeUnit.MINUTES.toNanos(10), null);
+        sourcePlayerCooldowns.set(PLAYER, SKILL, TimeUnit.MINUTES.toNanos(5), null);
+        sourceGameCooldowns.set(GameCooldownStore.SERVER_SCOPE, "boss", 1_500);
+        sourceGameTimeCooldowns.put("quest", TOTAL_MINUTES - 200);
+        File file = directory.resolve("timedata.dat").toFile();
+
+        TimeDataFile.writeAtomically(file, io, TimeDataFile.capture(TOTAL_MINUTES, GENERATION,
+            sourceCooldowns, sourcePlayerCooldowns, sourceGameCooldowns, sourceGameTimeCooldowns));
+        TimeDataFile.LoadResult result = TimeDataFile.read(file, io, cooldowns, playerCooldowns, gameCooldowns, gameTimeCooldowns);
+
+        assertEquals(GENERATION, result.journalGeneration);
+        assertLoaded(result, true);
+    }
+
+    @Test
+    void version4Decodes() throws IOException {
+        assertEquals(GENERATION, decode(craft(4)).journalGeneration);
+        assertLoaded(decode(craft(4)), true);
+    }
+
+    @Test
+    void version3HasNoJournalGeneration() throws IOException {
+        TimeDataFile.LoadResult result = decode(craft(3));
+        assertEquals(0, result.journalGeneration);
+        assertLoaded(result, true);
+    }
+
+    @Test
+    void version2HasNoChecksum() throws IOException {
+        assertLoaded(decode(craft(2)), true);
+    }
+
+    @Test
+    void version1HasNoScopedGameCooldowns() throws IOException {
+        assertLoaded(decode(craft(1)), false);
+    }
+
+    @Test
+    void legacyFormatKeepsOnlyStartedGameTimeCooldowns() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeLong(TOTAL_MINUTES);
+            out.writeInt(2);
+            out.writeUTF("quest");
+            out.writeLong(TOTAL_MINUTES - 200);
+            out.writeUTF("future");
+            out.writeLong(TOTAL_MINUTES + 1);
+        }
+        File file = directory.resolve("legacy.dat").toFile();
+        Files.write(file.toPath(), bytes.toByteArray());
+
+        TimeDataFile.LoadResult result = TimeDataFile.read(file, io, cooldowns, playerCooldowns, gameCooldowns, gameTimeCooldowns);
+
+        assertEquals(TOTAL_MINUTES, result.totalMinutes);
+        assertEquals(Map.of("quest", TOTAL_MINUTES - 200), gameTimeCooldowns);
+    }
+
+    @Test
+    void checksumMismatchFailsAndLeavesStoresEmpty() {
+        byte[] data = craft(4);
+        data[data.length - 1] ^= 1;
+
+        assertThrows(IOException.class, () -> decode(data));
+        assertEquals(0, cooldowns.size());
+        assertEquals(0, playerCooldowns.playerCount());
+        assertEquals(0, gameCooldowns.size());
+        assertTrue(gameTimeCooldowns.isEmpty());
+    }
+
+    @Test
+    void typeRegisteredDuringSnapshotIsWrittenWithItsName() throws Exception {
+        PlayerCooldowns source = new PlayerCooldowns(TimeSource.MONOTONIC);
+        for (int i = 0; i < 20_000; i++) {
+            source.set(new UUID(i, i), SKILL, TimeUnit.MINUTES.toNanos(5), null);
+        }
+        // 스냅샷이 플레이어 쿨타임을 훑는 동안 다른 스레드가 새 종류를 등록해 바로 씁니다 (자동 저장은 비동기)
+        AtomicBoolean running = new AtomicBoolean(true);
+        Thread registrar = new Thread(() -> {
+            for (int i = 0; running.get(); i++) {
+                CooldownType fresh = CooldownType.of("data-file-test-fresh-" + i);
+                source.set(new UUID(-1, i), fresh, TimeUnit.MINUTES.toNanos(5), null);
+                source.clear(new UUID(-1, i - 64)); // 최근 몇 명만 남겨 메모리를 일정하게 둡니다
+            }
+        });
+        registrar.start();
+        try {
+            for (int round = 0; round < 20; round++) {
+                TimeDataFile.Snapshot snapshot = TimeDataFile.capture(TOTAL_MINUTES, 0, new CooldownStore(TimeSource.MONOTONIC),
+                    source, new GameCooldownStore(), new HashMap<>());
+                PlayerCooldowns loaded = new PlayerCooldowns(TimeSource.MONOTONIC);
+                TimeDataFile.decode(TimeDataFile.encode(io, snapshot), io, new CooldownStore(TimeSource.MONOTONIC),
+                    loaded, new GameCooldownStore(), new HashMap<>());
+                assertTrue(loaded.remainingNanos(new UUID(0, 0), SKILL) > 0);
+            }
+        } finally {
+            running.set(false);
+            registrar.join();
+        }
+    }
+
+    private TimeDataFile.LoadResult decode(byte[] data) throws IOException {
+        return TimeDataFile.decode(data, io, cooldowns, playerCooldowns, gameCooldowns, gameTimeCooldowns);
+    }
+
+    private void assertLoaded(TimeDataFile.LoadResult result, boolean scoped) {
+        assertEquals(TOTAL_MINUTES, result.totalMinutes);
+        assertTrue(cooldowns.remainingNanos("item") > TimeUnit.MINUTES.toNanos(9));
+        assertTrue(playerCooldowns.remainingNanos(PLAYER, SKILL) > TimeUnit.MINUTES.toNanos(4));
+        assertEquals(Map.of("quest", TOTAL_MINUTES - 200), gameTimeCooldowns);
+        assertEquals(scoped ? 1 : 0, gameCooldowns.size());
+        if (scoped) {
+            assertEquals(Map.of("boss", 1_500L), gameCooldowns.scopes().get(GameCooldownStore.SERVER_SCOPE));
+        }
+    }
+
+    // 주어진 버전의 형식대로 같은 내용을 직접 씁니다 (클래스 설명의 형식 표 참고)
+    private byte[] craft(int version) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try {
+            io.beginWrite(Channels.newChannel(out));
+            io.putInt(TimeDataFile.MAGIC);
+            io.putVarLong(version);
+            io.putLong(System.currentTimeMillis());
+            io.putVarLong(TOTAL_MINUTES);
+            if (version >= 4) {
+                io.putVarLong(GENERATION);
+            }
+            io.putVarLong(1);
+            io.putVarLong(TimeUnit.MINUTES.toMillis(10));
+            io.putString("item");
+            io.putVarLong(1);
+            io.putString(SKILL.getName());
+            io.putVarLong(1);
+            io.putLong(PLAYER.getMostSignificantBits());
+            io.putLong(PLAYER.getLeastSignificantBits());
+            io.putVarLong(1);
+            io.putVarLong(0);
+            io.putVarLong(TimeUnit.MINUTES.toMillis(5));
+            io.putVarLong(1);
+            io.putString("quest");
+            io.putVarLong(200 << 1); // zigzag(200)
+            if (version >= 2) {
+                io.putVarLong(1);
+                io.putString(GameCooldownStore.SERVER_SCOPE);
+                io.putVarLong(1);
+                io.putString("boss");
+                io.putVarLong(1_500 << 1); // zigzag(1500)
+            }
+            io.endWrite(version >= 3);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,113 @@
+package wiki.creeper.creeperTimeUtil.core;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 저널 재생 테스트 - 쓰다 끊긴 꼬리는 마지막 묶음만 버리고 앞의 묶음과 다음 세대는 그대로 재생합니다
+ */
+class TimeJournalTest {
+    private static final Logger LOGGER = Logger.getLogger(TimeJournalTest.class.getName());
+
+    @TempDir
+    Path directory;
+
+    private final CooldownStore cooldowns = new CooldownStore(TimeSource.MONOTONIC);
+    private final PlayerCooldowns playerCooldowns = new PlayerCooldowns(TimeSource.MONOTONIC);
+    private final GameCooldownStore gameCooldowns = new GameCooldownStore();
+    private final Map<String, Long> gameTimeCooldowns = new HashMap<>();
+
+    @Test
+    void replaysEveryCommittedBatch() throws Exception {
+        writeTwoBatches();
+
+        TimeJournal.ClockRecord clock = replay(0);
+        assertEquals(200, clock.totalMinutes);
+        assertTrue(cooldowns.remainingNanos("first") > 0);
+        assertTrue(cooldowns.remainingNanos("second") > 0);
+        assertEquals(Map.of("boss", 1_500L), gameCooldowns.scopes().get(GameCooldownStore.SERVER_SCOPE));
+    }
+
+    @Test
+    void truncatedTailDropsOnlyTheLastBatch() throws Exception {
+        File file = writeTwoBatches();
+        try (RandomAccessFile raw = new RandomAccessFile(file, "rw")) {
+            raw.setLength(raw.length() - 3);
+        }
+
+        TimeJournal.ClockRecord clock = replay(0);
+        assertEquals(100, clock.totalMinutes);
+        assertTrue(cooldowns.remainingNanos("first") > 0);
+        assertEquals(0, cooldowns.remainingNanos("second"));
+        assertEquals(0, gameCooldowns.size());
+    }
+
+    @Test
+    void corruptedTailDropsOnlyTheLastBatch() throws Exception {
+        File file = writeTwoBatches();
+        try (RandomAccessFile raw = new RandomAccessFile(file, "rw")) {
+            raw.seek(raw.length() - 1);
+            int last = raw.read();
+            raw.seek(raw.length() - 1);
+            raw.write(last ^ 0xFF);
+        }
+
+        TimeJournal.ClockRecord clock = replay(0);
+        assertEquals(100, clock.totalMinutes);
+        assertTrue(cooldowns.remainingNanos("first") > 0);
+        assertEquals(0, cooldowns.remainingNanos("second"));
+    }
+
+    @Test
+    void olderGenerationsAreSkipped() throws Exception {
+        TimeJournal journal = new TimeJournal(directory.toFile(), LOGGER);
+        journal.open(0);
+        journal.set("old", System.currentTimeMillis() + TimeUnit.MINUTES.toMillis(10));
+        long next = journal.rotate();
+        journal.set("new", System.currentTimeMillis() + TimeUnit.MINUTES.toMillis(10));
+        journal.close();
+
+        replay(next);
+        assertEquals(0, cooldowns.remainingNanos("old"));
+        assertTrue(cooldowns.remainingNanos("new") > 0);
+    }
+
+    // 세대 0 파일에 묶음 두 개를 씁니다 - 첫 묶음이 파일에 닿은 것을 확인한 뒤 두 번째를 넣습니다
+    private File writeTwoBatches() throws Exception {
+        File file = new File(directory.toFile(), TimeJournal.FILE_PREFIX + 0);
+        TimeJournal journal = new TimeJournal(directory.toFile(), LOGGER);
+        journal.configure(true, 1, Long.MAX_VALUE);
+        journal.open(0);
+        journal.clock(100);
+        journal.set("first", System.currentTimeMillis() + TimeUnit.MINUTES.toMillis(10));
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (file.length() <= 4) {
+            assertTrue(System.nanoTime() - deadline < 0, "첫 묶음이 기록되지 않았습니다");
+            Thread.sleep(1);
+        }
+        long firstBatchEnd = file.length();
+        journal.clock(200);
+        journal.set("second", System.currentTimeMillis() + TimeUnit.MINUTES.toMillis(10));
+        journal.setGame(GameCooldownStore.SERVER_SCOPE, "boss", 1_500);
+        journal.close();
+        assertTrue(file.length() > firstBatchEnd);
+        return file;
+    }
+
+    private TimeJournal.ClockRecord replay(long fromGeneration) throws IOException {
+        return new TimeJournal(directory.toFile(), LOGGER)
+            .replay(fromGeneration, cooldowns, playerCooldowns, gameCooldowns, gameTimeCooldowns);
+    }
+}
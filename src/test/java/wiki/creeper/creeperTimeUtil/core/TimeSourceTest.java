@@ -0,0 +1,66 @@
+package wiki.creeper.creeperTimeUtil.core;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 시계 구현 테스트 - 틱 단위 캐시(TickTimeSource)와 직접 진행하는 시계(ManualTimeSource)
+ */
+class TimeSourceTest {
+
+    @Test
+    void tickTimeSourceHoldsValueUntilNextTick() throws InterruptedException {
+        TickTimeSource source = new TickTimeSource();
+        long first = source.nanoTime();
+        Thread.sleep(5);
+        assertEquals(first, source.nanoTime());
+
+        source.tick();
+        assertTrue(source.nanoTime() - first >= TimeUnit.MILLISECONDS.toNanos(5));
+    }
+
+    @Test
+    void cooldownOnTickTimeSourceExpiresOnlyAfterTick() throws InterruptedException {
+        TickTimeSource source = new TickTimeSource();
+        CooldownStore store = new CooldownStore(source);
+        store.set("item", TimeUnit.MILLISECONDS.toNanos(1), null);
+        Thread.sleep(5);
+        assertFalse(store.isOver("item"));
+
+        source.tick();
+        assertTrue(store.isOver("item"));
+    }
+
+    @Test
+    void manualTimeSourceMovesOnlyWhenTold() {
+        ManualTimeSource source = new ManualTimeSource();
+        assertEquals(0, source.nanoTime());
+        source.advance(3, TimeUnit.SECONDS);
+        assertEquals(TimeUnit.SECONDS.toNanos(3), source.nanoTime());
+        source.set(-10);
+        assertEquals(-10, source.nanoTime());
+    }
+
+    @Test
+    void manualTimeSourceDrivesPlayerCooldownExpiry() {
+        // 시작 값이 음수이거나 넘칠 만큼 커도 차이로만 비교하므로 결과가 같아야 합니다
+        for (long start : new long[] {0, -TimeUnit.DAYS.toNanos(1), Long.MAX_VALUE - TimeUnit.SECONDS.toNanos(1)}) {
+            ManualTimeSource source = new ManualTimeSource(start);
+            PlayerCooldowns cooldowns = new PlayerCooldowns(source);
+            UUID player = new UUID(1, 1);
+            CooldownType type = CooldownType.of("time-source-test");
+            cooldowns.set(player, type, TimeUnit.SECONDS.toNanos(10), null);
+
+            source.advance(9_999, TimeUnit.MILLISECONDS);
+            assertEquals(TimeUnit.MILLISECONDS.toNanos(1), cooldowns.remainingNanos(player, type));
+            source.advance(1, TimeUnit.MILLISECONDS);
+            assertEquals(0, cooldowns.remainingNanos(player, type));
+        }
+    }
+}